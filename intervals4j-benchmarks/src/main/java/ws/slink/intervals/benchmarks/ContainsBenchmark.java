@@ -0,0 +1,74 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.PackedInterval;
+import ws.slink.intervals.ShiftedDay;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * `contains` on `CustomInterval` vs `ShiftedInterval` (and packed intervals)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsBenchmark {
+
+    private Interval custom;
+    private Interval shifted;
+    private long packed;
+    private Instant instant;
+    private long epochMilli;
+
+    @Setup
+    public void setup() {
+        Day day = IntervalBuilder.day(2023, 10, 15, Zones.BERLIN, 3);
+        custom = new IntervalBuilder().zoneId(Zones.BERLIN).start(day.getStart()).end(day.getEnd()).build();
+        shifted = ShiftedDay.of(day, "-P1D");
+        packed = PackedInterval.encode(day);
+        instant = day.start().plusSeconds(3600);
+        epochMilli = instant.toEpochMilli();
+    }
+
+    @Benchmark
+    public boolean customInstant() {
+        return custom.contains(instant);
+    }
+
+    @Benchmark
+    public boolean customEpochMilli() {
+        return custom.contains(epochMilli);
+    }
+
+    @Benchmark
+    public boolean shiftedInstant() {
+        return shifted.contains(instant);
+    }
+
+    @Benchmark
+    public boolean shiftedEpochMilli() {
+        return shifted.contains(epochMilli);
+    }
+
+    @Benchmark
+    public boolean packedEpochMilli() {
+        return PackedInterval.contains(packed, epochMilli);
+    }
+
+}
@@ -0,0 +1,73 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * `IntervalBuilder.year` / `month` / `day` factories and timestamp lookups across timezones
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    @Param({"UTC", "Asia/Vladivostok", "Europe/Berlin", "America/New_York"})
+    public String timezone;
+
+    @Param({"0", "10"})
+    public int offset;
+
+    private ZoneId zone;
+    private long timestamp;
+
+    @Setup
+    public void setup() {
+        zone = ZoneId.of(timezone);
+        timestamp = 1_697_360_400_000L;
+    }
+
+    @Benchmark
+    public Year year() {
+        return IntervalBuilder.year(2023, timezone, offset);
+    }
+
+    @Benchmark
+    public Month month() {
+        return IntervalBuilder.month(2023, 10, timezone, offset);
+    }
+
+    @Benchmark
+    public Day day() {
+        return IntervalBuilder.day(2023, 10, 15, timezone, offset);
+    }
+
+    @Benchmark
+    public Day dayOfZoneId() {
+        return IntervalBuilder.day(2023, 10, 15, zone, offset);
+    }
+
+    @Benchmark
+    public Day dayOfEpochMilli() {
+        return Day.of(timestamp, zone, offset);
+    }
+
+}
@@ -0,0 +1,65 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Grid;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bucketing timestamps into 5-minute buckets: `Grid.indexOf` vs truncating `ZonedDateTime`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridBenchmark {
+
+    private static final long STEP_MINUTES = 5;
+
+    private Grid grid;
+    private long base;
+    private long epochMilli;
+
+    @Setup
+    public void setup() {
+        grid = Grid.of(Duration.ofMinutes(STEP_MINUTES), Zones.BERLIN, 3);
+        base = Instant.parse("2023-10-15T10:00:00Z").toEpochMilli();
+        epochMilli = base;
+    }
+
+    // events arrive within the same day
+    private long nextEpochMilli() {
+        epochMilli = base + (epochMilli - base + 7_919) % 3_600_000;
+        return epochMilli;
+    }
+
+    @Benchmark
+    public long gridIndexOf() {
+        return grid.indexOf(nextEpochMilli());
+    }
+
+    @Benchmark
+    public long zonedTruncate() {
+        ZonedDateTime value = Instant.ofEpochMilli(nextEpochMilli()).atZone(Zones.BERLIN);
+        LocalDateTime local = value.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES);
+        local = local.withMinute((int) (local.getMinute() / STEP_MINUTES * STEP_MINUTES));
+        return local.atZone(Zones.BERLIN).toEpochSecond();
+    }
+
+}
@@ -0,0 +1,95 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalIndex;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * stabbing queries: `IntervalIndex` vs linear scan over `Interval.contains`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalIndexBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Interval[] intervals;
+    private IntervalIndex<Integer> index;
+    private long[] timestamps;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        intervals = new Interval[size];
+        IntervalIndex.Builder<Integer> builder = IntervalIndex.<Integer>builder().parallel(true);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(365 * 24 * 60));
+            intervals[i] = new IntervalBuilder().start(start).end(start.plusMinutes(random.nextInt(24 * 60))).build();
+            builder.add(intervals[i], i);
+        }
+        index = builder.build();
+        timestamps = new long[1024];
+        long base = BASE.toInstant(ZoneOffset.UTC).toEpochMilli();
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = base + (long) (random.nextDouble() * 365 * 86_400_000L);
+        }
+    }
+
+    @Benchmark
+    public int index(Blackhole blackhole) {
+        return index.query(timestamp(), blackhole::consume);
+    }
+
+    @Benchmark
+    public int linearScan(Blackhole blackhole) {
+        long timestamp = timestamp();
+        int count = 0;
+        for (int i = 0; i < intervals.length; i++) {
+            if (intervals[i].contains(timestamp)) {
+                blackhole.consume(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public IntervalIndex<Integer> build() {
+        IntervalIndex.Builder<Integer> builder = IntervalIndex.<Integer>builder().parallel(true);
+        for (int i = 0; i < intervals.length; i++) {
+            builder.add(intervals[i], i);
+        }
+        return builder.build();
+    }
+
+    private long timestamp() {
+        next = (next + 1) & (timestamps.length - 1);
+        return timestamps[next];
+    }
+
+}
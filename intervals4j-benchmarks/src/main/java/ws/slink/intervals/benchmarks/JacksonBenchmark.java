@@ -0,0 +1,65 @@
+package ws.slink.intervals.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.jackson.IntervalDeserializer;
+import ws.slink.intervals.jackson.IntervalSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialize / deserialize round trips
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    private ObjectMapper mapper;
+    private Interval interval;
+    private String json;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        mapper = new ObjectMapper();
+        mapper.registerModule(
+            new SimpleModule()
+                .addSerializer(Interval.class, new IntervalSerializer())
+                .addDeserializer(Interval.class, new IntervalDeserializer())
+        );
+        interval = IntervalBuilder.month(2023, 10, Zones.VLADIVOSTOK, 3);
+        json = mapper.writeValueAsString(interval);
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return mapper.writeValueAsString(interval);
+    }
+
+    @Benchmark
+    public Interval deserialize() throws JsonProcessingException {
+        return mapper.readValue(json, Interval.class);
+    }
+
+    @Benchmark
+    public Interval roundTrip() throws JsonProcessingException {
+        return mapper.readValue(mapper.writeValueAsString(interval), Interval.class);
+    }
+
+}
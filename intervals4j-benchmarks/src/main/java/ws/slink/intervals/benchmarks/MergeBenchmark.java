@@ -0,0 +1,76 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalMerger;
+import ws.slink.intervals.IntervalSet;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * coalescing overlapping sessions: `IntervalMerger` vs sort-and-merge on `LocalDateTime` bounds
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<Interval> sessions;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        sessions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = BASE.plusSeconds(random.nextInt(365 * 86400));
+            sessions.add(new IntervalBuilder().start(start).end(start.plusSeconds(random.nextInt(3600))).build());
+        }
+    }
+
+    @Benchmark
+    public IntervalSet merger() {
+        return IntervalMerger.merge(sessions);
+    }
+
+    @Benchmark
+    public int localDateTimeMerge() {
+        List<Interval> sorted = new ArrayList<>(sessions);
+        sorted.sort(Comparator.comparing(Interval::getStart));
+        int count = 0;
+        LocalDateTime end = null;
+        for (Interval interval : sorted) {
+            if (end == null || interval.getStart().isAfter(end.plusNanos(1))) {
+                count++;
+                end = interval.getEnd();
+            } else if (interval.getEnd().isAfter(end)) {
+                end = interval.getEnd();
+            }
+        }
+        return count;
+    }
+
+}
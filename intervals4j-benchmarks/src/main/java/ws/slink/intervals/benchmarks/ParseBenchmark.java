@@ -0,0 +1,47 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.ParseResult;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * `IntervalBuilder.parse` / `tryParse` on year, month and day strings, valid and invalid
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+    @Param({"2023", "2023-10", "2023-10-15", "2023-1", "2023-10-51", "20x3-10-15"})
+    public String input;
+
+    @Benchmark
+    public Interval parse() {
+        try {
+            return IntervalBuilder.parse(input, "Asia/Vladivostok", 3);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public ParseResult tryParse() {
+        return IntervalBuilder.tryParse(input, Zones.VLADIVOSTOK, 3);
+    }
+
+}
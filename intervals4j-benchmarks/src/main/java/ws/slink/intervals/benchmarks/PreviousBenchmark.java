@@ -0,0 +1,104 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.PackedInterval;
+import ws.slink.intervals.ShiftedDay;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * `previous()` / `next()` / `withPrevious()` chains
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PreviousBenchmark {
+
+    @Param({"1", "30"})
+    public int length;
+
+    private Interval day;
+    private Interval month;
+    private Interval shifted;
+    private long packed;
+
+    @Setup
+    public void setup() {
+        day = IntervalBuilder.day(2023, 10, 15, Zones.VLADIVOSTOK, 3);
+        month = IntervalBuilder.month(2023, 10, Zones.VLADIVOSTOK, 3);
+        shifted = ShiftedDay.of(IntervalBuilder.day(2023, 10, 15, Zones.VLADIVOSTOK, 3), "PT12H");
+        packed = PackedInterval.encode(day);
+    }
+
+    @Benchmark
+    public Interval dayPrevious() {
+        return previous(day);
+    }
+
+    @Benchmark
+    public Interval dayNext() {
+        Interval result = day;
+        for (int i = 0; i < length; i++) {
+            result = result.next();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Day dayPlus() {
+        return ((Day) day).plus(length);
+    }
+
+    @Benchmark
+    public Interval monthPrevious() {
+        return previous(month);
+    }
+
+    @Benchmark
+    public Interval shiftedPrevious() {
+        return previous(shifted);
+    }
+
+    @Benchmark
+    public long packedPrevious() {
+        long result = packed;
+        for (int i = 0; i < length; i++) {
+            result = PackedInterval.previous(result);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Interval dayWithPrevious() {
+        Interval result = day;
+        for (int i = 0; i < length; i++) {
+            result = result.previous();
+        }
+        return result.withPrevious();
+    }
+
+    private Interval previous(Interval interval) {
+        Interval result = interval;
+        for (int i = 0; i < length; i++) {
+            result = result.previous();
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,70 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.LongTimeSeriesAggregate;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.TimeSeriesAggregate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * monthly sum over a year of 1-minute buckets: `LongTimeSeriesAggregate.sum` vs scanning bucket array
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSeriesAggregateBenchmark {
+
+    private static final int BUCKETS = 365 * 1440;
+    private static final long MINUTE = 60_000L;
+
+    private LongTimeSeriesAggregate series;
+    private long[] values;
+    private long origin;
+    private Month month;
+
+    @Setup
+    public void setup() {
+        Instant start = Instant.parse("2023-01-01T00:00:00Z");
+        origin = start.toEpochMilli();
+        series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), start);
+        values = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            series.add(origin + i * MINUTE, i % 97);
+            values[i] = i % 97;
+        }
+        month = IntervalBuilder.month(2023, 6, Zones.BERLIN);
+    }
+
+    @Benchmark
+    public long aggregateSum() {
+        return series.sum(month);
+    }
+
+    @Benchmark
+    public long arrayScan() {
+        int from = (int) ((month.start().toEpochMilli() - origin) / MINUTE);
+        int to = (int) ((month.end().toEpochMilli() - origin) / MINUTE);
+        long result = 0;
+        for (int i = from; i <= to; i++) {
+            result += values[i];
+        }
+        return result;
+    }
+
+}
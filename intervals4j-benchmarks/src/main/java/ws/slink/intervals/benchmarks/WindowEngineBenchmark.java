@@ -0,0 +1,65 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.Grid;
+import ws.slink.intervals.WindowEngine;
+import ws.slink.intervals.Windows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * event throughput of `WindowEngine`: tumbling 5-minute windows and hopping 7-day windows
+ * (events advance by ~10 ms, so windows are fired and purged along the way)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindowEngineBenchmark {
+
+    private WindowEngine tumbling;
+    private WindowEngine hopping;
+    private long epochMilli;
+    private long sink;
+
+    @Setup
+    public void setup() {
+        tumbling = WindowEngine.of(Windows.grid(Grid.of(Duration.ofMinutes(5), Zones.BERLIN)),
+            Duration.ofSeconds(5), Duration.ofSeconds(30), (window, count, sum, min, max, late) -> sink += sum);
+        hopping = WindowEngine.of(Windows.days(Zones.BERLIN, 0).hopping(7),
+            Duration.ofSeconds(5), Duration.ZERO, (window, count, sum, min, max, late) -> sink += sum);
+        epochMilli = Instant.parse("2023-10-15T10:00:00Z").toEpochMilli();
+    }
+
+    // ordered events, timestamps truncated to ~1 second
+    private long nextEpochMilli() {
+        epochMilli += 10;
+        return epochMilli - (epochMilli & 0x3FF);
+    }
+
+    @Benchmark
+    public long tumblingGrid() {
+        tumbling.accept(nextEpochMilli(), 1);
+        return sink;
+    }
+
+    @Benchmark
+    public long hoppingDays() {
+        hopping.accept(nextEpochMilli(), 1);
+        return sink;
+    }
+
+}
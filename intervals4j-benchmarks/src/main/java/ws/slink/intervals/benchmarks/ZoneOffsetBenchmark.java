@@ -0,0 +1,74 @@
+package ws.slink.intervals.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ws.slink.intervals.tools.ZoneOffsetTable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * local <-> epoch conversions: `ZoneOffsetTable` vs `ZoneRules` / `LocalDateTime.atZone`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZoneOffsetBenchmark {
+
+    @Param({"UTC", "Asia/Vladivostok", "Europe/Berlin", "America/New_York"})
+    public String timezone;
+
+    private ZoneId zone;
+    private ZoneRules rules;
+    private ZoneOffsetTable table;
+    private LocalDateTime local;
+    private long localSecond;
+    private long epochSecond;
+
+    @Setup
+    public void setup() {
+        zone = ZoneId.of(timezone);
+        rules = zone.getRules();
+        table = ZoneOffsetTable.of(zone);
+        local = LocalDateTime.of(2023, 10, 15, 3, 0);
+        localSecond = local.toEpochSecond(ZoneOffset.UTC);
+        epochSecond = local.atZone(zone).toEpochSecond();
+    }
+
+    @Benchmark
+    public long toEpochSecondAtZone() {
+        return local.atZone(zone).toEpochSecond();
+    }
+
+    @Benchmark
+    public long toEpochSecondTable() {
+        return table.toEpochSecond(localSecond);
+    }
+
+    @Benchmark
+    public int offsetAtZoneRules() {
+        return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    @Benchmark
+    public int offsetAtTable() {
+        return table.offsetAt(epochSecond);
+    }
+
+}
@@ -0,0 +1,18 @@
+package ws.slink.intervals.benchmarks;
+
+import java.time.ZoneId;
+
+/**
+ * Timezones shared by benchmarks
+ */
+final class Zones {
+
+    private Zones() {
+        // private default constructor to prevent class instantiation
+    }
+
+    static final ZoneId UTC = ZoneId.of("UTC");
+    static final ZoneId VLADIVOSTOK = ZoneId.of("Asia/Vladivostok");
+    static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+}
@@ -1,36 +1,71 @@
 package ws.slink.intervals;
 
+import ws.slink.intervals.exception.InvalidDayException;
 import ws.slink.intervals.impl.OffsetAwareInterval;
 import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.TimeZone;
+import java.util.stream.Stream;
 
 /**
  * `Day` implementation of Interval interface
  */
 public class Day extends OffsetAwareInterval {
 
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
     public Day(TimeZone timezone, LocalDateTime start, LocalDateTime end) {
         this(timezone, start, end, 0);
     }
     public Day(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
-        super(timezone, start, end, offset);
-        this.start = start.with(CalendarTools.TO_START_OF_DAY).plusHours(offset);
-        this.end = start.with(CalendarTools.TO_END_OF_DAY).plusHours(offset);
-        this.offset = offset;
+        super(timezone, start, end, offset, CalendarTools.TO_START_OF_DAY, CalendarTools.TO_END_OF_DAY);
     }
 
     @Override
-    public Interval previous() {
-        LocalDateTime prev = this.getStart().minusDays(1);
-        return IntervalBuilder.day(
-            prev.getYear(),
-            prev.getMonthValue(),
-            prev.getDayOfMonth(),
-            this.timezone().getID(),
-            offset
-        );
+    public Day previous() {
+        return plus(-1);
+    }
+
+    @Override
+    public Day next() {
+        return plus(1);
+    }
+
+    /**
+     * @return day `days` days after this one (with same timezone and offset)
+     */
+    public Day plus(long days) {
+        long epochDay = Math.addExact(epochDay(), days);
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new InvalidDayException("epoch day " + epochDay + " is out of range");
+        }
+        long civil = EpochMath.civil(epochDay);
+        return IntervalBuilder.day(EpochMath.year(civil), EpochMath.month(civil), EpochMath.day(civil), this.timezone, offset);
+    }
+
+    /**
+     * @return day `days` days before this one (with same timezone and offset)
+     */
+    public Day minus(long days) {
+        return plus(Math.negateExact(days));
+    }
+
+    /**
+     * @return number of days from `from` to `to` (negative if `to` is before `from`)
+     */
+    public static long between(Day from, Day to) {
+        return to.epochDay() - from.epochDay();
+    }
+
+    // calendar date of the day (without offset shift)
+    private long epochDay() {
+        return this.start.minusHours(offset).toLocalDate().toEpochDay();
     }
 
     @Override
@@ -42,16 +77,41 @@ public class Day extends OffsetAwareInterval {
             .build();
     }
 
+    /**
+     * @return stream of this day only
+     */
+    @Override
+    public Stream<Day> days() {
+        long epochDay = epochDay();
+        return IntervalSpliterator.days(this.timezone, epochDay, epochDay, offset);
+    }
+
+    /**
+     * @return hours of day in elapsed time (23 or 25 on DST transition days, with same timezone and offset)
+     */
+    public Stream<Hour> hours() {
+        return Hour.hours(this.timezone, epochDay(), offset);
+    }
+
     public static Day of(String input) {
-        return of(input, "UTC");
+        return create(input, ZoneRegistry.UTC, 0);
     }
     public static Day of(String input, String timezone) {
         return of(input, timezone, 0);
     }
+    public static Day of(String input, ZoneId timezone) {
+        return of(input, timezone, 0);
+    }
     public static Day of(String input, int offset) {
-        return of(input, "UTC", offset);
+        return create(input, ZoneRegistry.UTC, offset);
     }
     public static Day of(String input, String timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Day of(String input, ZoneId timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    private static Day create(String input, TimeZone timezone, int offset) {
         Interval interval = IntervalBuilder.parse(input, timezone, offset);
         return IntervalBuilder.day(
             interval.getStart().getYear(),
@@ -62,4 +122,51 @@ public class Day extends OffsetAwareInterval {
         );
     }
 
+    public static Day of(Instant value) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, 0);
+    }
+    public static Day of(Instant value, String timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Day of(Instant value, ZoneId timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Day of(Instant value, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, offset);
+    }
+    public static Day of(Instant value, String timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Day of(Instant value, ZoneId timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Day of(long epochMilli) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, 0);
+    }
+    public static Day of(long epochMilli, String timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Day of(long epochMilli, ZoneId timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Day of(long epochMilli, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, offset);
+    }
+    public static Day of(long epochMilli, String timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Day of(long epochMilli, ZoneId timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    private static Day create(long epochSecond, TimeZone timezone, int offset) {
+        long civil = EpochMath.civil(EpochMath.localEpochDay(timezone.toZoneId(), epochSecond, offset));
+        return IntervalBuilder.day(
+            EpochMath.year(civil),
+            EpochMath.month(civil),
+            EpochMath.day(civil),
+            timezone,
+            offset
+        );
+    }
+
 }
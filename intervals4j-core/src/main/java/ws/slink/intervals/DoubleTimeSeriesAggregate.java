@@ -0,0 +1,80 @@
+package ws.slink.intervals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * `TimeSeriesAggregate` with `double` sample values
+ */
+public final class DoubleTimeSeriesAggregate extends TimeSeriesAggregate {
+
+    // Fenwick tree of sample sums (1-based)
+    private double[] sums;
+
+    DoubleTimeSeriesAggregate(Duration step, long originEpochMilli) {
+        super(step, originEpochMilli);
+        this.sums = new double[capacity()];
+    }
+
+    /**
+     * adds sample to the bucket containing timestamp given as milliseconds from epoch
+     */
+    public void add(long epochMilli, double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("sample value should not be NaN");
+        }
+        int index = prepare(epochMilli);
+        update(sums, index + 1, value);
+        record(index, key(value));
+    }
+
+    /**
+     * adds sample to the bucket containing given timestamp
+     */
+    public void add(Instant timestamp, double value) {
+        add(timestamp.toEpochMilli(), value);
+    }
+
+    /**
+     * @return sum of samples in buckets starting within interval
+     *         (computed as a difference of prefix sums, so subject to floating point rounding)
+     */
+    public double sum(Interval interval) {
+        long from = firstIndex(interval);
+        long to = lastIndex(interval);
+        if (from > to) {
+            return 0;
+        }
+        return prefix(sums, (int) to + 1) - prefix(sums, (int) from);
+    }
+
+    /**
+     * @return maximum sample in buckets starting within interval
+     *         (`Double.NEGATIVE_INFINITY` if there are no samples)
+     */
+    public double max(Interval interval) {
+        long key = maxKey(interval);
+        return (key == NO_VALUE) ? Double.NEGATIVE_INFINITY : value(key);
+    }
+
+    // order-preserving mapping of doubles to longs, so maxima are shared with `long` series
+    private static long key(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+    private static double value(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    @Override
+    void grow(int capacity) {
+        sums = Arrays.copyOf(sums, capacity);
+    }
+
+    @Override
+    void materialize(int node) {
+        materialize(sums, node);
+    }
+
+}
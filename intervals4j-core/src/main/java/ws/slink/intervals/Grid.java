@@ -0,0 +1,327 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
+
+/**
+ * Fixed-step grid of sub-day buckets (1 minute, 5 minutes, 1 hour, ...) aligned to local days
+ * of given timezone and offset (same days as `Day` with that timezone and offset)
+ *
+ * - first bucket of a day starts at the day start, buckets are `step` long,
+ *   last bucket of a day is cut at the next day start (if `step` does not divide the day)
+ * - buckets are laid out in real (elapsed) time, so DST days have fewer or more buckets
+ *   (e.g. 92 or 100 quarter-hour buckets), and buckets tile the timeline with no gaps or overlaps
+ * - bucket index is `epochDay * bucketsPerDay() + bucketOfDay`, so indexes are ordered in time
+ *   but not dense: slots past the end of a day are never used
+ *
+ * mapping between timestamps and indexes is integer arithmetic over bounds of the most recently
+ * used day (cached), other days are resolved with `EpochMath`; grid is immutable and thread-safe
+ *
+ * usage:
+ *   Grid grid = Grid.of(Duration.ofMinutes(5), ZoneId.of("Europe/Berlin"), 3);
+ *   long bucket = grid.indexOf(event.epochMilli());
+ *   GridInterval interval = grid.bucket(bucket);
+ */
+public final class Grid {
+
+    private static final long MILLIS_PER_DAY = EpochMath.SECONDS_PER_DAY * EpochMath.MILLIS_PER_SECOND;
+
+    // no day in tz database is longer than that
+    private static final long MAX_DAY_MILLIS = 2 * MILLIS_PER_DAY;
+
+    private final ZoneId zone;
+    private final TimeZone timezone;
+    private final int offset;
+    private final long step;
+    private final long bucketsPerDay;
+
+    // bounds of last resolved day (immutable, replaced as a whole)
+    private volatile DayBounds cached;
+
+    private Grid(ZoneId zone, int offset, long step) {
+        this.zone = zone;
+        this.timezone = ZoneRegistry.shared(zone);
+        this.offset = offset;
+        this.step = step;
+        long maxDay = zone.getRules().isFixedOffset() ? MILLIS_PER_DAY : MAX_DAY_MILLIS;
+        this.bucketsPerDay = (maxDay + step - 1) / step;
+        this.cached = resolve(0);
+    }
+
+    public static Grid of(Duration step) {
+        return of(step, ZoneRegistry.UTC.toZoneId(), 0);
+    }
+    public static Grid of(Duration step, String timezone) {
+        return of(step, ZoneRegistry.zoneId(timezone), 0);
+    }
+    public static Grid of(Duration step, ZoneId timezone) {
+        return of(step, timezone, 0);
+    }
+    public static Grid of(Duration step, String timezone, int offset) {
+        return of(step, ZoneRegistry.zoneId(timezone), offset);
+    }
+
+    /**
+     * @param step bucket length (whole milliseconds, from 1 ms up to 1 day)
+     * @param timezone timezone of days
+     * @param offset day offset in hours (same as `Day` offset)
+     * @return grid of buckets
+     */
+    public static Grid of(Duration step, ZoneId timezone, int offset) {
+        if (step == null) {
+            throw new IllegalArgumentException("step should not be null");
+        }
+        if (timezone == null) {
+            throw new IllegalArgumentException("timezone should not be null");
+        }
+        if (step.isNegative() || step.isZero() || step.compareTo(Duration.ofDays(1)) > 0) {
+            throw new IllegalArgumentException("step should be positive and not longer than a day: " + step);
+        }
+        if (step.getNano() % EpochMath.NANOS_PER_MILLI != 0) {
+            throw new IllegalArgumentException("step should be whole milliseconds: " + step);
+        }
+        if (Math.abs(offset) > MAX_OFFSET) {
+            throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
+        }
+        return new Grid(timezone, offset, step.toMillis());
+    }
+
+    // region - getters
+
+    public Duration step() {
+        return Duration.ofMillis(step);
+    }
+    public TimeZone timezone() {
+        return ZoneRegistry.copy(timezone);
+    }
+    ZoneId zone() {
+        return zone;
+    }
+    String timezoneId() {
+        return timezone.getID();
+    }
+    public int offset() {
+        return offset;
+    }
+
+    /**
+     * @return index slots reserved for each day (not less than number of buckets of any day)
+     */
+    public long bucketsPerDay() {
+        return bucketsPerDay;
+    }
+
+    // endregion
+    // region - timestamp to index
+
+    /**
+     * @return index of bucket containing timestamp given as milliseconds from epoch
+     */
+    public long indexOf(long epochMilli) {
+        DayBounds day = cached;
+        if (epochMilli < day.start || epochMilli >= day.end) {
+            day = dayOf(epochMilli);
+        }
+        return day.epochDay * bucketsPerDay + (epochMilli - day.start) / step;
+    }
+
+    /**
+     * @return index of bucket containing given timestamp
+     */
+    public long indexOf(Instant value) {
+        return indexOf(value.toEpochMilli());
+    }
+
+    /**
+     * @return bucket containing timestamp given as milliseconds from epoch
+     */
+    public GridInterval bucketOf(long epochMilli) {
+        return bucket(indexOf(epochMilli));
+    }
+
+    /**
+     * @return bucket containing given timestamp
+     */
+    public GridInterval bucketOf(Instant value) {
+        return bucketOf(value.toEpochMilli());
+    }
+
+    // endregion
+    // region - index to bucket
+
+    /**
+     * @return bucket start as milliseconds from epoch
+     */
+    public long startMillis(long index) {
+        DayBounds day = dayOfIndex(index);
+        return day.start + Math.floorMod(index, bucketsPerDay) * step;
+    }
+
+    /**
+     * @return bucket end as milliseconds from epoch (exclusive)
+     */
+    public long endMillis(long index) {
+        DayBounds day = dayOfIndex(index);
+        return Math.min(day.start + (Math.floorMod(index, bucketsPerDay) + 1) * step, day.end);
+    }
+
+    /**
+     * @return bucket with given index
+     * @throws IllegalArgumentException if there is no such bucket (slot is past the end of its day)
+     */
+    public GridInterval bucket(long index) {
+        DayBounds day = dayOfIndex(index);
+        long start = day.start + Math.floorMod(index, bucketsPerDay) * step;
+        return new GridInterval(this, index, start, Math.min(start + step, day.end));
+    }
+
+    /**
+     * @return index of the bucket following given one
+     */
+    public long next(long index) {
+        DayBounds day = dayOfIndex(index);
+        long slot = Math.floorMod(index, bucketsPerDay) + 1;
+        if (day.start + slot * step < day.end) {
+            return index + 1;
+        }
+        // skip days with no buckets (days removed from calendar)
+        long epochDay = day.epochDay + 1;
+        while (dayOfEpochDay(epochDay).isEmpty()) {
+            epochDay++;
+        }
+        return epochDay * bucketsPerDay;
+    }
+
+    /**
+     * @return index of the bucket preceding given one
+     */
+    public long previous(long index) {
+        DayBounds day = dayOfIndex(index);
+        if (Math.floorMod(index, bucketsPerDay) > 0) {
+            return index - 1;
+        }
+        DayBounds prev = dayOfEpochDay(day.epochDay - 1);
+        while (prev.isEmpty()) {
+            prev = dayOfEpochDay(prev.epochDay - 1);
+        }
+        return prev.epochDay * bucketsPerDay + (prev.end - prev.start - 1) / step;
+    }
+
+    /**
+     * @return number of buckets in the day with given epoch day number
+     */
+    public int bucketsOfDay(long epochDay) {
+        DayBounds day = dayOfEpochDay(epochDay);
+        return (int) ((day.end - day.start + step - 1) / step);
+    }
+
+    /**
+     * @return day (with grid timezone and offset) containing bucket with given index
+     */
+    public Day day(long index) {
+        long civil = EpochMath.civil(Math.floorDiv(index, bucketsPerDay));
+        return IntervalBuilder.day(EpochMath.year(civil), EpochMath.month(civil), EpochMath.day(civil), timezone, offset);
+    }
+
+    /**
+     * @return buckets overlapping given interval (in time order)
+     */
+    public Stream<GridInterval> buckets(Interval interval) {
+        long first = indexOf(Math.multiplyExact(interval.startEpochSecond(), EpochMath.MILLIS_PER_SECOND)
+            + interval.startNano() / EpochMath.NANOS_PER_MILLI);
+        long last = indexOf(Math.multiplyExact(interval.endEpochSecond(), EpochMath.MILLIS_PER_SECOND)
+            + interval.endNano() / EpochMath.NANOS_PER_MILLI);
+        return Stream.iterate(first, index -> index <= last, this::next).map(this::bucket);
+    }
+
+    // endregion
+    // region - value semantics
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Grid)) {
+            return false;
+        }
+        Grid that = (Grid) other;
+        return step == that.step && offset == that.offset && zone.equals(that.zone);
+    }
+    @Override
+    public int hashCode() {
+        int result = zone.hashCode();
+        result = 31 * result + offset;
+        result = 31 * result + Long.hashCode(step);
+        return result;
+    }
+    @Override
+    public String toString() {
+        return "Grid(" + step() + ", " + zone.getId() + ", " + offset + ")";
+    }
+
+    // endregion
+    // region - day bounds
+
+    private DayBounds dayOf(long epochMilli) {
+        long epochDay = EpochMath.localEpochDay(zone, Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), offset);
+        DayBounds day = resolve(epochDay);
+        // instants repeated on DST overlap belong to the day by real time
+        while (epochMilli >= day.end) {
+            day = resolve(day.epochDay + 1);
+        }
+        while (epochMilli < day.start) {
+            day = resolve(day.epochDay - 1);
+        }
+        cached = day;
+        return day;
+    }
+    private DayBounds dayOfIndex(long index) {
+        DayBounds day = dayOfEpochDay(Math.floorDiv(index, bucketsPerDay));
+        if (day.start + Math.floorMod(index, bucketsPerDay) * step >= day.end) {
+            throw new IllegalArgumentException("no bucket with index " + index + " in " + this);
+        }
+        return day;
+    }
+    private DayBounds dayOfEpochDay(long epochDay) {
+        DayBounds day = cached;
+        if (day.epochDay == epochDay) {
+            return day;
+        }
+        day = resolve(epochDay);
+        cached = day;
+        return day;
+    }
+    private DayBounds resolve(long epochDay) {
+        return new DayBounds(epochDay, dayStartMillis(epochDay), dayStartMillis(epochDay + 1));
+    }
+    private long dayStartMillis(long epochDay) {
+        long localEpochSecond = epochDay * EpochMath.SECONDS_PER_DAY + (long) offset * EpochMath.SECONDS_PER_HOUR;
+        return EpochMath.toEpochSecond(zone, localEpochSecond) * EpochMath.MILLIS_PER_SECOND;
+    }
+
+    private static final class DayBounds {
+        private final long epochDay;
+        private final long start;
+        private final long end;
+
+        private DayBounds(long epochDay, long start, long end) {
+            this.epochDay = epochDay;
+            this.start = start;
+            this.end = end;
+        }
+        private boolean isEmpty() {
+            return start >= end;
+        }
+    }
+
+    // endregion
+
+}
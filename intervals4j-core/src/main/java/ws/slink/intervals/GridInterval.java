@@ -0,0 +1,153 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.TimeZone;
+
+import static ws.slink.intervals.tools.Formats.DATE_TIME_FORMAT;
+
+/**
+ * Single bucket of a `Grid` (see `Grid.bucket(long)`)
+ *
+ * bucket bounds are kept as epoch milliseconds (start inclusive, end exclusive, exposed
+ * as inclusive last nanosecond as for other intervals), so local bounds of buckets
+ * within DST overlap are resolved with the actual offset of the instant
+ *
+ * buckets are values of (timezone ID, epoch bounds), as other intervals: buckets of different
+ * grids covering the same time span are equal (consistent with `Interval.compareTo`)
+ */
+public final class GridInterval implements Interval {
+
+    private final Grid grid;
+    private final long index;
+    private final long startMillis;
+    private final long endMillis;
+
+    GridInterval(Grid grid, long index, long startMillis, long endMillis) {
+        this.grid = grid;
+        this.index = index;
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+    }
+
+    // region - getters
+
+    public Grid grid() {
+        return grid;
+    }
+
+    /**
+     * @return bucket index within grid
+     */
+    public long index() {
+        return index;
+    }
+
+    @Override public TimeZone timezone() {
+        return grid.timezone();
+    }
+    @Override public String timezoneId() {
+        return grid.timezoneId();
+    }
+    @Override public LocalDateTime getStart() {
+        return LocalDateTime.ofInstant(start(), grid.zone());
+    }
+    @Override public LocalDateTime getEnd() {
+        return LocalDateTime.ofInstant(end(), grid.zone());
+    }
+    @Override public Instant start() {
+        return Instant.ofEpochSecond(startEpochSecond(), startNano());
+    }
+    @Override public Instant end() {
+        return Instant.ofEpochSecond(endEpochSecond(), endNano());
+    }
+    @Override public long startEpochSecond() {
+        return Math.floorDiv(startMillis, EpochMath.MILLIS_PER_SECOND);
+    }
+    @Override public int startNano() {
+        return (int) Math.floorMod(startMillis, EpochMath.MILLIS_PER_SECOND) * EpochMath.NANOS_PER_MILLI;
+    }
+    @Override public long endEpochSecond() {
+        return Math.floorDiv(endMillis - 1, EpochMath.MILLIS_PER_SECOND);
+    }
+    @Override public int endNano() {
+        return (int) Math.floorMod(endMillis - 1, EpochMath.MILLIS_PER_SECOND) * EpochMath.NANOS_PER_MILLI
+            + EpochMath.NANOS_PER_MILLI - 1;
+    }
+
+    // endregion
+    // region - checkers
+
+    @Override
+    public boolean contains(Instant value) {
+        return contains(value.getEpochSecond(), value.getNano());
+    }
+    @Override
+    public boolean contains(long epochMilli) {
+        return epochMilli >= startMillis && epochMilli < endMillis;
+    }
+    @Override
+    public boolean contains(long epochSecond, int nano) {
+        long second = Math.floorDiv(startMillis, EpochMath.MILLIS_PER_SECOND);
+        if (epochSecond < second || (epochSecond == second && nano < startNano())) {
+            return false;
+        }
+        return epochSecond < endEpochSecond() || (epochSecond == endEpochSecond() && nano <= endNano());
+    }
+
+    // endregion
+    // region - navigation
+
+    @Override
+    public GridInterval previous() {
+        return grid.bucket(grid.previous(index));
+    }
+    @Override
+    public GridInterval next() {
+        return grid.bucket(grid.next(index));
+    }
+
+    /**
+     * @return day (with grid timezone and offset) containing the bucket
+     */
+    public Day day() {
+        return grid.day(index);
+    }
+
+    // endregion
+    // region - value semantics
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof GridInterval)) {
+            return false;
+        }
+        GridInterval that = (GridInterval) other;
+        return startMillis == that.startMillis
+            && endMillis == that.endMillis
+            && timezoneId().equals(that.timezoneId());
+    }
+    @Override
+    public int hashCode() {
+        int result = timezoneId().hashCode();
+        result = 31 * result + Long.hashCode(startMillis);
+        result = 31 * result + Long.hashCode(endMillis);
+        return result;
+    }
+    @Override
+    public String toString() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT);
+        return formatter.format(getStart()) + " - " +
+            formatter.format(getEnd()) + " " +
+            timezoneId();
+    }
+
+    // endregion
+
+}
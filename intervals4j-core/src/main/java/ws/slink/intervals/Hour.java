@@ -0,0 +1,200 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.exception.InvalidHourException;
+import ws.slink.intervals.impl.CustomInterval;
+import ws.slink.intervals.impl.OffsetAwareInterval;
+import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+/**
+ * `Hour` implementation of Interval interface
+ *
+ * hours are laid out in real (elapsed) time from the start of their day (same days as `Day`
+ * with that timezone and offset), like `Grid` buckets: hours tile the timeline with no gaps
+ * or overlaps, DST days have 23 or 25 hours, both hours of a repeated (DST overlap) local hour
+ * keep their actual offset, and last hour of a day which is not whole hours long
+ * (e.g. with half-hour DST shift) is cut at the next day start
+ *
+ * constructors, `IntervalBuilder.hour` and string factories take local clock hour: repeated
+ * local hour resolves to its first occurrence, local hour skipped by DST transition is rejected
+ */
+public class Hour extends OffsetAwareInterval {
+
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    public Hour(TimeZone timezone, LocalDateTime start, LocalDateTime end) {
+        this(timezone, start, end, 0);
+    }
+    public Hour(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
+        super(timezone, start, end, offset, CalendarTools.TO_START_OF_HOUR, CalendarTools.TO_END_OF_HOUR);
+        ZoneId zone = this.timezone.toZoneId();
+        if (EpochMath.toLocalEpochSecond(zone, this.startSecond) != this.start.toEpochSecond(ZoneOffset.UTC)) {
+            throw new InvalidHourException(this.start + " does not exist in " + zone.getId());
+        }
+        long[] bounds = bounds(zone, this.startSecond, offset);
+        setBounds(Instant.ofEpochSecond(bounds[0]), Instant.ofEpochSecond(bounds[1] - 1, 999_999_999));
+    }
+
+    // hour with given epoch second bounds (end is exclusive)
+    private Hour(TimeZone timezone, long startSecond, long endSecond, int offset) {
+        super(timezone, Instant.ofEpochSecond(startSecond), Instant.ofEpochSecond(endSecond - 1, 999_999_999), offset);
+    }
+
+    @Override
+    public Hour previous() {
+        return plus(-1);
+    }
+
+    @Override
+    public Hour next() {
+        return plus(1);
+    }
+
+    /**
+     * @return hour `hours` hours after this one (with same timezone and offset),
+     *         counted in elapsed time (exact unless a cut hour is stepped over)
+     */
+    public Hour plus(long hours) {
+        if (hours == 0) {
+            return this;
+        }
+        // step from the last second of this hour backwards, so a cut previous hour is not skipped
+        long from = (hours > 0) ? this.startSecond : this.startSecond - 1;
+        long steps = (hours > 0) ? hours : hours + 1;
+        return create(Math.addExact(from, Math.multiplyExact(steps, (long) EpochMath.SECONDS_PER_HOUR)), this.timezone, offset);
+    }
+
+    /**
+     * @return hour `hours` hours before this one (with same timezone and offset)
+     */
+    public Hour minus(long hours) {
+        return plus(Math.negateExact(hours));
+    }
+
+    /**
+     * @return number of elapsed hours from `from` to `to` (negative if `to` is before `from`;
+     *         cut hours count as whole ones)
+     */
+    public static long between(Hour from, Hour to) {
+        long seconds = to.startSecond - from.startSecond;
+        return (seconds >= 0)
+            ? Math.floorDiv(seconds + EpochMath.SECONDS_PER_HOUR - 1, EpochMath.SECONDS_PER_HOUR)
+            : -Math.floorDiv(-seconds + EpochMath.SECONDS_PER_HOUR - 1, EpochMath.SECONDS_PER_HOUR);
+    }
+
+    @Override
+    public Interval withPrevious() {
+        return CustomInterval.ofEpochBounds(this.timezone, previous().start(), this.end());
+    }
+
+    public static Hour of(String input) {
+        return create(input, ZoneRegistry.UTC, 0);
+    }
+    public static Hour of(String input, String timezone) {
+        return of(input, timezone, 0);
+    }
+    public static Hour of(String input, ZoneId timezone) {
+        return of(input, timezone, 0);
+    }
+    public static Hour of(String input, int offset) {
+        return create(input, ZoneRegistry.UTC, offset);
+    }
+    public static Hour of(String input, String timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Hour of(String input, ZoneId timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    private static Hour create(String input, TimeZone timezone, int offset) {
+        LocalDateTime start = IntervalBuilder.parse(input, timezone, offset).getStart().minusHours(offset);
+        return IntervalBuilder.hour(
+            start.getYear(),
+            start.getMonthValue(),
+            start.getDayOfMonth(),
+            start.getHour(),
+            timezone,
+            offset
+        );
+    }
+
+    public static Hour of(Instant value) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, 0);
+    }
+    public static Hour of(Instant value, String timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Hour of(Instant value, ZoneId timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Hour of(Instant value, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, offset);
+    }
+    public static Hour of(Instant value, String timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Hour of(Instant value, ZoneId timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Hour of(long epochMilli) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, 0);
+    }
+    public static Hour of(long epochMilli, String timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Hour of(long epochMilli, ZoneId timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Hour of(long epochMilli, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, offset);
+    }
+    public static Hour of(long epochMilli, String timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Hour of(long epochMilli, ZoneId timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    private static Hour create(long epochSecond, TimeZone timezone, int offset) {
+        long[] bounds = bounds(timezone.toZoneId(), epochSecond, offset);
+        return new Hour(timezone, bounds[0], bounds[1], offset);
+    }
+
+    /**
+     * @return hours of the day with given local epoch day number (in elapsed time)
+     */
+    static Stream<Hour> hours(TimeZone timezone, long epochDay, int offset) {
+        ZoneId zone = timezone.toZoneId();
+        long dayStart = dayStart(zone, epochDay, offset);
+        long dayEnd = dayStart(zone, epochDay + 1, offset);
+        long count = Math.floorDiv(dayEnd - dayStart + EpochMath.SECONDS_PER_HOUR - 1, EpochMath.SECONDS_PER_HOUR);
+        return IntervalSpliterator.hours(hour -> {
+            long start = dayStart + hour * EpochMath.SECONDS_PER_HOUR;
+            return new Hour(timezone, start, Math.min(start + EpochMath.SECONDS_PER_HOUR, dayEnd), offset);
+        }, count);
+    }
+
+    // epoch second bounds (end is exclusive) of the hour containing given timestamp
+    private static long[] bounds(ZoneId zone, long epochSecond, int offset) {
+        long epochDay = EpochMath.localEpochDay(zone, epochSecond, offset);
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
+            throw new InvalidHourException("epoch day " + epochDay + " is out of range");
+        }
+        long dayStart = dayStart(zone, epochDay, offset);
+        long dayEnd = dayStart(zone, epochDay + 1, offset);
+        long start = dayStart + Math.floorDiv(epochSecond - dayStart, EpochMath.SECONDS_PER_HOUR) * EpochMath.SECONDS_PER_HOUR;
+        return new long[] {start, Math.min(start + EpochMath.SECONDS_PER_HOUR, dayEnd)};
+    }
+
+    private static long dayStart(ZoneId zone, long epochDay, int offset) {
+        return EpochMath.toEpochSecond(zone, epochDay * EpochMath.SECONDS_PER_DAY + (long) offset * EpochMath.SECONDS_PER_HOUR);
+    }
+
+}
@@ -5,7 +5,9 @@ import ws.slink.intervals.exception.MethodNotSupportedException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.TimeZone;
+import java.util.stream.Stream;
 
 /**
  * generic interval interface
@@ -13,7 +15,12 @@ import java.util.TimeZone;
  * @author Mikhail Kantur
  *
  */
-public interface Interval {
+public interface Interval extends Comparable<Interval> {
+
+    /**
+     * interval ordering by (start, end) epoch bounds only
+     */
+    Comparator<Interval> BY_BOUNDS = Interval::compareBounds;
 
     /**
      * returns interval timezone (default one is UTC)
@@ -22,6 +29,15 @@ public interface Interval {
      */
     TimeZone timezone();
 
+    /**
+     * returns ID of interval timezone (same as `timezone().getID()`, without copying timezone)
+     *
+     * @return interval timezone ID
+     */
+    default String timezoneId() {
+        return timezone().getID();
+    }
+
     /**
      * get interval start local date time
      *
@@ -50,6 +66,42 @@ public interface Interval {
      */
     Instant end();
 
+    /**
+     * get interval start timestamp seconds from epoch
+     *
+     * @return interval start epoch second
+     */
+    default long startEpochSecond() {
+        return start().getEpochSecond();
+    }
+
+    /**
+     * get interval start timestamp nanosecond adjustment
+     *
+     * @return interval start nanosecond (0 - 999 999 999)
+     */
+    default int startNano() {
+        return start().getNano();
+    }
+
+    /**
+     * get interval end timestamp seconds from epoch
+     *
+     * @return interval end epoch second
+     */
+    default long endEpochSecond() {
+        return end().getEpochSecond();
+    }
+
+    /**
+     * get interval end timestamp nanosecond adjustment
+     *
+     * @return interval end nanosecond (0 - 999 999 999)
+     */
+    default int endNano() {
+        return end().getNano();
+    }
+
     /**
      * checks if interval contains instant timestamp
      * - input value should be non-null
@@ -67,7 +119,26 @@ public interface Interval {
      * @return true if value is within interval
      */
     default boolean contains(ZonedDateTime value) {
-        return contains(value.toInstant());
+        return contains(value.toEpochSecond(), value.getNano());
+    }
+
+    /**
+     * checks if interval contains timestamp given as milliseconds from epoch
+     *
+     * @return true if value is within interval
+     */
+    default boolean contains(long epochMilli) {
+        return contains(Instant.ofEpochMilli(epochMilli));
+    }
+
+    /**
+     * checks if interval contains timestamp given as seconds from epoch
+     * and nanosecond adjustment (0 - 999 999 999)
+     *
+     * @return true if value is within interval
+     */
+    default boolean contains(long epochSecond, int nano) {
+        return contains(Instant.ofEpochSecond(epochSecond, nano));
     }
 
     /**
@@ -80,6 +151,16 @@ public interface Interval {
         throw new MethodNotSupportedException();
     }
 
+    /**
+     * returns next interval from current
+     * (only supported for fixed type intervals, such as day, month, year)
+     *
+     * @return next Interval
+     */
+    default Interval next() {
+        throw new MethodNotSupportedException();
+    }
+
     /**
      * returns extended interval including previous one
      * (only supported for fixed type intervals, such as day, month, year)
@@ -90,4 +171,60 @@ public interface Interval {
         throw new MethodNotSupportedException();
     }
 
+    /**
+     * returns days (in interval timezone) of all local dates covered by interval;
+     * stream is sized and splits evenly, days are created lazily
+     *
+     * @return stream of days
+     */
+    default Stream<Day> days() {
+        return IntervalSpliterator.days(
+            timezone(),
+            getStart().toLocalDate().toEpochDay(),
+            getEnd().toLocalDate().toEpochDay(),
+            0
+        );
+    }
+
+    /**
+     * compares intervals by (start, end) epoch bounds,
+     * intervals with same bounds are ordered by timezone ID and interval type
+     * (so ordering is consistent with equals)
+     *
+     * @return comparison result
+     */
+    @Override
+    default int compareTo(Interval other) {
+        int result = compareBounds(this, other);
+        if (result != 0) {
+            return result;
+        }
+        result = timezoneId().compareTo(other.timezoneId());
+        if (result != 0) {
+            return result;
+        }
+        return getClass().getName().compareTo(other.getClass().getName());
+    }
+
+    /**
+     * compares intervals by (start, end) epoch bounds
+     *
+     * @return comparison result
+     */
+    static int compareBounds(Interval a, Interval b) {
+        int result = Long.compare(a.startEpochSecond(), b.startEpochSecond());
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(a.startNano(), b.startNano());
+        if (result != 0) {
+            return result;
+        }
+        result = Long.compare(a.endEpochSecond(), b.endEpochSecond());
+        if (result != 0) {
+            return result;
+        }
+        return Integer.compare(a.endNano(), b.endNano());
+    }
+
 }
@@ -0,0 +1,360 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.OffsetAwareInterval;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
+
+/**
+ * Concurrent per-tenant `Day` and `Month` counters
+ *
+ * each event is resolved to its local epoch day (and month) with epoch arithmetic and added
+ * to `LongAdder` cells of an open-addressing table keyed by packed (tenant, unit, period) longs:
+ *
+ * - lookup of an existing counter is lock-free and does not allocate, contended increments
+ *   are spread over adder cells; only creating a counter for a new bucket takes a lock
+ * - reads (`count`, `snapshot`) never block writers, concurrent increments may or may not be seen
+ * - buckets are evicted automatically once they fall out of retention window counted back
+ *   from the latest event day (event time); events older than that are dropped
+ *
+ * usage:
+ *   IntervalAggregator aggregator = IntervalAggregator.of(ZoneId.of("Europe/Berlin"), 0, Duration.ofDays(90));
+ *   aggregator.increment(tenantId, event.epochMilli());
+ *   long daily = aggregator.count(tenantId, Day.of(now, "Europe/Berlin"));
+ */
+public final class IntervalAggregator {
+
+    private static final int DAY = 0;
+    private static final int MONTH = 1;
+
+    private static final long EMPTY = -1L;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    private final ZoneId zone;
+    private final TimeZone timezone;
+    private final int offset;
+    private final int retentionDays;
+
+    // published table, replaced under lock on growth and eviction
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    // latest event day seen, buckets before `latestDay - retentionDays + 1` are expired
+    private volatile long latestDay = NO_DAY;
+
+    private final LongAdder dropped = new LongAdder();
+
+    private IntervalAggregator(ZoneId zone, int offset, int retentionDays) {
+        this.zone = zone;
+        this.timezone = ZoneRegistry.shared(zone);
+        this.offset = offset;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * @param timezone timezone of day and month buckets
+     * @param offset offset of day and month buckets in hours
+     * @param retention retention window (rounded up to whole days, at least one day)
+     * @return empty aggregator
+     */
+    public static IntervalAggregator of(ZoneId timezone, int offset, Duration retention) {
+        if (timezone == null) {
+            throw new IllegalArgumentException("timezone should not be null");
+        }
+        if (Math.abs(offset) > MAX_OFFSET) {
+            throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("retention should be positive");
+        }
+        long days = retention.plusSeconds(EpochMath.SECONDS_PER_DAY - 1).getSeconds() / EpochMath.SECONDS_PER_DAY;
+        return new IntervalAggregator(timezone, offset, (int) Math.min(Math.max(days, 1), Integer.MAX_VALUE));
+    }
+    public static IntervalAggregator of(String timezone, int offset, Duration retention) {
+        return of(ZoneRegistry.zoneId(timezone), offset, retention);
+    }
+
+    // region - getters
+
+    public ZoneId timezone() {
+        return zone;
+    }
+    public int offset() {
+        return offset;
+    }
+    public Duration retention() {
+        return Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * @return number of events dropped as being older than retention window
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return number of live (tenant, bucket) counters
+     */
+    public int size() {
+        Table current = table;
+        int size = 0;
+        for (int i = 0; i < current.keys.length(); i++) {
+            if (current.keys.get(i) != EMPTY) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    // endregion
+    // region - updates
+
+    /**
+     * adds one event to day and month counters of tenant
+     *
+     * @return false if event is older than retention window (and was dropped)
+     */
+    public boolean increment(int tenant, long epochMilli) {
+        return add(tenant, epochMilli, 1);
+    }
+
+    /**
+     * adds `value` to day and month counters of tenant
+     *
+     * @param tenant tenant ID (non-negative)
+     * @param epochMilli event timestamp
+     * @param value value to add
+     * @return false if event is older than retention window (and was dropped)
+     */
+    public boolean add(int tenant, long epochMilli, long value) {
+        if (tenant < 0) {
+            throw new IllegalArgumentException("tenant should not be negative: " + tenant);
+        }
+        long day = EpochMath.localEpochDay(zone, Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), offset);
+        long latest = latestDay;
+        if (latest != NO_DAY && day <= latest - retentionDays) {
+            dropped.increment();
+            return false;
+        }
+        if (latest == NO_DAY || day > latest) {
+            advance(day);
+        }
+        long civil = EpochMath.civil(day);
+        long month = EpochMath.epochMonth(EpochMath.year(civil), EpochMath.month(civil));
+        adder(key(tenant, DAY, day)).add(value);
+        adder(key(tenant, MONTH, month)).add(value);
+        return true;
+    }
+
+    // endregion
+    // region - reads
+
+    /**
+     * @param tenant tenant ID
+     * @param interval `Day` or `Month` in aggregator timezone and offset
+     * @return current counter value (zero for unknown or evicted buckets)
+     */
+    public long count(int tenant, Interval interval) {
+        LongAdder adder = table.get(key(tenant, interval));
+        return (adder == null) ? 0 : adder.sum();
+    }
+
+    /**
+     * @return day and month counters of tenant ordered by interval start (days before months),
+     *         without blocking concurrent writers
+     */
+    public Map<Interval, Long> snapshot(int tenant) {
+        Table current = table;
+        List<long[]> entries = new ArrayList<>();
+        for (int i = 0; i < current.keys.length(); i++) {
+            long key = current.keys.get(i);
+            if (key != EMPTY && (int) (key >>> 32) == tenant) {
+                LongAdder adder = current.adders.get(i);
+                if (adder != null) {
+                    entries.add(new long[] {key, adder.sum()});
+                }
+            }
+        }
+        entries.sort((a, b) -> (unitOf(a[0]) != unitOf(b[0]))
+            ? Integer.compare(unitOf(a[0]), unitOf(b[0]))
+            : Long.compare(periodOf(a[0]), periodOf(b[0])));
+        Map<Interval, Long> result = new LinkedHashMap<>();
+        for (long[] entry : entries) {
+            result.put(interval(entry[0]), entry[1]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    // endregion
+    // region - helpers
+
+    private LongAdder adder(long key) {
+        LongAdder adder = table.get(key);
+        if (adder != null) {
+            return adder;
+        }
+        return create(key);
+    }
+
+    private synchronized LongAdder create(long key) {
+        Table current = table;
+        LongAdder adder = current.get(key);
+        if (adder != null) {
+            return adder;
+        }
+        adder = new LongAdder();
+        if (lastDay(key) <= latestDay - retentionDays) {
+            // bucket expired after caller checked retention: count into detached adder
+            return adder;
+        }
+        if (2 * (current.size + 1) > current.keys.length()) {
+            current = rebuild(current, current.keys.length() * 2, Long.MIN_VALUE);
+        }
+        current.put(key, adder);
+        table = current;
+        return adder;
+    }
+
+    private synchronized void advance(long day) {
+        if (latestDay != NO_DAY && day <= latestDay) {
+            return;
+        }
+        latestDay = day;
+        evict(day - retentionDays + 1);
+    }
+
+    // rebuilds table without buckets ending before `cutoff` day (writers holding evicted adders lose their increments)
+    private void evict(long cutoff) {
+        Table current = table;
+        boolean expired = false;
+        for (int i = 0; i < current.keys.length() && !expired; i++) {
+            long key = current.keys.get(i);
+            expired = key != EMPTY && lastDay(key) < cutoff;
+        }
+        if (!expired) {
+            return;
+        }
+        table = rebuild(current, current.keys.length(), cutoff);
+    }
+
+    // copies entries (sharing adders) of buckets ending not before `cutoff` day to a new table
+    private static Table rebuild(Table current, int capacity, long cutoff) {
+        Table rebuilt = new Table(capacity);
+        for (int i = 0; i < current.keys.length(); i++) {
+            long key = current.keys.get(i);
+            if (key != EMPTY && lastDay(key) >= cutoff) {
+                rebuilt.put(key, current.adders.get(i));
+            }
+        }
+        return rebuilt;
+    }
+
+    private static long lastDay(long key) {
+        long period = periodOf(key);
+        if (unitOf(key) == DAY) {
+            return period;
+        }
+        int year = EpochMath.yearOfEpochMonth(period);
+        int month = EpochMath.monthOfEpochMonth(period);
+        return EpochMath.epochDay(year, month, EpochMath.lengthOfMonth(year, month));
+    }
+
+    private long key(int tenant, Interval interval) {
+        if (!(interval instanceof Day) && !(interval instanceof Month)) {
+            throw new IllegalArgumentException("interval should be Day or Month: " + interval);
+        }
+        if (!timezone.getID().equals(interval.timezoneId()) || ((OffsetAwareInterval) interval).offset() != offset) {
+            throw new IllegalArgumentException("interval should be in " + timezone.getID() + " with offset " + offset
+                + ": " + interval);
+        }
+        LocalDate date = interval.getStart().minusHours(offset).toLocalDate();
+        return (interval instanceof Day)
+            ? key(tenant, DAY, date.toEpochDay())
+            : key(tenant, MONTH, EpochMath.epochMonth(date.getYear(), date.getMonthValue()));
+    }
+
+    // tenant in high word, period and unit in low word (sign bit is never set, so -1 marks empty slots)
+    private static long key(int tenant, int unit, long period) {
+        return ((long) tenant << 32) | ((((int) period << 1) | unit) & 0xFFFFFFFFL);
+    }
+    private static int unitOf(long key) {
+        return (int) key & 1;
+    }
+    private static long periodOf(long key) {
+        return (int) key >> 1;
+    }
+
+    private Interval interval(long key) {
+        long period = periodOf(key);
+        if (unitOf(key) == DAY) {
+            long civil = EpochMath.civil(period);
+            return IntervalBuilder.day(EpochMath.year(civil), EpochMath.month(civil), EpochMath.day(civil), timezone, offset);
+        }
+        return IntervalBuilder.month(EpochMath.yearOfEpochMonth(period), EpochMath.monthOfEpochMonth(period), timezone, offset);
+    }
+
+    // endregion
+
+    /**
+     * open-addressing table with linear probing; slots are only filled (adder first, then key),
+     * never cleared, so lock-free readers see either empty slot or complete entry
+     */
+    private static final class Table {
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<LongAdder> adders;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            this.keys = new AtomicLongArray(capacity);
+            this.adders = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                keys.set(i, EMPTY);
+            }
+        }
+
+        private LongAdder get(long key) {
+            for (int i = slot(key); ; i = (i + 1) & mask) {
+                long current = keys.get(i);
+                if (current == key) {
+                    return adders.get(i);
+                }
+                if (current == EMPTY) {
+                    return null;
+                }
+            }
+        }
+
+        // called under aggregator lock (or before table is published)
+        private void put(long key, LongAdder adder) {
+            int i = slot(key);
+            while (keys.get(i) != EMPTY) {
+                i = (i + 1) & mask;
+            }
+            adders.set(i, adder);
+            keys.set(i, key);
+            size++;
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+    }
+
+}
@@ -1,17 +1,25 @@
 package ws.slink.intervals;
 
 import ws.slink.intervals.exception.InvalidDayException;
+import ws.slink.intervals.exception.InvalidHourException;
 import ws.slink.intervals.exception.InvalidIntervalException;
 import ws.slink.intervals.exception.InvalidIntervalFormatException;
 import ws.slink.intervals.exception.InvalidMonthException;
+import ws.slink.intervals.exception.InvalidQuarterException;
+import ws.slink.intervals.exception.InvalidWeekException;
 import ws.slink.intervals.exception.InvalidYearException;
 import ws.slink.intervals.impl.CustomInterval;
 import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
 import ws.slink.intervals.tools.Formats;
+import ws.slink.intervals.tools.IntervalScanner;
 
 import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.temporal.TemporalAdjusters;
 import java.util.TimeZone;
@@ -23,7 +31,7 @@ public class IntervalBuilder {
 
     // region - fields
 
-    private TimeZone timezone = TimeZone.getTimeZone(ZoneOffset.UTC);
+    private TimeZone timezone = ZoneRegistry.UTC;
     private int offset;
     private LocalDateTime start = CalendarTools.MIN_DATE;
     private LocalDateTime end = CalendarTools.MAX_DATE;
@@ -36,7 +44,15 @@ public class IntervalBuilder {
         if (value == null) {
             throw new IllegalArgumentException("timezone should not be null");
         }
-        this.timezone = value;
+        // keep own instance, so that caller modifying `value` later does not affect built intervals
+        this.timezone = ZoneRegistry.canonical(value);
+        return this;
+    }
+    public IntervalBuilder zoneId(ZoneId value) {
+        if (value == null) {
+            throw new IllegalArgumentException("timezone should not be null");
+        }
+        this.timezone = ZoneRegistry.shared(value);
         return this;
     }
     public IntervalBuilder offset(int value) {
@@ -124,11 +140,11 @@ public class IntervalBuilder {
 
     public Interval build() {
         if (startStr != null) {
-            Interval i = parse(startStr, timezone.getID(), offset);
+            Interval i = parse(startStr, timezone, offset);
             this.start = i.getStart();
         }
         if (endStr != null) {
-            Interval i = parse(endStr, timezone.getID(), offset);
+            Interval i = parse(endStr, timezone, offset);
             this.end = i.getEnd();
         }
         return new CustomInterval(timezone, start, end, offset);
@@ -137,19 +153,28 @@ public class IntervalBuilder {
     // region -> custom interval builders: year
 
     public static Year year(int year) {
-        return year(year, "UTC", 0);
+        return year(year, ZoneRegistry.UTC, 0);
     }
     public static Year year(int year, String timezone) {
-        return year(year, timezone, 0);
+        return year(year, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Year year(int year, ZoneId timezone) {
+        return year(year, ZoneRegistry.shared(timezone), 0);
     }
     public static Year year(int year, int offset) {
-        return year(year, "UTC", offset);
+        return year(year, ZoneRegistry.UTC, offset);
     }
     public static Year year(int year, String timezone, int offset) {
+        return year(year, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Year year(int year, ZoneId timezone, int offset) {
+        return year(year, ZoneRegistry.shared(timezone), offset);
+    }
+    static Year year(int year, TimeZone timezone, int offset) {
         try {
             LocalDateTime start = LocalDateTime.of(year, 1, 1, 0, 0, 0, 0);
             LocalDateTime end = start.with(TemporalAdjusters.lastDayOfYear()).with(CalendarTools.TO_END_OF_DAY);
-            return new Year(TimeZone.getTimeZone(timezone), start, end, offset);
+            return new Year(timezone, start, end, offset);
         } catch (DateTimeException e) {
             throw new InvalidYearException(e.getMessage());
         }
@@ -157,19 +182,28 @@ public class IntervalBuilder {
     // endregion
     // region -> custom interval builders: month
     public static Month month(int year, int month) {
-        return month(year, month, "UTC", 0);
+        return month(year, month, ZoneRegistry.UTC, 0);
     }
     public static Month month(int year, int month, String timezone) {
-        return month(year, month, timezone, 0);
+        return month(year, month, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Month month(int year, int month, ZoneId timezone) {
+        return month(year, month, ZoneRegistry.shared(timezone), 0);
     }
     public static Month month(int year, int month, int offset) {
-        return month(year, month, "UTC", offset);
+        return month(year, month, ZoneRegistry.UTC, offset);
     }
     public static Month month(int year, int month, String timezone, int offset) {
+        return month(year, month, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Month month(int year, int month, ZoneId timezone, int offset) {
+        return month(year, month, ZoneRegistry.shared(timezone), offset);
+    }
+    static Month month(int year, int month, TimeZone timezone, int offset) {
         try {
             LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0, 0, 0);
             LocalDateTime end = start.with(TemporalAdjusters.lastDayOfMonth()).with(CalendarTools.TO_END_OF_DAY);
-            return new Month(TimeZone.getTimeZone(timezone), start, end, offset);
+            return new Month(timezone, start, end, offset);
         } catch (DateTimeException e) {
             throw new InvalidMonthException(e.getMessage());
         }
@@ -177,56 +211,252 @@ public class IntervalBuilder {
     // endregion
     // region -> custom interval builders: day
     public static Day day(int year, int month, int day) {
-        return day(year, month, day, "UTC", 0);
+        return day(year, month, day, ZoneRegistry.UTC, 0);
     }
     public static Day day(int year, int month, int day, String timezone) {
-        return day(year, month, day, timezone, 0);
+        return day(year, month, day, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Day day(int year, int month, int day, ZoneId timezone) {
+        return day(year, month, day, ZoneRegistry.shared(timezone), 0);
     }
     public static Day day(int year, int month, int day, int offset) {
-        return day(year, month, day, "UTC", offset);
+        return day(year, month, day, ZoneRegistry.UTC, offset);
     }
     public static Day day(int year, int month, int day, String timezone, int offset) {
+        return day(year, month, day, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Day day(int year, int month, int day, ZoneId timezone, int offset) {
+        return day(year, month, day, ZoneRegistry.shared(timezone), offset);
+    }
+    static Day day(int year, int month, int day, TimeZone timezone, int offset) {
         try {
             LocalDateTime start = LocalDateTime.of(year, month, day, 0, 0, 0, 0);
             LocalDateTime end = start.with(CalendarTools.TO_END_OF_DAY);
-            return new Day(TimeZone.getTimeZone(timezone), start, end, offset);
+            return new Day(timezone, start, end, offset);
         } catch (DateTimeException e) {
             throw new InvalidDayException(e.getMessage());
         }
     }
     // endregion
+    // region -> custom interval builders: quarter
+    public static Quarter quarter(int year, int quarter) {
+        return quarter(year, quarter, ZoneRegistry.UTC, 0);
+    }
+    public static Quarter quarter(int year, int quarter, String timezone) {
+        return quarter(year, quarter, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Quarter quarter(int year, int quarter, ZoneId timezone) {
+        return quarter(year, quarter, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Quarter quarter(int year, int quarter, int offset) {
+        return quarter(year, quarter, ZoneRegistry.UTC, offset);
+    }
+    public static Quarter quarter(int year, int quarter, String timezone, int offset) {
+        return quarter(year, quarter, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Quarter quarter(int year, int quarter, ZoneId timezone, int offset) {
+        return quarter(year, quarter, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Quarter quarter(int year, int quarter, String timezone, int offset, int firstMonthOfYear) {
+        return quarter(year, quarter, ZoneRegistry.shared(timezone), offset, firstMonthOfYear);
+    }
+    public static Quarter quarter(int year, int quarter, ZoneId timezone, int offset, int firstMonthOfYear) {
+        return quarter(year, quarter, ZoneRegistry.shared(timezone), offset, firstMonthOfYear);
+    }
+    static Quarter quarter(int year, int quarter, TimeZone timezone, int offset) {
+        return quarter(year, quarter, timezone, offset, 1);
+    }
+
+    /**
+     * @param year (fiscal) year, named by calendar year it ends in
+     * @param quarter quarter of (fiscal) year
+     * @param firstMonthOfYear first month of (fiscal) year (1 for calendar quarters)
+     */
+    static Quarter quarter(int year, int quarter, TimeZone timezone, int offset, int firstMonthOfYear) {
+        if (firstMonthOfYear < 1 || firstMonthOfYear > 12) {
+            throw new InvalidQuarterException("first month of year should be 1 .. 12: " + firstMonthOfYear);
+        }
+        if (quarter < 1 || quarter > 4) {
+            throw new InvalidQuarterException(year + "-Q" + quarter);
+        }
+        long epochQuarter = EpochMath.epochQuarter(year, quarter);
+        return quarterStarting(EpochMath.firstEpochMonthOfQuarter(epochQuarter, firstMonthOfYear), timezone, offset, firstMonthOfYear);
+    }
+
+    /**
+     * @param epochMonth epoch month of the first month of quarter
+     */
+    static Quarter quarterStarting(long epochMonth, TimeZone timezone, int offset, int firstMonthOfYear) {
+        try {
+            LocalDateTime start = LocalDateTime.of(
+                EpochMath.yearOfEpochMonth(epochMonth), EpochMath.monthOfEpochMonth(epochMonth), 1, 0, 0, 0, 0);
+            return new Quarter(timezone, start, start, offset, firstMonthOfYear);
+        } catch (DateTimeException e) {
+            throw new InvalidQuarterException(e.getMessage());
+        }
+    }
+    // endregion
+    // region -> custom interval builders: week
+    public static Week week(int year, int week) {
+        return week(year, week, ZoneRegistry.UTC, 0, DayOfWeek.MONDAY);
+    }
+    public static Week week(int year, int week, String timezone) {
+        return week(year, week, ZoneRegistry.shared(timezone), 0, DayOfWeek.MONDAY);
+    }
+    public static Week week(int year, int week, ZoneId timezone) {
+        return week(year, week, ZoneRegistry.shared(timezone), 0, DayOfWeek.MONDAY);
+    }
+    public static Week week(int year, int week, int offset) {
+        return week(year, week, ZoneRegistry.UTC, offset, DayOfWeek.MONDAY);
+    }
+    public static Week week(int year, int week, String timezone, int offset) {
+        return week(year, week, ZoneRegistry.shared(timezone), offset, DayOfWeek.MONDAY);
+    }
+    public static Week week(int year, int week, ZoneId timezone, int offset) {
+        return week(year, week, ZoneRegistry.shared(timezone), offset, DayOfWeek.MONDAY);
+    }
+    public static Week week(int year, int week, String timezone, int offset, DayOfWeek firstDayOfWeek) {
+        return week(year, week, ZoneRegistry.shared(timezone), offset, firstDayOfWeek);
+    }
+    public static Week week(int year, int week, ZoneId timezone, int offset, DayOfWeek firstDayOfWeek) {
+        return week(year, week, ZoneRegistry.shared(timezone), offset, firstDayOfWeek);
+    }
+
+    /**
+     * @param year week-based year
+     * @param week week of week-based year (first week is the first one with at least 4 days in `year`)
+     * @param firstDayOfWeek first day of week (`MONDAY` for ISO weeks)
+     */
+    static Week week(int year, int week, TimeZone timezone, int offset, DayOfWeek firstDayOfWeek) {
+        if (firstDayOfWeek == null) {
+            throw new InvalidWeekException("first day of week should not be null");
+        }
+        if (week < 1 || week > EpochMath.weeksInYear(year, firstDayOfWeek.getValue())) {
+            throw new InvalidWeekException(year + "-W" + week);
+        }
+        long start = EpochMath.firstWeekStart(year, firstDayOfWeek.getValue()) + 7L * (week - 1);
+        return weekStarting(start, timezone, offset, firstDayOfWeek);
+    }
+
+    /**
+     * @param epochDay epoch day of the first day of week
+     */
+    static Week weekStarting(long epochDay, TimeZone timezone, int offset, DayOfWeek firstDayOfWeek) {
+        try {
+            LocalDateTime start = LocalDate.ofEpochDay(epochDay).atStartOfDay();
+            return new Week(timezone, start, start, offset, firstDayOfWeek);
+        } catch (DateTimeException e) {
+            throw new InvalidWeekException(e.getMessage());
+        }
+    }
+    // endregion
+    // region -> custom interval builders: hour
+    public static Hour hour(int year, int month, int day, int hour) {
+        return hour(year, month, day, hour, ZoneRegistry.UTC, 0);
+    }
+    public static Hour hour(int year, int month, int day, int hour, String timezone) {
+        return hour(year, month, day, hour, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Hour hour(int year, int month, int day, int hour, ZoneId timezone) {
+        return hour(year, month, day, hour, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Hour hour(int year, int month, int day, int hour, int offset) {
+        return hour(year, month, day, hour, ZoneRegistry.UTC, offset);
+    }
+    public static Hour hour(int year, int month, int day, int hour, String timezone, int offset) {
+        return hour(year, month, day, hour, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Hour hour(int year, int month, int day, int hour, ZoneId timezone, int offset) {
+        return hour(year, month, day, hour, ZoneRegistry.shared(timezone), offset);
+    }
+    static Hour hour(int year, int month, int day, int hour, TimeZone timezone, int offset) {
+        try {
+            LocalDateTime start = LocalDateTime.of(year, month, day, hour, 0, 0, 0);
+            return new Hour(timezone, start, start, offset);
+        } catch (DateTimeException e) {
+            throw new InvalidHourException(e.getMessage());
+        }
+    }
+    // endregion
 
     // endregion
     // region - interval parsers
 
     public static Interval parse(String input) {
-        return parse(input, "UTC");
+        return parse(input, ZoneRegistry.UTC, 0);
     }
     public static Interval parse(String input, String timezone) {
-        return parse(input, timezone, 0);
+        return parse(input, ZoneRegistry.shared(timezone), 0);
+    }
+    public static Interval parse(String input, ZoneId timezone) {
+        return parse(input, ZoneRegistry.shared(timezone), 0);
     }
     public static Interval parse(String input, int offset) {
-        return parse(input, "UTC", offset);
+        return parse(input, ZoneRegistry.UTC, offset);
     }
     public static Interval parse(String input, String timezone, int offset) {
+        return parse(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Interval parse(String input, ZoneId timezone, int offset) {
+        return parse(input, ZoneRegistry.shared(timezone), offset);
+    }
+    static Interval parse(String input, TimeZone timezone, int offset) {
+        long scanned = IntervalScanner.scan(input);
+        if (scanned < 0) {
+            throw new InvalidIntervalFormatException(input);
+        }
         try {
-            return doParse(input, timezone, offset);
+            return doParse(scanned, timezone, offset);
         } catch (InvalidIntervalException e) {
             throw new InvalidIntervalFormatException(input);
         }
     }
-    private static Interval doParse(String input, String timezone, int offset) {
-        try {
-            return CalendarTools.yearFromString(input, timezone, offset);
-        } catch (InvalidYearException e1) {
-            try {
-                return CalendarTools.monthFromString(input, timezone, offset);
-            } catch (InvalidMonthException e2) {
-                return CalendarTools.dayFromString(input, timezone, offset);
-            }
+    private static Interval doParse(long scanned, TimeZone timezone, int offset) {
+        switch (IntervalScanner.type(scanned)) {
+            case IntervalScanner.YEAR:
+                return year(IntervalScanner.year(scanned), timezone, offset);
+            case IntervalScanner.MONTH:
+                return month(IntervalScanner.year(scanned), IntervalScanner.month(scanned), timezone, offset);
+            case IntervalScanner.QUARTER:
+                return quarter(IntervalScanner.year(scanned), IntervalScanner.quarter(scanned), timezone, offset);
+            case IntervalScanner.WEEK:
+                return week(IntervalScanner.year(scanned), IntervalScanner.week(scanned), timezone, offset, DayOfWeek.MONDAY);
+            case IntervalScanner.HOUR:
+                return hour(
+                    IntervalScanner.year(scanned),
+                    IntervalScanner.month(scanned),
+                    IntervalScanner.day(scanned),
+                    IntervalScanner.hour(scanned),
+                    timezone,
+                    offset
+                );
+            default:
+                return day(
+                    IntervalScanner.year(scanned),
+                    IntervalScanner.month(scanned),
+                    IntervalScanner.day(scanned),
+                    timezone,
+                    offset
+                );
         }
     }
 
     // endregion
+    // region - non-throwing interval parsers
+
+    public static ParseResult tryParse(CharSequence input) {
+        return tryParse(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryParse(CharSequence input, ZoneId timezone) {
+        return tryParse(input, timezone, 0);
+    }
+    public static ParseResult tryParse(CharSequence input, int offset) {
+        return tryParse(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryParse(CharSequence input, ZoneId timezone, int offset) {
+        return CalendarTools.tryFromString(input, timezone, offset);
+    }
+
+    // endregion
 
 }
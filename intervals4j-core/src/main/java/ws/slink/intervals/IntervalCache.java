@@ -0,0 +1,192 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.OffsetAwareInterval;
+
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded concurrent cache of canonical `Year`, `Month` and `Day` instances
+ *
+ * cache is a lock-free direct-mapped table: each (type, date, timezone, offset) key maps
+ * to a single slot, a colliding key evicts previous slot entry; lookups compare primitive
+ * key fields in place, so cache hit does not allocate
+ *
+ * cached intervals are shared and should be treated as immutable
+ */
+public final class IntervalCache {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int YEAR = 1;
+    private static final int MONTH = 2;
+    private static final int DAY = 3;
+
+    private static final IntervalCache SHARED = new IntervalCache(DEFAULT_CAPACITY);
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity maximum number of cached intervals (rounded up to power of two)
+     */
+    public IntervalCache(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity should be in range 1 .. 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return process-wide cache instance with default capacity
+     */
+    public static IntervalCache shared() {
+        return SHARED;
+    }
+
+    // region - factories
+
+    public Year year(int year, String timezone, int offset) {
+        return year(year, ZoneRegistry.shared(timezone), offset);
+    }
+    public Year year(int year, ZoneId timezone, int offset) {
+        return year(year, ZoneRegistry.shared(timezone), offset);
+    }
+    public Month month(int year, int month, String timezone, int offset) {
+        return month(year, month, ZoneRegistry.shared(timezone), offset);
+    }
+    public Month month(int year, int month, ZoneId timezone, int offset) {
+        return month(year, month, ZoneRegistry.shared(timezone), offset);
+    }
+    public Day day(int year, int month, int day, String timezone, int offset) {
+        return day(year, month, day, ZoneRegistry.shared(timezone), offset);
+    }
+    public Day day(int year, int month, int day, ZoneId timezone, int offset) {
+        return day(year, month, day, ZoneRegistry.shared(timezone), offset);
+    }
+
+    Year year(int year, TimeZone timezone, int offset) {
+        Entry entry = lookup(YEAR, year, 0, 0, timezone, offset);
+        if (entry != null) {
+            return (Year) entry.value;
+        }
+        return (Year) store(YEAR, year, 0, 0, timezone, offset, IntervalBuilder.year(year, timezone, offset));
+    }
+    Month month(int year, int month, TimeZone timezone, int offset) {
+        Entry entry = lookup(MONTH, year, month, 0, timezone, offset);
+        if (entry != null) {
+            return (Month) entry.value;
+        }
+        return (Month) store(MONTH, year, month, 0, timezone, offset, IntervalBuilder.month(year, month, timezone, offset));
+    }
+    Day day(int year, int month, int day, TimeZone timezone, int offset) {
+        Entry entry = lookup(DAY, year, month, day, timezone, offset);
+        if (entry != null) {
+            return (Day) entry.value;
+        }
+        return (Day) store(DAY, year, month, day, timezone, offset, IntervalBuilder.day(year, month, day, timezone, offset));
+    }
+
+    // endregion
+    // region - statistics
+
+    public long hits() {
+        return hits.sum();
+    }
+    public long misses() {
+        return misses.sum();
+    }
+    public long evictions() {
+        return evictions.sum();
+    }
+    public int capacity() {
+        return slots.length();
+    }
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    // endregion
+    // region - helpers
+
+    private Entry lookup(int type, int year, int month, int day, TimeZone timezone, int offset) {
+        Entry entry = slots.get(slot(type, year, month, day, timezone, offset));
+        if (entry != null && entry.matches(type, year, month, day, timezone, offset)) {
+            hits.increment();
+            return entry;
+        }
+        misses.increment();
+        return null;
+    }
+    private OffsetAwareInterval store(int type, int year, int month, int day, TimeZone timezone, int offset,
+                                      OffsetAwareInterval value) {
+        int slot = slot(type, year, month, day, timezone, offset);
+        Entry previous = slots.getAndSet(slot, new Entry(type, year, month, day, timezone, offset, value));
+        if (previous != null && !previous.matches(type, year, month, day, timezone, offset)) {
+            evictions.increment();
+        }
+        return value;
+    }
+    private int slot(int type, int year, int month, int day, TimeZone timezone, int offset) {
+        int h = timezone.getID().hashCode();
+        h = h * 31 + ((year << 9) | (month << 5) | day);
+        h = h * 31 + (type << 6) + offset;
+        h ^= (h >>> 16);
+        h *= 0x85EBCA6B;
+        h ^= (h >>> 13);
+        return h & mask;
+    }
+
+    private static final class Entry {
+        private final int type;
+        private final int year;
+        private final int month;
+        private final int day;
+        private final TimeZone timezone;
+        private final int offset;
+        private final OffsetAwareInterval value;
+
+        private Entry(int type, int year, int month, int day, TimeZone timezone, int offset, OffsetAwareInterval value) {
+            this.type = type;
+            this.year = year;
+            this.month = month;
+            this.day = day;
+            this.timezone = timezone;
+            this.offset = offset;
+            this.value = value;
+        }
+
+        private boolean matches(int type, int year, int month, int day, TimeZone timezone, int offset) {
+            return this.type == type
+                && this.year == year
+                && this.month == month
+                && this.day == day
+                && this.offset == offset
+                && (this.timezone == timezone || this.timezone.equals(timezone));
+        }
+    }
+
+    // endregion
+
+}
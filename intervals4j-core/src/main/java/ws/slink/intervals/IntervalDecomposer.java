@@ -0,0 +1,127 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.CustomInterval;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
+
+/**
+ * Decomposes arbitrary interval into the minimal list of calendar pieces exactly tiling it:
+ * days up to the first month start, months up to the first year start, whole years,
+ * then months and days up to the end; parts of the interval not covering a whole day
+ * (leading and trailing edges) are returned as custom intervals built from exact epoch bounds
+ * (so edges starting or ending in a repeated DST hour keep their actual offset)
+ *
+ * e.g. 2022-11-14 .. 2024-02-03 is covered by 17 days, 1 month, 1 year, 1 month and 3 days
+ *
+ * calendar pieces are regular `Year`, `Month` and `Day` intervals (so they match rollup keys),
+ * thus for offsets putting day end into DST transition hour they keep bounds of those intervals
+ *
+ * usage:
+ *   List<Interval> pieces = IntervalDecomposer.cover(query, ZoneId.of("Europe/Berlin"), 0);
+ */
+public final class IntervalDecomposer {
+
+    private IntervalDecomposer() {
+        // private default constructor to prevent class instantiation
+    }
+
+    /**
+     * @return pieces covering interval (in interval timezone, with no offset)
+     */
+    public static List<Interval> cover(Interval interval) {
+        return cover(interval, interval.timezone().toZoneId(), 0);
+    }
+
+    /**
+     * @return pieces covering interval (in given timezone, with no offset)
+     */
+    public static List<Interval> cover(Interval interval, ZoneId timezone) {
+        return cover(interval, timezone, 0);
+    }
+
+    /**
+     * @param interval interval to decompose
+     * @param timezone timezone of calendar pieces
+     * @param offset offset of calendar pieces in hours
+     * @return pieces (`Year`, `Month`, `Day` and custom edge intervals) in time order
+     */
+    public static List<Interval> cover(Interval interval, ZoneId timezone, int offset) {
+        if (interval == null) {
+            throw new IllegalArgumentException("interval should not be null");
+        }
+        if (timezone == null) {
+            throw new IllegalArgumentException("timezone should not be null");
+        }
+        if (Math.abs(offset) > MAX_OFFSET) {
+            throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
+        }
+        TimeZone tz = ZoneRegistry.shared(timezone);
+        Instant start = interval.start();
+        Instant end = interval.end();
+
+        // first day starting not before interval start
+        long first = EpochMath.localEpochDay(timezone, start.getEpochSecond(), offset);
+        while (dayStart(timezone, first, offset).isBefore(start)) {
+            first++;
+        }
+        // last day ending not after interval end
+        long last = EpochMath.localEpochDay(timezone, end.getEpochSecond(), offset);
+        while (dayStart(timezone, last + 1, offset).minusNanos(1).isAfter(end)) {
+            last--;
+        }
+
+        List<Interval> result = new ArrayList<>();
+        if (first > last) {
+            result.add(custom(tz, start, end));
+            return Collections.unmodifiableList(result);
+        }
+        if (start.isBefore(dayStart(timezone, first, offset))) {
+            result.add(custom(tz, start, dayStart(timezone, first, offset).minusNanos(1)));
+        }
+        decompose(result, tz, first, last, offset);
+        Instant tail = dayStart(timezone, last + 1, offset);
+        if (!end.isBefore(tail)) {
+            result.add(custom(tz, tail, end));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    // greedy walk over whole days: largest calendar unit starting at current day and fitting the range
+    private static void decompose(List<Interval> result, TimeZone timezone, long first, long last, int offset) {
+        long current = first;
+        while (current <= last) {
+            long civil = EpochMath.civil(current);
+            int year = EpochMath.year(civil);
+            int month = EpochMath.month(civil);
+            int day = EpochMath.day(civil);
+            if (day == 1 && month == 1 && current + EpochMath.lengthOfYear(year) - 1 <= last) {
+                result.add(IntervalBuilder.year(year, timezone, offset));
+                current += EpochMath.lengthOfYear(year);
+            } else if (day == 1 && current + EpochMath.lengthOfMonth(year, month) - 1 <= last) {
+                result.add(IntervalBuilder.month(year, month, timezone, offset));
+                current += EpochMath.lengthOfMonth(year, month);
+            } else {
+                result.add(IntervalBuilder.day(year, month, day, timezone, offset));
+                current++;
+            }
+        }
+    }
+
+    private static Instant dayStart(ZoneId timezone, long epochDay, int offset) {
+        long localEpochSecond = epochDay * EpochMath.SECONDS_PER_DAY + (long) offset * EpochMath.SECONDS_PER_HOUR;
+        return Instant.ofEpochSecond(EpochMath.toEpochSecond(timezone, localEpochSecond));
+    }
+
+    private static Interval custom(TimeZone timezone, Instant start, Instant end) {
+        return CustomInterval.ofEpochBounds(timezone, start, end);
+    }
+
+}
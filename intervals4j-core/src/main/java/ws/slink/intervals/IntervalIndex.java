@@ -0,0 +1,426 @@
+package ws.slink.intervals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Immutable index of intervals with associated values for stabbing queries
+ * ("which intervals contain timestamp t")
+ *
+ * index is an implicit augmented interval tree: intervals are sorted by start and stored in
+ * flat primitive arrays, node of range [lo, hi) is its middle element and keeps maximum end
+ * of the whole range; query is O(log n + k) for k matches and does not allocate
+ *
+ * usage:
+ *   IntervalIndex<String> index = IntervalIndex.<String>builder()
+ *       .add(interval1, "a")
+ *       .add(interval2, "b")
+ *       .build();
+ *   index.query(epochMilli, value -> ...);
+ *
+ * @param <V> value type
+ */
+public final class IntervalIndex<V> {
+
+    // ranges larger than that are sorted and augmented in parallel
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+    // ranges not larger than that are sorted by insertion
+    private static final int INSERTION_THRESHOLD = 32;
+
+    private final long[] startSeconds;
+    private final int[] startNanos;
+    private final long[] endSeconds;
+    private final int[] endNanos;
+    private final long[] maxEndSeconds;
+    private final int[] maxEndNanos;
+    // package-private: copied on write by IntervalMap
+    final Interval[] intervals;
+    final Object[] values;
+
+    /**
+     * @param intervals intervals sorted by start (`Interval.compareBounds` order)
+     * @param values values of intervals (same order)
+     * @param parallel augment tree in common fork-join pool
+     */
+    IntervalIndex(Interval[] intervals, Object[] values, boolean parallel) {
+        this(intervals, values, new long[intervals.length], new int[intervals.length],
+            new long[intervals.length], new int[intervals.length]);
+        for (int i = 0; i < intervals.length; i++) {
+            Interval interval = intervals[i];
+            this.startSeconds[i] = interval.startEpochSecond();
+            this.startNanos[i] = interval.startNano();
+            this.endSeconds[i] = interval.endEpochSecond();
+            this.endNanos[i] = interval.endNano();
+        }
+        augment(parallel);
+    }
+
+    // bounds arrays are filled (in the order of intervals) and tree is augmented by caller
+    private IntervalIndex(Interval[] intervals, Object[] values, long[] startSeconds, int[] startNanos,
+                          long[] endSeconds, int[] endNanos) {
+        int size = intervals.length;
+        this.startSeconds = startSeconds;
+        this.startNanos = startNanos;
+        this.endSeconds = endSeconds;
+        this.endNanos = endNanos;
+        this.maxEndSeconds = new long[size];
+        this.maxEndNanos = new int[size];
+        this.intervals = intervals;
+        this.values = values;
+    }
+
+    private void augment(boolean parallel) {
+        int size = intervals.length;
+        if (parallel && size > PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new Augment(0, size));
+        } else {
+            augment(0, size);
+        }
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    // region - queries
+
+    /**
+     * reports values of all intervals containing given timestamp
+     *
+     * @return number of matching intervals
+     */
+    public int query(long epochMilli, Consumer<? super V> consumer) {
+        return query(Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000, consumer);
+    }
+    public int query(Instant value, Consumer<? super V> consumer) {
+        return query(value.getEpochSecond(), value.getNano(), consumer);
+    }
+    public int query(long epochSecond, int nano, Consumer<? super V> consumer) {
+        return visit(0, intervals.length, epochSecond, nano, epochSecond, nano, consumer, null);
+    }
+
+    /**
+     * reports all intervals overlapping given range (sharing at least one instant with it)
+     *
+     * @return number of overlapping intervals
+     */
+    public int overlapping(Interval range, BiConsumer<? super Interval, ? super V> consumer) {
+        return visit(0, intervals.length, range.startEpochSecond(), range.startNano(),
+            range.endEpochSecond(), range.endNano(), null, consumer);
+    }
+
+    /**
+     * @return number of intervals containing given timestamp
+     */
+    public int count(long epochMilli) {
+        return query(epochMilli, null);
+    }
+    public int count(long epochSecond, int nano) {
+        return query(epochSecond, nano, null);
+    }
+
+    /**
+     * @return true if any interval contains given timestamp
+     */
+    public boolean contains(long epochMilli) {
+        return contains(0, startSeconds.length, Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000);
+    }
+    public boolean contains(Instant value) {
+        return contains(0, startSeconds.length, value.getEpochSecond(), value.getNano());
+    }
+
+    // endregion
+    // region - accessors
+
+    public int size() {
+        return startSeconds.length;
+    }
+    public boolean isEmpty() {
+        return startSeconds.length == 0;
+    }
+
+    /**
+     * @return i-th interval in start order
+     */
+    public Interval interval(int index) {
+        return intervals[index];
+    }
+
+    /**
+     * @return value of i-th interval in start order
+     */
+    @SuppressWarnings("unchecked")
+    public V value(int index) {
+        return (V) values[index];
+    }
+
+    // endregion
+    // region - tree
+
+    // reports intervals overlapping [from, to] range
+    @SuppressWarnings("unchecked")
+    private int visit(int lo, int hi, long fromSecond, int fromNano, long toSecond, int toNano,
+                      Consumer<? super V> consumer, BiConsumer<? super Interval, ? super V> entryConsumer) {
+        int count = 0;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(maxEndSeconds[mid], maxEndNanos[mid], fromSecond, fromNano) < 0) {
+                // no interval in range ends after range start
+                return count;
+            }
+            count += visit(lo, mid, fromSecond, fromNano, toSecond, toNano, consumer, entryConsumer);
+            if (compare(startSeconds[mid], startNanos[mid], toSecond, toNano) > 0) {
+                // this and all following intervals start after range end
+                return count;
+            }
+            if (compare(endSeconds[mid], endNanos[mid], fromSecond, fromNano) >= 0) {
+                count++;
+                if (consumer != null) {
+                    consumer.accept((V) values[mid]);
+                }
+                if (entryConsumer != null) {
+                    entryConsumer.accept(intervals[mid], (V) values[mid]);
+                }
+            }
+            lo = mid + 1;
+        }
+        return count;
+    }
+    private boolean contains(int lo, int hi, long second, int nano) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compare(maxEndSeconds[mid], maxEndNanos[mid], second, nano) < 0) {
+                return false;
+            }
+            if (contains(lo, mid, second, nano)) {
+                return true;
+            }
+            if (compare(startSeconds[mid], startNanos[mid], second, nano) > 0) {
+                return false;
+            }
+            if (compare(endSeconds[mid], endNanos[mid], second, nano) >= 0) {
+                return true;
+            }
+            lo = mid + 1;
+        }
+        return false;
+    }
+
+    // computes maximum end of range [lo, hi) and stores it in range middle element
+    private int augment(int lo, int hi) {
+        if (lo >= hi) {
+            return -1;
+        }
+        int mid = (lo + hi) >>> 1;
+        return augment(mid, augment(lo, mid), augment(mid + 1, hi));
+    }
+    private int augment(int mid, int left, int right) {
+        long second = endSeconds[mid];
+        int nano = endNanos[mid];
+        if (left >= 0 && compare(maxEndSeconds[left], maxEndNanos[left], second, nano) > 0) {
+            second = maxEndSeconds[left];
+            nano = maxEndNanos[left];
+        }
+        if (right >= 0 && compare(maxEndSeconds[right], maxEndNanos[right], second, nano) > 0) {
+            second = maxEndSeconds[right];
+            nano = maxEndNanos[right];
+        }
+        maxEndSeconds[mid] = second;
+        maxEndNanos[mid] = nano;
+        return mid;
+    }
+
+    private final class Augment extends RecursiveAction {
+        private final int lo;
+        private final int hi;
+        private int root = -1;
+
+        private Augment(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= PARALLEL_THRESHOLD) {
+                root = augment(lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            Augment left = new Augment(lo, mid);
+            Augment right = new Augment(mid + 1, hi);
+            invokeAll(left, right);
+            root = augment(mid, left.root, right.root);
+        }
+    }
+
+    private static int compare(long secondA, int nanoA, long secondB, int nanoB) {
+        int result = Long.compare(secondA, secondB);
+        return (result != 0) ? result : Integer.compare(nanoA, nanoB);
+    }
+
+    // endregion
+    // region - builder
+
+    /**
+     * `IntervalIndex` builder, collects (interval, value) pairs for bulk index construction
+     */
+    public static final class Builder<V> {
+
+        private final List<Interval> intervals = new ArrayList<>();
+        private final List<V> values = new ArrayList<>();
+        private boolean parallel = false;
+
+        private Builder() {
+        }
+
+        public Builder<V> add(Interval interval, V value) {
+            if (interval == null) {
+                throw new IllegalArgumentException("interval should not be null");
+            }
+            intervals.add(interval);
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * @param value if true, index is sorted and augmented in common fork-join pool
+         */
+        public Builder<V> parallel(boolean value) {
+            this.parallel = value;
+            return this;
+        }
+
+        public IntervalIndex<V> build() {
+            int size = intervals.size();
+            // sort keys are gathered into primitive arrays once, so sorting does not touch interval objects
+            long[] startSeconds = new long[size];
+            int[] startNanos = new int[size];
+            long[] endSeconds = new long[size];
+            int[] endNanos = new int[size];
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                Interval interval = intervals.get(i);
+                startSeconds[i] = interval.startEpochSecond();
+                startNanos[i] = interval.startNano();
+                endSeconds[i] = interval.endEpochSecond();
+                endNanos[i] = interval.endNano();
+                order[i] = i;
+            }
+            BoundsSort sort = new BoundsSort(startSeconds, startNanos, endSeconds, endNanos, order, new int[size], 0, size);
+            if (parallel && size > PARALLEL_THRESHOLD) {
+                ForkJoinPool.commonPool().invoke(sort);
+            } else {
+                sort.sort(0, size);
+            }
+            Interval[] sortedIntervals = new Interval[size];
+            Object[] sortedValues = new Object[size];
+            long[] sortedStartSeconds = new long[size];
+            int[] sortedStartNanos = new int[size];
+            long[] sortedEndSeconds = new long[size];
+            int[] sortedEndNanos = new int[size];
+            for (int i = 0; i < size; i++) {
+                int k = order[i];
+                sortedIntervals[i] = intervals.get(k);
+                sortedValues[i] = values.get(k);
+                sortedStartSeconds[i] = startSeconds[k];
+                sortedStartNanos[i] = startNanos[k];
+                sortedEndSeconds[i] = endSeconds[k];
+                sortedEndNanos[i] = endNanos[k];
+            }
+            IntervalIndex<V> index = new IntervalIndex<>(sortedIntervals, sortedValues,
+                sortedStartSeconds, sortedStartNanos, sortedEndSeconds, sortedEndNanos);
+            index.augment(parallel);
+            return index;
+        }
+
+    }
+
+    /**
+     * stable merge sort of index permutation by (start, end) bounds kept in primitive arrays
+     * (`Interval.compareBounds` order, equal bounds keep insertion order)
+     */
+    private static final class BoundsSort extends RecursiveAction {
+        private final long[] startSeconds;
+        private final int[] startNanos;
+        private final long[] endSeconds;
+        private final int[] endNanos;
+        private final int[] order;
+        private final int[] buffer;
+        private final int lo;
+        private final int hi;
+
+        private BoundsSort(long[] startSeconds, int[] startNanos, long[] endSeconds, int[] endNanos,
+                           int[] order, int[] buffer, int lo, int hi) {
+            this.startSeconds = startSeconds;
+            this.startNanos = startNanos;
+            this.endSeconds = endSeconds;
+            this.endNanos = endNanos;
+            this.order = order;
+            this.buffer = buffer;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= PARALLEL_THRESHOLD) {
+                sort(lo, hi);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new BoundsSort(startSeconds, startNanos, endSeconds, endNanos, order, buffer, lo, mid),
+                new BoundsSort(startSeconds, startNanos, endSeconds, endNanos, order, buffer, mid, hi));
+            merge(lo, mid, hi);
+        }
+
+        private void sort(int from, int to) {
+            if (to - from <= INSERTION_THRESHOLD) {
+                for (int i = from + 1; i < to; i++) {
+                    int key = order[i];
+                    int j = i - 1;
+                    while (j >= from && compare(order[j], key) > 0) {
+                        order[j + 1] = order[j];
+                        j--;
+                    }
+                    order[j + 1] = key;
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            sort(from, mid);
+            sort(mid, to);
+            merge(from, mid, to);
+        }
+
+        // merges sorted ranges [from, mid) and [mid, to), taking left element on ties
+        private void merge(int from, int mid, int to) {
+            if (compare(order[mid - 1], order[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(order, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < mid && compare(buffer[left], buffer[right]) <= 0)) {
+                    order[i] = buffer[left++];
+                } else {
+                    order[i] = buffer[right++];
+                }
+            }
+        }
+
+        private int compare(int a, int b) {
+            int result = IntervalIndex.compare(startSeconds[a], startNanos[a], startSeconds[b], startNanos[b]);
+            return (result != 0) ? result : IntervalIndex.compare(endSeconds[a], endNanos[a], endSeconds[b], endNanos[b]);
+        }
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,196 @@
+package ws.slink.intervals;
+
+import java.time.Instant;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent map of intervals to values with stabbing and overlap queries
+ *
+ * keys are ordered by interval epoch bounds (`Interval.compareTo`), overlapping keys are allowed;
+ * map state is an immutable `IntervalIndex` snapshot replaced on every write (copy-on-write),
+ * so readers never block and always see a consistent snapshot, while writers are serialized
+ * and pay O(n) per update; map is meant for read-mostly workloads with infrequent updates
+ *
+ * @param <V> value type
+ */
+public final class IntervalMap<V> {
+
+    private static final Interval[] NO_INTERVALS = new Interval[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private final Object lock = new Object();
+    private volatile IntervalIndex<V> snapshot = new IntervalIndex<>(NO_INTERVALS, NO_VALUES, false);
+
+    // region - updates
+
+    /**
+     * @return previous value associated with given interval (or null)
+     */
+    public V put(Interval key, V value) {
+        if (key == null) {
+            throw new IllegalArgumentException("interval should not be null");
+        }
+        synchronized (lock) {
+            IntervalIndex<V> current = snapshot;
+            int index = indexOf(current.intervals, key);
+            Interval[] intervals;
+            Object[] values;
+            V previous = null;
+            if (index >= 0) {
+                previous = current.value(index);
+                intervals = current.intervals.clone();
+                values = current.values.clone();
+                intervals[index] = key;
+                values[index] = value;
+            } else {
+                index = -index - 1;
+                intervals = insert(current.intervals, index, key, new Interval[current.intervals.length + 1]);
+                values = insert(current.values, index, value, new Object[current.values.length + 1]);
+            }
+            snapshot = new IntervalIndex<>(intervals, values, false);
+            return previous;
+        }
+    }
+
+    /**
+     * @return value removed with given interval (or null)
+     */
+    public V remove(Interval key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (lock) {
+            IntervalIndex<V> current = snapshot;
+            int index = indexOf(current.intervals, key);
+            if (index < 0) {
+                return null;
+            }
+            V previous = current.value(index);
+            snapshot = new IntervalIndex<>(
+                delete(current.intervals, index, new Interval[current.intervals.length - 1]),
+                delete(current.values, index, new Object[current.values.length - 1]),
+                false
+            );
+            return previous;
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            snapshot = new IntervalIndex<>(NO_INTERVALS, NO_VALUES, false);
+        }
+    }
+
+    // endregion
+    // region - lookups
+
+    public V get(Interval key) {
+        if (key == null) {
+            return null;
+        }
+        IntervalIndex<V> current = snapshot;
+        int index = indexOf(current.intervals, key);
+        return (index >= 0) ? current.value(index) : null;
+    }
+    public boolean containsKey(Interval key) {
+        return key != null && indexOf(snapshot.intervals, key) >= 0;
+    }
+    public int size() {
+        return snapshot.size();
+    }
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    /**
+     * reports values of all intervals containing given timestamp
+     *
+     * @return number of matching intervals
+     */
+    public int query(long epochMilli, Consumer<? super V> consumer) {
+        return snapshot.query(epochMilli, consumer);
+    }
+    public int query(Instant value, Consumer<? super V> consumer) {
+        return snapshot.query(value, consumer);
+    }
+    public boolean contains(long epochMilli) {
+        return snapshot.contains(epochMilli);
+    }
+
+    /**
+     * reports all entries with intervals overlapping given range
+     *
+     * @return number of overlapping intervals
+     */
+    public int overlapping(Interval range, BiConsumer<? super Interval, ? super V> consumer) {
+        return snapshot.overlapping(range, consumer);
+    }
+
+    /**
+     * iterates over all entries in key order
+     */
+    public void forEach(BiConsumer<? super Interval, ? super V> consumer) {
+        IntervalIndex<V> current = snapshot;
+        for (int i = 0; i < current.size(); i++) {
+            consumer.accept(current.interval(i), current.value(i));
+        }
+    }
+
+    /**
+     * @return immutable point-in-time view of the map
+     */
+    public IntervalIndex<V> snapshot() {
+        return snapshot;
+    }
+
+    // endregion
+    // region - helpers
+
+    private static int indexOf(Interval[] intervals, Interval key) {
+        int lo = 0;
+        int hi = intervals.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int result = intervals[mid].compareTo(key);
+            if (result < 0) {
+                lo = mid + 1;
+            } else if (result > 0) {
+                hi = mid - 1;
+            } else if (intervals[mid].equals(key)) {
+                return mid;
+            } else {
+                // same ordering position, but not equal (custom implementation): scan neighbours
+                return scan(intervals, key, mid);
+            }
+        }
+        return -(lo + 1);
+    }
+    private static int scan(Interval[] intervals, Interval key, int from) {
+        for (int i = from; i >= 0 && intervals[i].compareTo(key) == 0; i--) {
+            if (intervals[i].equals(key)) {
+                return i;
+            }
+        }
+        for (int i = from + 1; i < intervals.length && intervals[i].compareTo(key) == 0; i++) {
+            if (intervals[i].equals(key)) {
+                return i;
+            }
+        }
+        return -(from + 1);
+    }
+    private static <T> T[] insert(T[] source, int index, T value, T[] target) {
+        System.arraycopy(source, 0, target, 0, index);
+        target[index] = value;
+        System.arraycopy(source, index, target, index + 1, source.length - index);
+        return target;
+    }
+    private static <T> T[] delete(T[] source, int index, T[] target) {
+        System.arraycopy(source, 0, target, 0, index);
+        System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+        return target;
+    }
+
+    // endregion
+
+}
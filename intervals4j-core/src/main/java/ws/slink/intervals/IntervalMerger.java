@@ -0,0 +1,167 @@
+package ws.slink.intervals;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Coalesces large collections of (possibly overlapping) intervals into disjoint ranges
+ *
+ * interval bounds are extracted to primitive epoch millisecond arrays (see `IntervalSet`),
+ * starts and ends are sorted independently with `Arrays.parallelSort` and swept in chunks
+ * in common fork-join pool;
+ * coverage depth at chunk start is found by binary search, so chunk results are simply
+ * concatenated and the result is identical to a sequential sweep
+ *
+ * usage:
+ *   IntervalSet merged = IntervalMerger.merge(sessions);
+ *   List<Interval> ranges = IntervalMerger.mergeToIntervals(sessions);
+ */
+public final class IntervalMerger {
+
+    // inputs smaller than that are merged sequentially
+    private static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    private IntervalMerger() {
+    }
+
+    /**
+     * @return union of given intervals in timezone of the first one (UTC for empty collection)
+     */
+    public static IntervalSet merge(Collection<? extends Interval> intervals) {
+        TimeZone timezone = intervals.isEmpty() ? ZoneRegistry.UTC : ZoneRegistry.canonical(intervals.iterator().next().timezone());
+        return merge(timezone, intervals);
+    }
+    public static IntervalSet merge(ZoneId timezone, Collection<? extends Interval> intervals) {
+        return merge(ZoneRegistry.shared(timezone), intervals);
+    }
+
+    /**
+     * @return disjoint ranges covering given intervals (as `CustomInterval`s in timezone of the first one)
+     */
+    public static List<Interval> mergeToIntervals(Collection<? extends Interval> intervals) {
+        return merge(intervals).toIntervals();
+    }
+    public static List<Interval> mergeToIntervals(ZoneId timezone, Collection<? extends Interval> intervals) {
+        return merge(timezone, intervals).toIntervals();
+    }
+
+    static IntervalSet merge(TimeZone timezone, Collection<? extends Interval> intervals) {
+        Interval[] source = intervals.toArray(new Interval[0]);
+        boolean parallel = source.length > PARALLEL_THRESHOLD;
+        long[] starts = new long[source.length];
+        long[] ends = new long[source.length];
+        if (parallel) {
+            Arrays.parallelSetAll(starts, i -> IntervalSet.startMillis(source[i]));
+            Arrays.parallelSetAll(ends, i -> IntervalSet.endMillis(source[i]));
+        } else {
+            Arrays.setAll(starts, i -> IntervalSet.startMillis(source[i]));
+            Arrays.setAll(ends, i -> IntervalSet.endMillis(source[i]));
+        }
+        return new IntervalSet(timezone, coalesce(starts, ends, parallel));
+    }
+
+    /**
+     * sorts given bounds (in place) and coalesces them into normalized boundary array
+     *
+     * @param starts inclusive interval starts (epoch millis)
+     * @param ends exclusive interval ends (epoch millis)
+     */
+    static long[] coalesce(long[] starts, long[] ends, boolean parallel) {
+        if (!parallel) {
+            Arrays.sort(starts);
+            Arrays.sort(ends);
+            return sweep(starts, ends, 0, starts.length, 0, ends.length);
+        }
+        Arrays.parallelSort(starts);
+        Arrays.parallelSort(ends);
+        int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, starts.length / PARALLEL_THRESHOLD));
+        long[][] parts = new long[chunks][];
+        ForkJoinPool.commonPool().invoke(new Sweep(starts, ends, parts, 0, chunks));
+        int size = 0;
+        for (long[] part : parts) {
+            size += part.length;
+        }
+        long[] result = new long[size];
+        int position = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, result, position, part.length);
+            position += part.length;
+        }
+        return result;
+    }
+
+    // merges starts [i, iEnd) and ends [j, jEnd) tracking coverage depth,
+    // starts go first on ties, so touching intervals are coalesced;
+    // sweep position (i, j) uniquely defines depth, so chunks can be processed independently
+    private static long[] sweep(long[] starts, long[] ends, int i, int iEnd, int j, int jEnd) {
+        long[] result = new long[(iEnd - i) + (jEnd - j)];
+        int size = 0;
+        int depth = i - j;
+        while (i < iEnd || j < jEnd) {
+            if (i < iEnd && (j >= jEnd || starts[i] <= ends[j])) {
+                if (depth++ == 0) {
+                    result[size++] = starts[i];
+                }
+                i++;
+            } else {
+                if (--depth == 0) {
+                    result[size++] = ends[j];
+                }
+                j++;
+            }
+        }
+        return (size == result.length) ? result : Arrays.copyOf(result, size);
+    }
+
+    // number of ends processed by sequential sweep before given start
+    private static int endsBefore(long[] ends, long start) {
+        int lo = 0;
+        int hi = ends.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] < start) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static final class Sweep extends RecursiveAction {
+        private final long[] starts;
+        private final long[] ends;
+        private final long[][] parts;
+        private final int from;
+        private final int to;
+
+        private Sweep(long[] starts, long[] ends, long[][] parts, int from, int to) {
+            this.starts = starts;
+            this.ends = ends;
+            this.parts = parts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Sweep(starts, ends, parts, from, mid), new Sweep(starts, ends, parts, mid, to));
+                return;
+            }
+            int count = starts.length;
+            int i = (int) ((long) count * from / parts.length);
+            int iEnd = (int) ((long) count * (from + 1) / parts.length);
+            int j = (i == count) ? count : endsBefore(ends, starts[i]);
+            int jEnd = (iEnd == count) ? count : endsBefore(ends, starts[iEnd]);
+            parts[from] = sweep(starts, ends, i, iEnd, j, jEnd);
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.OffsetAwareInterval;
+
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list view over `count` consecutive `Year`, `Month` or `Day` intervals
+ * (with same timezone and offset) starting from given one
+ *
+ * sequence has no backing storage: it keeps first period in packed form (see `PackedInterval`),
+ * elements are created on access, so `get(i)` is O(1), `indexOf(Instant)` is a binary search
+ * over packed bounds and `subList` is a sequence too
+ *
+ * usage:
+ *   IntervalSequence months = IntervalSequence.of(Month.of("2015-01"), 120);
+ *   Interval page = months.get(42);
+ *   int index = months.indexOf(Instant.now());
+ */
+public final class IntervalSequence extends AbstractList<Interval> implements RandomAccess {
+
+    private final long first;
+    private final int size;
+
+    private IntervalSequence(long first, int size) {
+        this.first = first;
+        this.size = size;
+    }
+
+    /**
+     * @param first first interval of sequence (`Year`, `Month` or `Day`)
+     * @param count number of intervals in sequence
+     * @return sequence of consecutive intervals
+     */
+    public static IntervalSequence of(Interval first, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count should not be negative");
+        }
+        return new IntervalSequence(PackedInterval.encode(first), count);
+    }
+
+    /**
+     * @param first first interval of sequence (`Year`, `Month` or `Day`)
+     * @param last last interval of sequence (same type, timezone and offset as `first`)
+     * @return sequence of consecutive intervals from `first` to `last` (both inclusive)
+     */
+    public static IntervalSequence range(Interval first, Interval last) {
+        long from = PackedInterval.encode(first);
+        long to = PackedInterval.encode(last);
+        if (!sameKind(from, to)) {
+            throw new IllegalArgumentException("first and last intervals should be of same type, timezone and offset");
+        }
+        long count = PackedInterval.period(to) - PackedInterval.period(from) + 1;
+        if (count < 0) {
+            throw new IllegalArgumentException("last interval should not be before first one");
+        }
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("sequence is too long: " + count);
+        }
+        return new IntervalSequence(from, (int) count);
+    }
+
+    // region - list
+
+    @Override
+    public Interval get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return PackedInterval.decode(PackedInterval.plus(first, index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object value) {
+        if (!(value instanceof OffsetAwareInterval)) {
+            return -1;
+        }
+        long packed;
+        try {
+            packed = PackedInterval.encode((Interval) value);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+        if (!sameKind(first, packed)) {
+            return -1;
+        }
+        long index = PackedInterval.period(packed) - PackedInterval.period(first);
+        return (index >= 0 && index < size) ? (int) index : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object value) {
+        // elements are distinct
+        return indexOf(value);
+    }
+
+    @Override
+    public List<Interval> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("from: " + fromIndex + ", to: " + toIndex + ", size: " + size);
+        }
+        return new IntervalSequence(PackedInterval.plus(first, fromIndex), toIndex - fromIndex);
+    }
+
+    // endregion
+    // region - lookup
+
+    /**
+     * @return index of interval containing given timestamp or -1 if there is no such interval
+     */
+    public int indexOf(Instant value) {
+        return indexOfSecond(value.getEpochSecond());
+    }
+
+    /**
+     * @return index of interval containing timestamp given as milliseconds from epoch
+     *         or -1 if there is no such interval
+     */
+    public int indexOf(long epochMilli) {
+        return indexOfSecond(Math.floorDiv(epochMilli, 1000L));
+    }
+
+    // interval starts are whole seconds and ends are last nanoseconds of seconds,
+    // so comparing epoch seconds is enough
+    private int indexOfSecond(long epochSecond) {
+        // find last interval starting not after given timestamp
+        int lo = 0;
+        int hi = size - 1;
+        int found = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (PackedInterval.startEpochSecond(PackedInterval.plus(first, mid)) <= epochSecond) {
+                found = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        if (found < 0 || PackedInterval.endEpochSecond(PackedInterval.plus(first, found)) < epochSecond) {
+            return -1;
+        }
+        return found;
+    }
+
+    // endregion
+
+    private static boolean sameKind(long a, long b) {
+        return PackedInterval.type(a) == PackedInterval.type(b)
+            && PackedInterval.zoneIndex(a) == PackedInterval.zoneIndex(b)
+            && PackedInterval.offset(a) == PackedInterval.offset(b);
+    }
+
+}
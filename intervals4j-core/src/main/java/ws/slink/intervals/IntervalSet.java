@@ -0,0 +1,296 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.CustomInterval;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Immutable normalized set of time instants (union of disjoint intervals)
+ *
+ * set is stored as a sorted array of epoch millisecond boundaries: even elements are interval
+ * starts (inclusive), odd elements are interval ends (exclusive); adjacent and overlapping
+ * intervals are coalesced, so every set has a single representation;
+ * union, intersection, difference and complement are linear merges of boundary arrays,
+ * `contains` is a binary search and total duration is precomputed
+ *
+ * starts are rounded down and ends are rounded up to whole milliseconds, so a set never loses
+ * instants of its source intervals (intervals of the library have whole second starts and
+ * ends, so they are stored exactly); instants outside epoch millisecond `long` range
+ * (about +/- 292 million years, e.g. default `LocalDateTime.MIN` .. `LocalDateTime.MAX` bounds)
+ * are treated as unbounded past or future;
+ * set keeps timezone of its source intervals, which is used to convert it back to intervals
+ */
+public final class IntervalSet {
+
+    private static final long MIN_SECOND = Long.MIN_VALUE / EpochMath.MILLIS_PER_SECOND + 1;
+    private static final long MAX_SECOND = Long.MAX_VALUE / EpochMath.MILLIS_PER_SECOND - 1;
+
+    // boundaries standing for unbounded past (start) and unbounded future (end)
+    private static final long PAST = Long.MIN_VALUE;
+    private static final long FUTURE = Long.MAX_VALUE;
+
+    private static final int OR = 0;
+    private static final int AND = 1;
+    private static final int AND_NOT = 2;
+
+    private final TimeZone timezone;
+    private final long[] boundaries;
+    private final long totalMillis;
+
+    IntervalSet(TimeZone timezone, long[] boundaries) {
+        this.timezone = timezone;
+        this.boundaries = boundaries;
+        long total = 0;
+        for (int i = 0; i < boundaries.length; i += 2) {
+            long length = boundaries[i + 1] - boundaries[i];
+            // unbounded sets (and differences overflowing `long`) saturate
+            total = (length < 0 || total > Long.MAX_VALUE - length) ? Long.MAX_VALUE : total + length;
+        }
+        this.totalMillis = total;
+    }
+
+    // region - factories
+
+    public static IntervalSet empty() {
+        return new IntervalSet(ZoneRegistry.UTC, new long[0]);
+    }
+    public static IntervalSet empty(ZoneId timezone) {
+        return new IntervalSet(ZoneRegistry.shared(timezone), new long[0]);
+    }
+
+    /**
+     * @return union of given intervals in timezone of the first one
+     */
+    public static IntervalSet of(Interval... intervals) {
+        return of(Arrays.asList(intervals));
+    }
+
+    /**
+     * @return union of given intervals in timezone of the first one (UTC for empty collection)
+     */
+    public static IntervalSet of(Collection<? extends Interval> intervals) {
+        TimeZone timezone = intervals.isEmpty() ? ZoneRegistry.UTC : ZoneRegistry.canonical(intervals.iterator().next().timezone());
+        return of(timezone, intervals);
+    }
+    public static IntervalSet of(ZoneId timezone, Collection<? extends Interval> intervals) {
+        return of(ZoneRegistry.shared(timezone), intervals);
+    }
+
+    private static IntervalSet of(TimeZone timezone, Collection<? extends Interval> intervals) {
+        return IntervalMerger.merge(timezone, intervals);
+    }
+
+    // endregion
+    // region - set algebra
+
+    public IntervalSet union(IntervalSet other) {
+        return new IntervalSet(timezone, combine(boundaries, other.boundaries, OR));
+    }
+    public IntervalSet intersect(IntervalSet other) {
+        return new IntervalSet(timezone, combine(boundaries, other.boundaries, AND));
+    }
+    public IntervalSet minus(IntervalSet other) {
+        return new IntervalSet(timezone, combine(boundaries, other.boundaries, AND_NOT));
+    }
+
+    /**
+     * @return instants of bounding interval not covered by this set
+     */
+    public IntervalSet complement(Interval within) {
+        long[] bounds = {startMillis(within), endMillis(within)};
+        return new IntervalSet(timezone, combine(bounds, boundaries, AND_NOT));
+    }
+
+    // linear merge of two boundary arrays: output boundary is emitted whenever
+    // operation result changes; parity of consumed boundaries tells if we are inside a set
+    private static long[] combine(long[] a, long[] b, int operation) {
+        long[] result = new long[a.length + b.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        boolean inside = false;
+        while (i < a.length || j < b.length) {
+            long value = (j >= b.length || (i < a.length && a[i] <= b[j])) ? a[i] : b[j];
+            if (i < a.length && a[i] == value) {
+                i++;
+            }
+            if (j < b.length && b[j] == value) {
+                j++;
+            }
+            boolean inA = (i & 1) == 1;
+            boolean inB = (j & 1) == 1;
+            boolean now;
+            switch (operation) {
+                case AND:
+                    now = inA && inB;
+                    break;
+                case AND_NOT:
+                    now = inA && !inB;
+                    break;
+                default:
+                    now = inA || inB;
+                    break;
+            }
+            if (now != inside) {
+                result[size++] = value;
+                inside = now;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // endregion
+    // region - queries
+
+    public boolean contains(long epochMilli) {
+        return containsMillis(Math.min(epochMilli, FUTURE - 1));
+    }
+    public boolean contains(long epochSecond, int nano) {
+        return containsMillis(toStartMillis(epochSecond, nano));
+    }
+    public boolean contains(Instant value) {
+        return contains(value.getEpochSecond(), value.getNano());
+    }
+    private boolean containsMillis(long value) {
+        int index = Arrays.binarySearch(boundaries, value);
+        // exact match: start boundaries (even) are inclusive, end boundaries (odd) are exclusive;
+        // otherwise value is inside if insertion point is after a start boundary
+        return (index >= 0) ? (index & 1) == 0 : ((-index - 1) & 1) == 1;
+    }
+
+    /**
+     * @return total duration covered by set (`Long.MAX_VALUE` milliseconds for unbounded sets)
+     */
+    public Duration duration() {
+        return Duration.ofMillis(totalMillis);
+    }
+    public long totalMillis() {
+        return totalMillis;
+    }
+
+    // endregion
+    // region - accessors
+
+    public TimeZone timezone() {
+        return ZoneRegistry.copy(timezone);
+    }
+
+    /**
+     * @return number of disjoint intervals in set
+     */
+    public int size() {
+        return boundaries.length / 2;
+    }
+    public boolean isEmpty() {
+        return boundaries.length == 0;
+    }
+    public Instant start(int index) {
+        return toStart(boundaries[2 * index]);
+    }
+    public Instant end(int index) {
+        return toEnd(boundaries[2 * index + 1]);
+    }
+
+    /**
+     * @return disjoint intervals of the set (in set timezone) ordered by start;
+     *         intervals are built from exact epoch bounds, so `IntervalSet.of(set.toIntervals())`
+     *         equals `set` (also for bounds falling into repeated DST hour)
+     */
+    public List<Interval> toIntervals() {
+        List<Interval> result = new ArrayList<>(size());
+        for (int i = 0; i < boundaries.length; i += 2) {
+            result.add(CustomInterval.ofEpochBounds(timezone, toStart(boundaries[i]), toEnd(boundaries[i + 1])));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    // endregion
+    // region - value semantics
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof IntervalSet)) {
+            return false;
+        }
+        IntervalSet that = (IntervalSet) other;
+        return timezone.getID().equals(that.timezone.getID()) && Arrays.equals(boundaries, that.boundaries);
+    }
+    @Override
+    public int hashCode() {
+        return 31 * timezone.getID().hashCode() + Arrays.hashCode(boundaries);
+    }
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (Interval interval : toIntervals()) {
+            if (result.length() > 1) {
+                result.append(", ");
+            }
+            result.append(interval);
+        }
+        return result.append("]").toString();
+    }
+
+    // endregion
+    // region - helpers
+
+    static long startMillis(Interval interval) {
+        return toStartMillis(interval.startEpochSecond(), interval.startNano());
+    }
+    // exclusive end, rounded up to whole milliseconds
+    static long endMillis(Interval interval) {
+        long second = interval.endEpochSecond();
+        if (second < MIN_SECOND) {
+            return PAST + 1;
+        }
+        if (second > MAX_SECOND) {
+            return FUTURE;
+        }
+        return second * EpochMath.MILLIS_PER_SECOND + interval.endNano() / EpochMath.NANOS_PER_MILLI + 1;
+    }
+    // inclusive start, rounded down to whole milliseconds
+    private static long toStartMillis(long epochSecond, int nano) {
+        if (epochSecond < MIN_SECOND) {
+            return PAST;
+        }
+        if (epochSecond > MAX_SECOND) {
+            return FUTURE - 1;
+        }
+        return epochSecond * EpochMath.MILLIS_PER_SECOND + nano / EpochMath.NANOS_PER_MILLI;
+    }
+
+    private Instant toStart(long boundary) {
+        if (boundary == PAST) {
+            return toInstant(LocalDateTime.MIN);
+        }
+        return Instant.ofEpochMilli(boundary);
+    }
+    // inclusive end of interval with given exclusive end boundary
+    private Instant toEnd(long boundary) {
+        if (boundary == FUTURE) {
+            return toInstant(LocalDateTime.MAX);
+        }
+        return Instant.ofEpochMilli(boundary).minusNanos(1);
+    }
+    private Instant toInstant(LocalDateTime value) {
+        long epochSecond = EpochMath.toEpochSecond(timezone.toZoneId(), value.toEpochSecond(ZoneOffset.UTC));
+        return Instant.ofEpochSecond(epochSecond, value.getNano());
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,119 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.tools.EpochMath;
+
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spliterator over consecutive calendar intervals (days, months, ...) given by period numbers range
+ *
+ * element count is known up front and splitting is done by index arithmetic, so parallel
+ * streams are perfectly balanced; elements are created lazily by period number with
+ * already resolved timezone
+ */
+final class IntervalSpliterator<T extends Interval> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+
+    private final LongFunction<T> factory;
+    private long origin;
+    private final long fence;
+
+    /**
+     * @param factory creates interval by period number
+     * @param origin first period number (inclusive)
+     * @param fence last period number (exclusive)
+     */
+    IntervalSpliterator(LongFunction<T> factory, long origin, long fence) {
+        this.factory = factory;
+        this.origin = origin;
+        this.fence = Math.max(origin, fence);
+    }
+
+    /**
+     * @return stream of days with given epoch day numbers (both inclusive)
+     */
+    static Stream<Day> days(TimeZone timezone, long fromEpochDay, long toEpochDay, int offset) {
+        return StreamSupport.stream(new IntervalSpliterator<>(epochDay -> {
+            long civil = EpochMath.civil(epochDay);
+            return IntervalBuilder.day(EpochMath.year(civil), EpochMath.month(civil), EpochMath.day(civil), timezone, offset);
+        }, fromEpochDay, toEpochDay + 1), false);
+    }
+
+    /**
+     * @return stream of months with given epoch month numbers (both inclusive)
+     */
+    static Stream<Month> months(TimeZone timezone, long fromEpochMonth, long toEpochMonth, int offset) {
+        return StreamSupport.stream(new IntervalSpliterator<>(epochMonth -> IntervalBuilder.month(
+            EpochMath.yearOfEpochMonth(epochMonth),
+            EpochMath.monthOfEpochMonth(epochMonth),
+            timezone,
+            offset
+        ), fromEpochMonth, toEpochMonth + 1), false);
+    }
+
+    /**
+     * @return stream of hours of a day created by hour of day number (0 .. `count - 1`)
+     */
+    static Stream<Hour> hours(LongFunction<Hour> factory, long count) {
+        return StreamSupport.stream(new IntervalSpliterator<>(factory, 0, count), false);
+    }
+
+    /**
+     * @return stream of quarters with given epoch quarter numbers (both inclusive)
+     */
+    static Stream<Quarter> quarters(TimeZone timezone, long fromEpochQuarter, long toEpochQuarter, int offset) {
+        return StreamSupport.stream(new IntervalSpliterator<>(epochQuarter -> IntervalBuilder.quarter(
+            EpochMath.yearOfEpochQuarter(epochQuarter),
+            EpochMath.quarterOfEpochQuarter(epochQuarter),
+            timezone,
+            offset
+        ), fromEpochQuarter, toEpochQuarter + 1), false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (origin >= fence) {
+            return false;
+        }
+        action.accept(factory.apply(origin++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        long current = origin;
+        origin = fence;
+        for (; current < fence; current++) {
+            action.accept(factory.apply(current));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        // period numbers may be negative (before 1970)
+        long mid = origin + ((fence - origin) >>> 1);
+        if (mid <= origin) {
+            return null;
+        }
+        IntervalSpliterator<T> prefix = new IntervalSpliterator<>(factory, origin, mid);
+        origin = mid;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+
+}
@@ -0,0 +1,66 @@
+package ws.slink.intervals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * `TimeSeriesAggregate` with `long` sample values
+ */
+public final class LongTimeSeriesAggregate extends TimeSeriesAggregate {
+
+    // Fenwick tree of sample sums (1-based)
+    private long[] sums;
+
+    LongTimeSeriesAggregate(Duration step, long originEpochMilli) {
+        super(step, originEpochMilli);
+        this.sums = new long[capacity()];
+    }
+
+    /**
+     * adds sample to the bucket containing timestamp given as milliseconds from epoch
+     */
+    public void add(long epochMilli, long value) {
+        int index = prepare(epochMilli);
+        update(sums, index + 1, value);
+        record(index, value);
+    }
+
+    /**
+     * adds sample to the bucket containing given timestamp
+     */
+    public void add(Instant timestamp, long value) {
+        add(timestamp.toEpochMilli(), value);
+    }
+
+    /**
+     * @return sum of samples in buckets starting within interval
+     */
+    public long sum(Interval interval) {
+        long from = firstIndex(interval);
+        long to = lastIndex(interval);
+        if (from > to) {
+            return 0;
+        }
+        return prefix(sums, (int) to + 1) - prefix(sums, (int) from);
+    }
+
+    /**
+     * @return maximum sample in buckets starting within interval
+     *         (`Long.MIN_VALUE` if there are no samples)
+     */
+    public long max(Interval interval) {
+        return maxKey(interval);
+    }
+
+    @Override
+    void grow(int capacity) {
+        sums = Arrays.copyOf(sums, capacity);
+    }
+
+    @Override
+    void materialize(int node) {
+        materialize(sums, node);
+    }
+
+}
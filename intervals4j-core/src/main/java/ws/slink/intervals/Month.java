@@ -1,37 +1,78 @@
 package ws.slink.intervals;
 
+import ws.slink.intervals.exception.InvalidMonthException;
 import ws.slink.intervals.impl.OffsetAwareInterval;
 import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjusters;
+import java.time.ZoneId;
 import java.util.TimeZone;
+import java.util.stream.Stream;
 
 /**
  * `Month` implementation of Interval interface
  */
 public class Month extends OffsetAwareInterval {
 
+    private static final long MIN_EPOCH_MONTH = EpochMath.epochMonth(LocalDate.MIN.getYear(), 1);
+    private static final long MAX_EPOCH_MONTH = EpochMath.epochMonth(LocalDate.MAX.getYear(), 12);
+
     public Month(TimeZone timezone, LocalDateTime start, LocalDateTime end) {
         this(timezone, start, end, 0);
     }
     public Month(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
-        super(timezone, start, end, offset);
-        this.start = start.with(TemporalAdjusters.firstDayOfMonth()).with(CalendarTools.TO_START_OF_DAY).plusHours(offset);
-        this.end = start.with(TemporalAdjusters.lastDayOfMonth()).with(CalendarTools.TO_END_OF_DAY).plusHours(offset);
+        super(timezone, start, end, offset, CalendarTools.TO_START_OF_MONTH, CalendarTools.TO_END_OF_MONTH);
     }
 
     @Override
-    public Interval previous() {
-        LocalDateTime prev = this.start.minusMonths(1);
+    public Month previous() {
+        return plus(-1);
+    }
+
+    @Override
+    public Month next() {
+        return plus(1);
+    }
+
+    /**
+     * @return month `months` months after this one (with same timezone and offset)
+     */
+    public Month plus(long months) {
+        long epochMonth = Math.addExact(epochMonth(), months);
+        if (epochMonth < MIN_EPOCH_MONTH || epochMonth > MAX_EPOCH_MONTH) {
+            throw new InvalidMonthException("epoch month " + epochMonth + " is out of range");
+        }
         return IntervalBuilder.month(
-            prev.getYear(),
-            prev.getMonthValue(),
-            this.timezone().getID(),
+            EpochMath.yearOfEpochMonth(epochMonth),
+            EpochMath.monthOfEpochMonth(epochMonth),
+            this.timezone,
             offset
         );
     }
 
+    /**
+     * @return month `months` months before this one (with same timezone and offset)
+     */
+    public Month minus(long months) {
+        return plus(Math.negateExact(months));
+    }
+
+    /**
+     * @return number of months from `from` to `to` (negative if `to` is before `from`)
+     */
+    public static long between(Month from, Month to) {
+        return to.epochMonth() - from.epochMonth();
+    }
+
+    // calendar month of the interval (without offset shift)
+    private long epochMonth() {
+        LocalDateTime first = this.start.minusHours(offset);
+        return EpochMath.epochMonth(first.getYear(), first.getMonthValue());
+    }
+
     @Override
     public Interval withPrevious() {
         return new IntervalBuilder()
@@ -41,16 +82,35 @@ public class Month extends OffsetAwareInterval {
             .build();
     }
 
+    /**
+     * @return days of month (with same timezone and offset)
+     */
+    @Override
+    public Stream<Day> days() {
+        LocalDateTime first = this.start.minusHours(offset);
+        long epochDay = first.toLocalDate().toEpochDay();
+        return IntervalSpliterator.days(this.timezone, epochDay, epochDay + first.toLocalDate().lengthOfMonth() - 1, offset);
+    }
+
     public static Month of(String input) {
-        return of(input, "UTC");
+        return create(input, ZoneRegistry.UTC, 0);
     }
     public static Month of(String input, String timezone) {
         return of(input, timezone, 0);
     }
+    public static Month of(String input, ZoneId timezone) {
+        return of(input, timezone, 0);
+    }
     public static Month of(String input, int offset) {
-        return of(input, "UTC", offset);
+        return create(input, ZoneRegistry.UTC, offset);
     }
     public static Month of(String input, String timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Month of(String input, ZoneId timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    private static Month create(String input, TimeZone timezone, int offset) {
         Interval interval = IntervalBuilder.parse(input, timezone, offset);
         return IntervalBuilder.month(
             interval.getStart().getYear(),
@@ -60,4 +120,50 @@ public class Month extends OffsetAwareInterval {
         );
     }
 
+    public static Month of(Instant value) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, 0);
+    }
+    public static Month of(Instant value, String timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Month of(Instant value, ZoneId timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Month of(Instant value, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, offset);
+    }
+    public static Month of(Instant value, String timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Month of(Instant value, ZoneId timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Month of(long epochMilli) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, 0);
+    }
+    public static Month of(long epochMilli, String timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Month of(long epochMilli, ZoneId timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Month of(long epochMilli, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, offset);
+    }
+    public static Month of(long epochMilli, String timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Month of(long epochMilli, ZoneId timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    private static Month create(long epochSecond, TimeZone timezone, int offset) {
+        long civil = EpochMath.civil(EpochMath.localEpochDay(timezone.toZoneId(), epochSecond, offset));
+        return IntervalBuilder.month(
+            EpochMath.year(civil),
+            EpochMath.month(civil),
+            timezone,
+            offset
+        );
+    }
+
 }
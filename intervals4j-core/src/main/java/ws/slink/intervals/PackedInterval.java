@@ -0,0 +1,220 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.OffsetAwareInterval;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
+
+/**
+ * Packed 64-bit encoding of `Year`, `Month` and `Day` intervals
+ *
+ * packed value layout (from most significant bit):
+ * - 2 bits: interval type (`YEAR`, `MONTH`, `DAY`)
+ * - 6 bits: offset in hours (biased by `MAX_OFFSET`)
+ * - 16 bits: timezone index (see `ZoneRegistry.index(TimeZone)`)
+ * - 40 bits: signed period number (year for `YEAR`, months from 1970-01 for `MONTH`,
+ *   days from 1970-01-01 for `DAY`)
+ *
+ * packed values can be stored in primitive arrays and off-heap buffers, compared for equality
+ * and navigated with `next()` / `previous()` without allocating interval objects;
+ * as timezone indexes are assigned at runtime, packed values should not be persisted
+ * or passed between JVM instances
+ */
+public final class PackedInterval {
+
+    private PackedInterval() {
+        // private default constructor to prevent class instantiation
+    }
+
+    public static final int YEAR = 1;
+    public static final int MONTH = 2;
+    public static final int DAY = 3;
+
+    private static final int TYPE_SHIFT = 62;
+    private static final int OFFSET_SHIFT = 56;
+    private static final int ZONE_SHIFT = 40;
+    private static final int PERIOD_BITS = 40;
+    private static final long OFFSET_MASK = 0x3F;
+    private static final long ZONE_MASK = 0xFFFF;
+    private static final long PERIOD_MASK = (1L << PERIOD_BITS) - 1;
+
+    // region - encoding
+
+    public static long year(int year, ZoneId timezone, int offset) {
+        return pack(YEAR, year, ZoneRegistry.shared(timezone), offset);
+    }
+    public static long month(int year, int month, ZoneId timezone, int offset) {
+        checkMonth(month);
+        return pack(MONTH, EpochMath.epochMonth(year, month), ZoneRegistry.shared(timezone), offset);
+    }
+    public static long day(int year, int month, int day, ZoneId timezone, int offset) {
+        checkMonth(month);
+        if (day < 1 || day > EpochMath.lengthOfMonth(year, month)) {
+            throw new IllegalArgumentException("invalid day: " + year + "-" + month + "-" + day);
+        }
+        return pack(DAY, EpochMath.epochDay(year, month, day), ZoneRegistry.shared(timezone), offset);
+    }
+
+    /**
+     * @param interval `Year`, `Month` or `Day` interval
+     * @return packed interval
+     */
+    public static long encode(Interval interval) {
+        if (!(interval instanceof OffsetAwareInterval)) {
+            throw new IllegalArgumentException("only Year, Month and Day intervals can be packed");
+        }
+        int offset = ((OffsetAwareInterval) interval).offset();
+        LocalDateTime date = interval.getStart().minusHours(offset);
+        if (interval instanceof Day) {
+            return pack(DAY, EpochMath.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()),
+                interval.timezone(), offset);
+        } else if (interval instanceof Month) {
+            return pack(MONTH, EpochMath.epochMonth(date.getYear(), date.getMonthValue()), interval.timezone(), offset);
+        } else if (interval instanceof Year) {
+            return pack(YEAR, date.getYear(), interval.timezone(), offset);
+        }
+        throw new IllegalArgumentException("only Year, Month and Day intervals can be packed");
+    }
+
+    /**
+     * @param packed packed interval
+     * @return `Year`, `Month` or `Day` interval
+     */
+    public static OffsetAwareInterval decode(long packed) {
+        TimeZone timezone = ZoneRegistry.shared(zoneIndex(packed));
+        int offset = offset(packed);
+        long period = period(packed);
+        switch (type(packed)) {
+            case YEAR:
+                return IntervalBuilder.year((int) period, timezone, offset);
+            case MONTH:
+                return IntervalBuilder.month(
+                    EpochMath.yearOfEpochMonth(period),
+                    EpochMath.monthOfEpochMonth(period),
+                    timezone,
+                    offset
+                );
+            case DAY:
+                long civil = EpochMath.civil(period);
+                return IntervalBuilder.day(
+                    EpochMath.year(civil),
+                    EpochMath.month(civil),
+                    EpochMath.day(civil),
+                    timezone,
+                    offset
+                );
+            default:
+                throw new IllegalArgumentException("invalid packed interval: " + packed);
+        }
+    }
+
+    // endregion
+    // region - accessors
+
+    public static int type(long packed) {
+        return (int) (packed >>> TYPE_SHIFT);
+    }
+    public static int offset(long packed) {
+        return (int) ((packed >>> OFFSET_SHIFT) & OFFSET_MASK) - MAX_OFFSET;
+    }
+    public static int zoneIndex(long packed) {
+        return (int) ((packed >>> ZONE_SHIFT) & ZONE_MASK);
+    }
+    public static TimeZone timezone(long packed) {
+        return ZoneRegistry.timeZone(zoneIndex(packed));
+    }
+
+    /**
+     * @return signed period number: year, months from 1970-01 or days from 1970-01-01
+     */
+    public static long period(long packed) {
+        return (packed << (Long.SIZE - PERIOD_BITS)) >> (Long.SIZE - PERIOD_BITS);
+    }
+
+    // endregion
+    // region - navigation
+
+    public static long next(long packed) {
+        return plus(packed, 1);
+    }
+    public static long previous(long packed) {
+        return plus(packed, -1);
+    }
+    public static long plus(long packed, long periods) {
+        return (packed & ~PERIOD_MASK) | ((period(packed) + periods) & PERIOD_MASK);
+    }
+
+    // endregion
+    // region - bounds
+
+    /**
+     * @return interval start as seconds from epoch (nanosecond adjustment is always 0)
+     */
+    public static long startEpochSecond(long packed) {
+        return EpochMath.toEpochSecond(ZoneRegistry.shared(zoneIndex(packed)).toZoneId(), localStartSecond(packed, period(packed)));
+    }
+
+    /**
+     * @return interval end as seconds from epoch (nanosecond adjustment is always 999 999 999)
+     */
+    public static long endEpochSecond(long packed) {
+        return EpochMath.toEpochSecond(ZoneRegistry.shared(zoneIndex(packed)).toZoneId(), localStartSecond(packed, period(packed) + 1) - 1);
+    }
+
+    /**
+     * checks if packed interval contains timestamp given as milliseconds from epoch
+     *
+     * @return true if value is within interval
+     */
+    public static boolean contains(long packed, long epochMilli) {
+        long second = Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND);
+        return second >= startEpochSecond(packed) && second <= endEpochSecond(packed);
+    }
+
+    private static long localStartSecond(long packed, long period) {
+        long epochDay;
+        switch (type(packed)) {
+            case YEAR:
+                epochDay = EpochMath.epochDay(period, 1, 1);
+                break;
+            case MONTH:
+                epochDay = EpochMath.epochDay(
+                    EpochMath.yearOfEpochMonth(period),
+                    EpochMath.monthOfEpochMonth(period),
+                    1
+                );
+                break;
+            case DAY:
+                epochDay = period;
+                break;
+            default:
+                throw new IllegalArgumentException("invalid packed interval: " + packed);
+        }
+        return epochDay * EpochMath.SECONDS_PER_DAY + (long) offset(packed) * EpochMath.SECONDS_PER_HOUR;
+    }
+
+    // endregion
+    // region - helpers
+
+    private static long pack(int type, long period, TimeZone timezone, int offset) {
+        if (Math.abs(offset) > MAX_OFFSET) {
+            throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
+        }
+        return ((long) type << TYPE_SHIFT)
+             | ((long) (offset + MAX_OFFSET) << OFFSET_SHIFT)
+             | ((long) ZoneRegistry.index(timezone) << ZONE_SHIFT)
+             | (period & PERIOD_MASK);
+    }
+    private static void checkMonth(int month) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("invalid month: " + month);
+        }
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,63 @@
+package ws.slink.intervals;
+
+/**
+ * Interval string parse error codes
+ */
+public enum ParseError {
+
+    /**
+     * null input string
+     */
+    NULL_INPUT,
+
+    /**
+     * input is too short or too long for requested interval type
+     */
+    INVALID_LENGTH,
+
+    /**
+     * unexpected character (digit, '-' separator or 'W' / 'Q' / 'T' designator expected)
+     */
+    INVALID_CHARACTER,
+
+    /**
+     * year is out of range
+     */
+    INVALID_YEAR,
+
+    /**
+     * month is out of range
+     */
+    INVALID_MONTH,
+
+    /**
+     * day of month is out of range
+     */
+    INVALID_DAY,
+
+    /**
+     * null timezone
+     */
+    INVALID_TIMEZONE,
+
+    /**
+     * offset is out of range
+     */
+    INVALID_OFFSET,
+
+    /**
+     * week of week-based year is out of range
+     */
+    INVALID_WEEK,
+
+    /**
+     * quarter is out of range
+     */
+    INVALID_QUARTER,
+
+    /**
+     * hour of day is out of range (or local hour is skipped by DST transition)
+     */
+    INVALID_HOUR,
+
+}
@@ -0,0 +1,95 @@
+package ws.slink.intervals;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Result of non-throwing interval parsing:
+ * either parsed interval or error code with error position in input string
+ *
+ * failed results are pooled, so rejecting invalid input does not allocate
+ */
+public final class ParseResult {
+
+    private static final int MAX_POSITION = 16;
+    private static final ParseResult[][] FAILURES = new ParseResult[ParseError.values().length][MAX_POSITION + 1];
+    static {
+        for (ParseError error : ParseError.values()) {
+            for (int i = 0; i <= MAX_POSITION; i++) {
+                FAILURES[error.ordinal()][i] = new ParseResult(null, error, i);
+            }
+        }
+    }
+
+    private final Interval interval;
+    private final ParseError error;
+    private final int position;
+
+    private ParseResult(Interval interval, ParseError error, int position) {
+        this.interval = interval;
+        this.error = error;
+        this.position = position;
+    }
+
+    public static ParseResult success(Interval interval) {
+        return new ParseResult(interval, null, -1);
+    }
+    public static ParseResult failure(ParseError error, int position) {
+        if (position >= 0 && position <= MAX_POSITION) {
+            return FAILURES[error.ordinal()][position];
+        }
+        return new ParseResult(null, error, position);
+    }
+
+    /**
+     * @return true if input was parsed successfully
+     */
+    public boolean isValid() {
+        return error == null;
+    }
+
+    /**
+     * @return parsed interval
+     * @throws NoSuchElementException if input was not parsed
+     */
+    public Interval get() {
+        if (error != null) {
+            throw new NoSuchElementException("no interval parsed: " + error);
+        }
+        return interval;
+    }
+
+    /**
+     * @return parsed interval or `other` if input was not parsed
+     */
+    public Interval orElse(Interval other) {
+        return (error == null) ? interval : other;
+    }
+
+    /**
+     * @return optional parsed interval
+     */
+    public Optional<Interval> toOptional() {
+        return Optional.ofNullable(interval);
+    }
+
+    /**
+     * @return parse error or null if input was parsed successfully
+     */
+    public ParseError error() {
+        return error;
+    }
+
+    /**
+     * @return position of parse error in input string or -1 if input was parsed successfully
+     */
+    public int position() {
+        return position;
+    }
+
+    @Override
+    public String toString() {
+        return (error == null) ? "ParseResult[" + interval + "]" : "ParseResult[" + error + " at " + position + "]";
+    }
+
+}
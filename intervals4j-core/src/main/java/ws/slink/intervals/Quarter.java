@@ -0,0 +1,219 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.exception.InvalidQuarterException;
+import ws.slink.intervals.impl.OffsetAwareInterval;
+import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+/**
+ * `Quarter` implementation of Interval interface
+ *
+ * quarters are counted from configurable first month of (fiscal) year (January by default,
+ * giving calendar quarters); fiscal year is named by the calendar year it ends in,
+ * so with October as first month "2024-Q1" is October .. December 2023
+ */
+public class Quarter extends OffsetAwareInterval {
+
+    private static final long MIN_EPOCH_MONTH = EpochMath.epochMonth(LocalDate.MIN.getYear(), 1);
+    private static final long MAX_EPOCH_MONTH = EpochMath.epochMonth(LocalDate.MAX.getYear(), 12);
+
+    protected int firstMonthOfYear;
+
+    public Quarter(TimeZone timezone, LocalDateTime start, LocalDateTime end) {
+        this(timezone, start, end, 0);
+    }
+    public Quarter(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
+        this(timezone, start, end, offset, 1);
+    }
+    public Quarter(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset, int firstMonthOfYear) {
+        super(timezone, start, end, offset,
+            CalendarTools.toStartOfQuarter(firstMonthOfYear), CalendarTools.toEndOfQuarter(firstMonthOfYear));
+        this.firstMonthOfYear = firstMonthOfYear;
+    }
+
+    /**
+     * @return first month of (fiscal) year (1 - 12)
+     */
+    public int firstMonthOfYear() {
+        return firstMonthOfYear;
+    }
+
+    /**
+     * @return (fiscal) year of the quarter
+     */
+    public int year() {
+        return EpochMath.yearOfEpochQuarter(epochQuarter());
+    }
+
+    /**
+     * @return quarter of (fiscal) year (1 - 4)
+     */
+    public int quarter() {
+        return EpochMath.quarterOfEpochQuarter(epochQuarter());
+    }
+
+    @Override
+    public Quarter previous() {
+        return plus(-1);
+    }
+
+    @Override
+    public Quarter next() {
+        return plus(1);
+    }
+
+    /**
+     * @return quarter `quarters` quarters after this one (with same timezone, offset and first month of year)
+     */
+    public Quarter plus(long quarters) {
+        long epochMonth = Math.addExact(firstEpochMonth(), Math.multiplyExact(quarters, 3L));
+        if (epochMonth < MIN_EPOCH_MONTH || epochMonth > MAX_EPOCH_MONTH - 2) {
+            throw new InvalidQuarterException("epoch month " + epochMonth + " is out of range");
+        }
+        return IntervalBuilder.quarterStarting(epochMonth, this.timezone, offset, firstMonthOfYear);
+    }
+
+    /**
+     * @return quarter `quarters` quarters before this one (with same timezone, offset and first month of year)
+     */
+    public Quarter minus(long quarters) {
+        return plus(Math.negateExact(quarters));
+    }
+
+    /**
+     * @return number of quarters from `from` to `to` (negative if `to` is before `from`)
+     */
+    public static long between(Quarter from, Quarter to) {
+        return Math.floorDiv(to.firstEpochMonth() - from.firstEpochMonth(), 3);
+    }
+
+    // (fiscal) quarter of the interval
+    private long epochQuarter() {
+        return EpochMath.epochQuarterOfMonth(firstEpochMonth(), firstMonthOfYear);
+    }
+
+    // first month of the quarter (without offset shift)
+    private long firstEpochMonth() {
+        LocalDateTime first = this.start.minusHours(offset);
+        return EpochMath.epochMonth(first.getYear(), first.getMonthValue());
+    }
+
+    @Override
+    public Interval withPrevious() {
+        return new IntervalBuilder()
+            .timezone(this.timezone)
+            .start(this.start.minusMonths(3))
+            .end(this.end)
+            .build();
+    }
+
+    /**
+     * @return months of quarter (with same timezone and offset)
+     */
+    public Stream<Month> months() {
+        long epochMonth = firstEpochMonth();
+        return IntervalSpliterator.months(this.timezone, epochMonth, epochMonth + 2, offset);
+    }
+
+    /**
+     * @return days of quarter (with same timezone and offset)
+     */
+    @Override
+    public Stream<Day> days() {
+        LocalDate first = this.start.minusHours(offset).toLocalDate();
+        return IntervalSpliterator.days(this.timezone, first.toEpochDay(), first.plusMonths(3).toEpochDay() - 1, offset);
+    }
+
+    public static Quarter of(String input) {
+        return create(input, ZoneRegistry.UTC, 0);
+    }
+    public static Quarter of(String input, String timezone) {
+        return of(input, timezone, 0);
+    }
+    public static Quarter of(String input, ZoneId timezone) {
+        return of(input, timezone, 0);
+    }
+    public static Quarter of(String input, int offset) {
+        return create(input, ZoneRegistry.UTC, offset);
+    }
+    public static Quarter of(String input, String timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Quarter of(String input, ZoneId timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    private static Quarter create(String input, TimeZone timezone, int offset) {
+        LocalDateTime start = IntervalBuilder.parse(input, timezone, offset).getStart().minusHours(offset);
+        return IntervalBuilder.quarter(
+            start.getYear(),
+            CalendarTools.quarterOf(start.getMonthValue()),
+            timezone,
+            offset
+        );
+    }
+
+    public static Quarter of(Instant value) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, 0, 1);
+    }
+    public static Quarter of(Instant value, String timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Quarter of(Instant value, ZoneId timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Quarter of(Instant value, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, offset, 1);
+    }
+    public static Quarter of(Instant value, String timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset, 1);
+    }
+    public static Quarter of(Instant value, ZoneId timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset, 1);
+    }
+    public static Quarter of(Instant value, ZoneId timezone, int offset, int firstMonthOfYear) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset, firstMonthOfYear);
+    }
+    public static Quarter of(long epochMilli) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, 0, 1);
+    }
+    public static Quarter of(long epochMilli, String timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Quarter of(long epochMilli, ZoneId timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Quarter of(long epochMilli, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, offset, 1);
+    }
+    public static Quarter of(long epochMilli, String timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset, 1);
+    }
+    public static Quarter of(long epochMilli, ZoneId timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset, 1);
+    }
+    public static Quarter of(long epochMilli, ZoneId timezone, int offset, int firstMonthOfYear) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset, firstMonthOfYear);
+    }
+    private static Quarter create(long epochSecond, TimeZone timezone, int offset, int firstMonthOfYear) {
+        if (firstMonthOfYear < 1 || firstMonthOfYear > 12) {
+            throw new InvalidQuarterException("first month of year should be 1 .. 12: " + firstMonthOfYear);
+        }
+        long civil = EpochMath.civil(EpochMath.localEpochDay(timezone.toZoneId(), epochSecond, offset));
+        long epochMonth = EpochMath.epochMonth(EpochMath.year(civil), EpochMath.month(civil));
+        long epochQuarter = EpochMath.epochQuarterOfMonth(epochMonth, firstMonthOfYear);
+        return IntervalBuilder.quarterStarting(
+            EpochMath.firstEpochMonthOfQuarter(epochQuarter, firstMonthOfYear),
+            timezone,
+            offset,
+            firstMonthOfYear
+        );
+    }
+
+}
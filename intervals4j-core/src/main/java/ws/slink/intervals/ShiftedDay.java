@@ -1,5 +1,7 @@
 package ws.slink.intervals;
 
+import java.time.Duration;
+
 /**
  * Shift-aware `Month` implementation of Interval interface
  */
@@ -8,12 +10,18 @@ public class ShiftedDay extends ShiftedInterval {
     private ShiftedDay(Interval month, String shift) {
         super(month, shift);
     }
+    private ShiftedDay(Interval month, Duration shift, String source) {
+        super(month, shift, source);
+    }
 
     public static ShiftedDay of(Day day, String shift) {
         return new ShiftedDay(day, shift);
     }
-    private static ShiftedDay create(Interval day, String shift) {
-        return new ShiftedDay(day, shift);
+    public static ShiftedDay ofDuration(Day day, Duration shift) {
+        return new ShiftedDay(day, shift, null);
+    }
+    private static ShiftedDay create(Interval day, Duration shift, String source) {
+        return new ShiftedDay(day, shift, source);
     }
 
     @Override
@@ -24,6 +32,7 @@ public class ShiftedDay extends ShiftedInterval {
                 .end(this.base.getEnd())
                 .timezone(this.base.timezone())
                 .build(),
+            this.duration,
             this.shift
         );
     }
@@ -0,0 +1,41 @@
+package ws.slink.intervals;
+
+import java.time.Duration;
+
+/**
+ * Shift-aware `Hour` implementation of Interval interface
+ */
+public class ShiftedHour extends ShiftedInterval {
+
+    private ShiftedHour(Interval hour, String shift) {
+        super(hour, shift);
+    }
+    private ShiftedHour(Interval hour, Duration shift, String source) {
+        super(hour, shift, source);
+    }
+
+    public static ShiftedHour of(Hour hour, String shift) {
+        return new ShiftedHour(hour, shift);
+    }
+    public static ShiftedHour ofDuration(Hour hour, Duration shift) {
+        return new ShiftedHour(hour, shift, null);
+    }
+    private static ShiftedHour create(Interval hour, Duration shift, String source) {
+        return new ShiftedHour(hour, shift, source);
+    }
+
+    @Override
+    public Interval withPrevious() {
+        Interval previous = this.getBase().previous();
+        return ShiftedHour.create(
+            new IntervalBuilder()
+                .start(previous.getStart())
+                .end(this.base.getEnd())
+                .timezone(this.base.timezone())
+                .build(),
+            this.duration,
+            this.shift
+        );
+    }
+
+}
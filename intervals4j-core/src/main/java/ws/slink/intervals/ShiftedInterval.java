@@ -5,7 +5,6 @@ import ws.slink.intervals.exception.InvalidShiftValueException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.temporal.Temporal;
 import java.util.TimeZone;
 
 /**
@@ -14,17 +13,50 @@ import java.util.TimeZone;
 public class ShiftedInterval implements Interval {
 
     protected String shift;
+    protected Duration duration;
     protected Interval base;
 
+    // shifted bounds, resolved once on construction
+    protected LocalDateTime start;
+    protected LocalDateTime end;
+    protected Instant startInstant;
+    protected Instant endInstant;
+    protected long startSecond;
+    protected int startNano;
+    protected long endSecond;
+    protected int endNano;
+    private final int hash;
+
     protected ShiftedInterval(Interval base, String shift) {
-        validateShift(shift);
-        this.shift = shift;
+        this(base, parseShift(shift), shift);
+    }
+    protected ShiftedInterval(Interval base, Duration shift) {
+        this(base, shift, null);
+    }
+    protected ShiftedInterval(Interval base, Duration shift, String source) {
+        if (shift == null) {
+            throw new InvalidShiftValueException("null shift value passed");
+        }
+        this.shift = source;
+        this.duration = shift;
         this.base = base;
+        this.start = base.getStart().plus(shift);
+        this.end = base.getEnd().plus(shift);
+        this.startInstant = base.start().plus(shift);
+        this.endInstant = base.end().plus(shift);
+        this.startSecond = startInstant.getEpochSecond();
+        this.startNano = startInstant.getNano();
+        this.endSecond = endInstant.getEpochSecond();
+        this.endNano = endInstant.getNano();
+        this.hash = computeHash();
     }
 
     public static ShiftedInterval of(Interval base, String shift) {
         return new ShiftedInterval(base, shift);
     }
+    public static ShiftedInterval ofDuration(Interval base, Duration shift) {
+        return new ShiftedInterval(base, shift);
+    }
 
     // region - Interval API
     @Override
@@ -32,31 +64,60 @@ public class ShiftedInterval implements Interval {
         return getBase().timezone();
     }
     @Override
+    public String timezoneId() {
+        return getBase().timezoneId();
+    }
+    @Override
     public LocalDateTime getStart() {
-        return (LocalDateTime)shifted(getBase().getStart());
+        return start;
     }
     @Override
     public LocalDateTime getEnd() {
-        return (LocalDateTime)shifted(getBase().getEnd());
+        return end;
     }
     @Override
     public Instant start() {
-        return (Instant)shifted(getBase().start());
+        return startInstant;
     }
     @Override
     public Instant end() {
-        return (Instant)shifted(getBase().end());
+        return endInstant;
+    }
+    @Override
+    public long startEpochSecond() {
+        return startSecond;
+    }
+    @Override
+    public int startNano() {
+        return startNano;
+    }
+    @Override
+    public long endEpochSecond() {
+        return endSecond;
+    }
+    @Override
+    public int endNano() {
+        return endNano;
     }
     @Override
     public boolean contains(Instant value) {
-        Instant si = (Instant)shifted(getBase().start());
-        Instant ei = (Instant)shifted(getBase().end());
-        return (si.isBefore(value) || si.equals(value)) && (ei.isAfter(value) || ei.equals(value));
+        return contains(value.getEpochSecond(), value.getNano());
+    }
+    @Override
+    public boolean contains(long epochMilli) {
+        return contains(Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000);
+    }
+    @Override
+    public boolean contains(long epochSecond, int nano) {
+        if (epochSecond < startSecond || (epochSecond == startSecond && nano < startNano)) {
+            return false;
+        }
+        return epochSecond < endSecond || (epochSecond == endSecond && nano <= endNano);
     }
     @Override
     public Interval previous() {
         Interval previous = this.getBase().previous();
-        return ShiftedInterval.of(previous, this.shift);
+        return new ShiftedInterval(previous, this.duration, this.shift);
     }
     // endregion
     // region - ShiftedInterval API
@@ -64,39 +125,64 @@ public class ShiftedInterval implements Interval {
         return base;
     }
     public String getShift() {
+        if (shift == null) {
+            shift = duration.toString();
+        }
         return shift;
     }
+    public Duration getDuration() {
+        return duration;
+    }
+    // endregion
+    // region - value semantics
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+        ShiftedInterval that = (ShiftedInterval) other;
+        return hash == that.hash
+            && startSecond == that.startSecond
+            && startNano == that.startNano
+            && endSecond == that.endSecond
+            && endNano == that.endNano
+            && timezoneId().equals(that.timezoneId());
+    }
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+    private int computeHash() {
+        int result = getClass().getName().hashCode();
+        result = 31 * result + timezoneId().hashCode();
+        result = 31 * result + Long.hashCode(startSecond);
+        result = 31 * result + startNano;
+        result = 31 * result + Long.hashCode(endSecond);
+        result = 31 * result + endNano;
+        return result;
+    }
     // endregion
     // region - helpers
-    private void validateShift(String input) {
+    private static Duration parseShift(String input) {
         if (input == null) {
             throw new InvalidShiftValueException("null shift value passed");
         }
         if ("".equals(input.trim())) {
-            return;
+            return Duration.ZERO;
         }
         try {
             if (input.startsWith("-")) {
-                Duration.parse(input.substring(1));
+                return Duration.parse(input.substring(1)).negated();
             } else {
-                Duration.parse(input);
+                return Duration.parse(input);
             }
         } catch (Exception e) {
             throw new InvalidShiftValueException(e);
         }
     }
-    private Temporal shifted(Temporal temporal) {
-        if (getShift() == null || "".equals(getShift().trim())) {
-            return temporal;
-        }
-        if (getShift().startsWith("-")) {
-            Duration d = Duration.parse(getShift().substring(1));
-            return temporal.minus(d);
-        } else {
-            Duration d = Duration.parse(getShift());
-            return temporal.plus(d);
-        }
-    }
     // endregion
 
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package ws.slink.intervals;
 
+import java.time.Duration;
+
 /**
  * Shift-aware `Month` implementation of Interval interface
  */
@@ -8,12 +10,18 @@ public class ShiftedMonth extends ShiftedInterval {
     private ShiftedMonth(Interval month, String shift) {
         super(month, shift);
     }
+    private ShiftedMonth(Interval month, Duration shift, String source) {
+        super(month, shift, source);
+    }
 
     public static ShiftedMonth of(Month month, String shift) {
         return new ShiftedMonth(month, shift);
     }
-    private static ShiftedMonth create(Interval month, String shift) {
-        return new ShiftedMonth(month, shift);
+    public static ShiftedMonth ofDuration(Month month, Duration shift) {
+        return new ShiftedMonth(month, shift, null);
+    }
+    private static ShiftedMonth create(Interval month, Duration shift, String source) {
+        return new ShiftedMonth(month, shift, source);
     }
 
     @Override
@@ -25,6 +33,7 @@ public class ShiftedMonth extends ShiftedInterval {
                 .end(this.base.getEnd())
                 .timezone(this.base.timezone())
                 .build(),
+            this.duration,
             this.shift
         );
     }
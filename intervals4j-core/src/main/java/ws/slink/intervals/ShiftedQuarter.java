@@ -0,0 +1,41 @@
+package ws.slink.intervals;
+
+import java.time.Duration;
+
+/**
+ * Shift-aware `Quarter` implementation of Interval interface
+ */
+public class ShiftedQuarter extends ShiftedInterval {
+
+    private ShiftedQuarter(Interval quarter, String shift) {
+        super(quarter, shift);
+    }
+    private ShiftedQuarter(Interval quarter, Duration shift, String source) {
+        super(quarter, shift, source);
+    }
+
+    public static ShiftedQuarter of(Quarter quarter, String shift) {
+        return new ShiftedQuarter(quarter, shift);
+    }
+    public static ShiftedQuarter ofDuration(Quarter quarter, Duration shift) {
+        return new ShiftedQuarter(quarter, shift, null);
+    }
+    private static ShiftedQuarter create(Interval quarter, Duration shift, String source) {
+        return new ShiftedQuarter(quarter, shift, source);
+    }
+
+    @Override
+    public Interval withPrevious() {
+        Interval previous = this.getBase().previous();
+        return ShiftedQuarter.create(
+            new IntervalBuilder()
+                .start(previous.getStart())
+                .end(this.base.getEnd())
+                .timezone(this.base.timezone())
+                .build(),
+            this.duration,
+            this.shift
+        );
+    }
+
+}
@@ -0,0 +1,41 @@
+package ws.slink.intervals;
+
+import java.time.Duration;
+
+/**
+ * Shift-aware `Week` implementation of Interval interface
+ */
+public class ShiftedWeek extends ShiftedInterval {
+
+    private ShiftedWeek(Interval week, String shift) {
+        super(week, shift);
+    }
+    private ShiftedWeek(Interval week, Duration shift, String source) {
+        super(week, shift, source);
+    }
+
+    public static ShiftedWeek of(Week week, String shift) {
+        return new ShiftedWeek(week, shift);
+    }
+    public static ShiftedWeek ofDuration(Week week, Duration shift) {
+        return new ShiftedWeek(week, shift, null);
+    }
+    private static ShiftedWeek create(Interval week, Duration shift, String source) {
+        return new ShiftedWeek(week, shift, source);
+    }
+
+    @Override
+    public Interval withPrevious() {
+        Interval previous = this.getBase().previous();
+        return ShiftedWeek.create(
+            new IntervalBuilder()
+                .start(previous.getStart())
+                .end(this.base.getEnd())
+                .timezone(this.base.timezone())
+                .build(),
+            this.duration,
+            this.shift
+        );
+    }
+
+}
@@ -1,5 +1,7 @@
 package ws.slink.intervals;
 
+import java.time.Duration;
+
 /**
  * Shift-aware `Year` implementation of Interval interface
  */
@@ -8,12 +10,18 @@ public class ShiftedYear extends ShiftedInterval {
     private ShiftedYear(Interval year, String shift) {
         super(year, shift);
     }
+    private ShiftedYear(Interval year, Duration shift, String source) {
+        super(year, shift, source);
+    }
 
     public static ShiftedYear of(Year year, String shift) {
         return new ShiftedYear(year, shift);
     }
-    private static ShiftedYear create(Interval year, String shift) {
-        return new ShiftedYear(year, shift);
+    public static ShiftedYear ofDuration(Year year, Duration shift) {
+        return new ShiftedYear(year, shift, null);
+    }
+    private static ShiftedYear create(Interval year, Duration shift, String source) {
+        return new ShiftedYear(year, shift, source);
     }
 
     @Override
@@ -25,6 +33,7 @@ public class ShiftedYear extends ShiftedInterval {
                 .end(this.base.getEnd())
                 .timezone(this.base.timezone())
                 .build(),
+            this.duration,
             this.shift
         );
     }
@@ -0,0 +1,327 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Append-friendly time series of samples rolled into fixed-step epoch buckets
+ * (bucket `k` covers `[k * step, (k + 1) * step)` milliseconds from epoch) answering
+ * range aggregates (`count`, `sum`, `max`) for an interval in O(log n)
+ *
+ * - buckets are stored from the bucket containing `origin` up to the latest sample,
+ *   in primitive arrays: Fenwick trees for counts and sums and a 16-ary tree of maxima
+ *   (about 25 bytes per bucket)
+ * - adding a sample to the last bucket or to a new bucket past it is amortized O(1),
+ *   adding to an earlier bucket is O(log n); samples before `origin` are rejected
+ * - range of an interval is the buckets starting within it (`start <= bucket start <= end`),
+ *   computed from interval epoch bounds
+ *
+ * instances are not thread-safe
+ *
+ * usage:
+ *   LongTimeSeriesAggregate series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), origin);
+ *   series.add(event.epochMilli(), event.value());
+ *   long total = series.sum(Month.of("2023-10", "Europe/Berlin"));
+ */
+public abstract class TimeSeriesAggregate {
+
+    // no sample in bucket
+    static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int FANOUT_BITS = 4;
+    private static final int FANOUT = 1 << FANOUT_BITS;
+
+    private final long step;
+    private final long firstBucket;
+    private int size;
+
+    // Fenwick tree of sample counts (1-based)
+    private long[] counts;
+
+    // maxima: level 0 holds bucket maxima, level k holds maxima of `FANOUT` entries of level k - 1
+    private long[][] maxima;
+
+    TimeSeriesAggregate(Duration step, long originEpochMilli) {
+        if (step == null || step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("step should be positive");
+        }
+        if (step.getNano() % EpochMath.NANOS_PER_MILLI != 0) {
+            throw new IllegalArgumentException("step should be whole milliseconds: " + step);
+        }
+        this.step = step.toMillis();
+        this.firstBucket = Math.floorDiv(originEpochMilli, this.step);
+        this.counts = new long[INITIAL_CAPACITY + 1];
+        this.maxima = new long[][] {newMaxima(INITIAL_CAPACITY)};
+    }
+
+    /**
+     * @param step bucket length (whole milliseconds)
+     * @param origin earliest timestamp to be stored
+     * @return empty series with `long` values
+     */
+    public static LongTimeSeriesAggregate ofLongs(Duration step, Instant origin) {
+        return new LongTimeSeriesAggregate(step, origin.toEpochMilli());
+    }
+
+    /**
+     * @param step bucket length (whole milliseconds)
+     * @param origin earliest timestamp to be stored
+     * @return empty series with `double` values
+     */
+    public static DoubleTimeSeriesAggregate ofDoubles(Duration step, Instant origin) {
+        return new DoubleTimeSeriesAggregate(step, origin.toEpochMilli());
+    }
+
+    // region - getters
+
+    public Duration step() {
+        return Duration.ofMillis(step);
+    }
+
+    /**
+     * @return start of the first bucket
+     */
+    public Instant origin() {
+        return Instant.ofEpochMilli(firstBucket * step);
+    }
+
+    /**
+     * @return number of buckets stored (from origin up to the latest sample)
+     */
+    public int size() {
+        return size;
+    }
+
+    // endregion
+    // region - queries
+
+    /**
+     * @return number of samples in buckets starting within interval
+     */
+    public long count(Interval interval) {
+        long from = firstIndex(interval);
+        long to = lastIndex(interval);
+        if (from > to) {
+            return 0;
+        }
+        return prefix(counts, (int) to + 1) - prefix(counts, (int) from);
+    }
+
+    // endregion
+    // region - subclass hooks
+
+    /**
+     * @return index of bucket containing timestamp (buckets are materialized up to it)
+     */
+    final int prepare(long epochMilli) {
+        long index = Math.floorDiv(epochMilli, step) - firstBucket;
+        if (index < 0) {
+            throw new IllegalArgumentException("timestamp " + Instant.ofEpochMilli(epochMilli) + " is before origin " + origin());
+        }
+        if (index >= Integer.MAX_VALUE - 1) {
+            throw new IllegalArgumentException("timestamp " + Instant.ofEpochMilli(epochMilli) + " is too far from origin " + origin());
+        }
+        if (index >= size) {
+            extend((int) index + 1);
+        }
+        return (int) index;
+    }
+
+    /**
+     * records sample count and maximum key for bucket (materialized by `prepare`)
+     */
+    final void record(int index, long maxKey) {
+        update(counts, index + 1, 1);
+        raise(index, maxKey);
+    }
+
+    /**
+     * @return maximum key over buckets starting within interval (`NO_VALUE` if there are no samples)
+     */
+    final long maxKey(Interval interval) {
+        long from = firstIndex(interval);
+        long to = lastIndex(interval);
+        if (from > to) {
+            return NO_VALUE;
+        }
+        return maxKey((int) from, (int) to);
+    }
+
+    /**
+     * @return first bucket index starting within interval (clipped to stored buckets)
+     */
+    final long firstIndex(Interval interval) {
+        // first millisecond not before interval start
+        long startMilli = Math.addExact(Math.multiplyExact(interval.startEpochSecond(), EpochMath.MILLIS_PER_SECOND),
+            (interval.startNano() + EpochMath.NANOS_PER_MILLI - 1) / EpochMath.NANOS_PER_MILLI);
+        long index = -Math.floorDiv(-startMilli, step) - firstBucket;
+        return Math.max(index, 0);
+    }
+
+    /**
+     * @return last bucket index starting within interval (clipped to stored buckets)
+     */
+    final long lastIndex(Interval interval) {
+        long endMilli = Math.addExact(Math.multiplyExact(interval.endEpochSecond(), EpochMath.MILLIS_PER_SECOND),
+            interval.endNano() / EpochMath.NANOS_PER_MILLI);
+        long index = Math.floorDiv(endMilli, step) - firstBucket;
+        return Math.min(index, size - 1);
+    }
+
+    /**
+     * @return current capacity of trees (number of nodes including unused node 0)
+     */
+    final int capacity() {
+        return counts.length;
+    }
+
+    /**
+     * grows sum tree(s) of subclass to hold at least `capacity` buckets
+     */
+    abstract void grow(int capacity);
+
+    /**
+     * builds sum tree node `node` (1-based) of subclass from its children
+     */
+    abstract void materialize(int node);
+
+    // endregion
+    // region - Fenwick trees
+
+    static long prefix(long[] tree, int node) {
+        long result = 0;
+        for (int i = node; i > 0; i -= i & -i) {
+            result += tree[i];
+        }
+        return result;
+    }
+    static double prefix(double[] tree, int node) {
+        double result = 0;
+        for (int i = node; i > 0; i -= i & -i) {
+            result += tree[i];
+        }
+        return result;
+    }
+    final void update(long[] tree, int node, long value) {
+        for (int i = node; i <= size; i += i & -i) {
+            tree[i] += value;
+        }
+    }
+    final void update(double[] tree, int node, double value) {
+        for (int i = node; i <= size; i += i & -i) {
+            tree[i] += value;
+        }
+    }
+
+    // node covers (node - lowbit(node), node], its children are the nodes covering that range below it;
+    // summing them is O(1) amortized over consecutive nodes
+    static void materialize(long[] tree, int node) {
+        long value = 0;
+        for (int child = node - 1, bound = node - (node & -node); child > bound; child -= child & -child) {
+            value += tree[child];
+        }
+        tree[node] = value;
+    }
+    static void materialize(double[] tree, int node) {
+        double value = 0;
+        for (int child = node - 1, bound = node - (node & -node); child > bound; child -= child & -child) {
+            value += tree[child];
+        }
+        tree[node] = value;
+    }
+
+    // endregion
+    // region - storage
+
+    private void extend(int newSize) {
+        if (newSize >= counts.length) {
+            int capacity = (int) Math.min(Math.max((long) counts.length * 2, newSize + 1L), Integer.MAX_VALUE - 8);
+            counts = Arrays.copyOf(counts, capacity);
+            grow(capacity);
+            long[] level = maxima[0];
+            maxima[0] = Arrays.copyOf(level, capacity);
+            Arrays.fill(maxima[0], level.length, capacity, NO_VALUE);
+        }
+        for (int node = size + 1; node <= newSize; node++) {
+            materialize(counts, node);
+            materialize(node);
+        }
+        size = newSize;
+        extendMaxima();
+    }
+
+    // keeps upper levels large enough for current size, adding levels until the top one has a single entry
+    private void extendMaxima() {
+        int entries = size;
+        int level = 0;
+        while (entries > 1) {
+            int upper = (entries + FANOUT - 1) >>> FANOUT_BITS;
+            level++;
+            if (level == maxima.length) {
+                maxima = Arrays.copyOf(maxima, level + 1);
+                maxima[level] = newMaxima(Math.max(upper, INITIAL_CAPACITY >>> (FANOUT_BITS * level)));
+                // new top level summarizes existing lower entries
+                for (int i = 0; i < entries; i++) {
+                    int parent = i >>> FANOUT_BITS;
+                    maxima[level][parent] = Math.max(maxima[level][parent], maxima[level - 1][i]);
+                }
+            } else if (upper > maxima[level].length) {
+                long[] current = maxima[level];
+                maxima[level] = Arrays.copyOf(current, Math.max(upper, current.length * 2));
+                Arrays.fill(maxima[level], current.length, maxima[level].length, NO_VALUE);
+            }
+            entries = upper;
+        }
+    }
+
+    private void raise(int index, long key) {
+        int i = index;
+        for (long[] level : maxima) {
+            if (level[i] >= key) {
+                return;
+            }
+            level[i] = key;
+            i >>>= FANOUT_BITS;
+        }
+    }
+
+    private long maxKey(int from, int to) {
+        long result = NO_VALUE;
+        int lo = from;
+        int hi = to;
+        for (long[] level : maxima) {
+            if (hi - lo < FANOUT) {
+                for (int i = lo; i <= hi; i++) {
+                    result = Math.max(result, level[i]);
+                }
+                return result;
+            }
+            // partial blocks at both ends, then move whole blocks to upper level
+            while ((lo & (FANOUT - 1)) != 0) {
+                result = Math.max(result, level[lo++]);
+            }
+            while (((hi + 1) & (FANOUT - 1)) != 0) {
+                result = Math.max(result, level[hi--]);
+            }
+            lo >>>= FANOUT_BITS;
+            hi = ((hi + 1) >>> FANOUT_BITS) - 1;
+            if (lo > hi) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private static long[] newMaxima(int capacity) {
+        long[] level = new long[Math.max(capacity, 1)];
+        Arrays.fill(level, NO_VALUE);
+        return level;
+    }
+
+    // endregion
+
+}
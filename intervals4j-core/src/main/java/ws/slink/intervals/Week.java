@@ -0,0 +1,203 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.exception.InvalidWeekException;
+import ws.slink.intervals.impl.OffsetAwareInterval;
+import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.stream.Stream;
+
+/**
+ * `Week` implementation of Interval interface
+ *
+ * week starts on configurable first day of week (`MONDAY` by default, as in ISO-8601);
+ * weeks are numbered within week-based year, first week of a year is the first one
+ * having at least 4 days in that year (so "2023-W41" is an ISO week)
+ */
+public class Week extends OffsetAwareInterval {
+
+    private static final long MIN_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+    private static final long MAX_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    protected DayOfWeek firstDayOfWeek;
+
+    public Week(TimeZone timezone, LocalDateTime start, LocalDateTime end) {
+        this(timezone, start, end, 0);
+    }
+    public Week(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
+        this(timezone, start, end, offset, DayOfWeek.MONDAY);
+    }
+    public Week(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset, DayOfWeek firstDayOfWeek) {
+        super(timezone, start, end, offset,
+            CalendarTools.toStartOfWeek(firstDayOfWeek), CalendarTools.toEndOfWeek(firstDayOfWeek));
+        this.firstDayOfWeek = firstDayOfWeek;
+    }
+
+    /**
+     * @return first day of week
+     */
+    public DayOfWeek firstDayOfWeek() {
+        return firstDayOfWeek;
+    }
+
+    /**
+     * @return week-based year of the week
+     */
+    public int weekBasedYear() {
+        return EpochMath.weekBasedYear(epochDay(), firstDayOfWeek.getValue());
+    }
+
+    /**
+     * @return week of week-based year (1 - 53)
+     */
+    public int week() {
+        return EpochMath.weekOfWeekBasedYear(epochDay(), firstDayOfWeek.getValue());
+    }
+
+    @Override
+    public Week previous() {
+        return plus(-1);
+    }
+
+    @Override
+    public Week next() {
+        return plus(1);
+    }
+
+    /**
+     * @return week `weeks` weeks after this one (with same timezone, offset and first day of week)
+     */
+    public Week plus(long weeks) {
+        long epochDay = Math.addExact(epochDay(), Math.multiplyExact(weeks, 7L));
+        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY - 6) {
+            throw new InvalidWeekException("epoch day " + epochDay + " is out of range");
+        }
+        return IntervalBuilder.weekStarting(epochDay, this.timezone, offset, firstDayOfWeek);
+    }
+
+    /**
+     * @return week `weeks` weeks before this one (with same timezone, offset and first day of week)
+     */
+    public Week minus(long weeks) {
+        return plus(Math.negateExact(weeks));
+    }
+
+    /**
+     * @return number of weeks from `from` to `to` (negative if `to` is before `from`)
+     */
+    public static long between(Week from, Week to) {
+        return Math.floorDiv(to.epochDay() - from.epochDay(), 7);
+    }
+
+    /**
+     * @return days of week (with same timezone and offset)
+     */
+    @Override
+    public Stream<Day> days() {
+        long epochDay = epochDay();
+        return IntervalSpliterator.days(this.timezone, epochDay, epochDay + 6, offset);
+    }
+
+    // first day of the week (without offset shift)
+    private long epochDay() {
+        return this.start.minusHours(offset).toLocalDate().toEpochDay();
+    }
+
+    @Override
+    public Interval withPrevious() {
+        return new IntervalBuilder()
+            .timezone(this.timezone)
+            .start(this.getStart().minusWeeks(1))
+            .end(this.getEnd())
+            .build();
+    }
+
+    public static Week of(String input) {
+        return create(input, ZoneRegistry.UTC, 0);
+    }
+    public static Week of(String input, String timezone) {
+        return of(input, timezone, 0);
+    }
+    public static Week of(String input, ZoneId timezone) {
+        return of(input, timezone, 0);
+    }
+    public static Week of(String input, int offset) {
+        return create(input, ZoneRegistry.UTC, offset);
+    }
+    public static Week of(String input, String timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Week of(String input, ZoneId timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    private static Week create(String input, TimeZone timezone, int offset) {
+        LocalDateTime start = IntervalBuilder.parse(input, timezone, offset).getStart().minusHours(offset);
+        return containing(start.toLocalDate().toEpochDay(), timezone, offset, DayOfWeek.MONDAY);
+    }
+
+    public static Week of(Instant value) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, 0, DayOfWeek.MONDAY);
+    }
+    public static Week of(Instant value, String timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Week of(Instant value, ZoneId timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Week of(Instant value, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, offset, DayOfWeek.MONDAY);
+    }
+    public static Week of(Instant value, String timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset, DayOfWeek.MONDAY);
+    }
+    public static Week of(Instant value, ZoneId timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset, DayOfWeek.MONDAY);
+    }
+    public static Week of(Instant value, ZoneId timezone, int offset, DayOfWeek firstDayOfWeek) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset, firstDayOfWeek);
+    }
+    public static Week of(long epochMilli) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, 0, DayOfWeek.MONDAY);
+    }
+    public static Week of(long epochMilli, String timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Week of(long epochMilli, ZoneId timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Week of(long epochMilli, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, offset, DayOfWeek.MONDAY);
+    }
+    public static Week of(long epochMilli, String timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset, DayOfWeek.MONDAY);
+    }
+    public static Week of(long epochMilli, ZoneId timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset, DayOfWeek.MONDAY);
+    }
+    public static Week of(long epochMilli, ZoneId timezone, int offset, DayOfWeek firstDayOfWeek) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset, firstDayOfWeek);
+    }
+    private static Week create(long epochSecond, TimeZone timezone, int offset, DayOfWeek firstDayOfWeek) {
+        return containing(EpochMath.localEpochDay(timezone.toZoneId(), epochSecond, offset), timezone, offset, firstDayOfWeek);
+    }
+
+    // week containing given epoch day
+    private static Week containing(long epochDay, TimeZone timezone, int offset, DayOfWeek firstDayOfWeek) {
+        if (firstDayOfWeek == null) {
+            throw new InvalidWeekException("first day of week should not be null");
+        }
+        return IntervalBuilder.weekStarting(
+            EpochMath.startOfWeek(epochDay, firstDayOfWeek.getValue()),
+            timezone,
+            offset,
+            firstDayOfWeek
+        );
+    }
+
+}
@@ -0,0 +1,392 @@
+package ws.slink.intervals;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.function.ToLongFunction;
+
+/**
+ * Event-time aggregation over calendar-aligned tumbling or hopping windows (see `Windows`)
+ *
+ * - each event is assigned to its window(s) by epoch arithmetic, window state (count, sum,
+ *   min, max) is kept in primitive arrays of an open-addressing table keyed by window start unit,
+ *   so processing an event into open windows does not allocate
+ * - watermark follows the latest event timestamp minus `outOfOrderness` (and can be advanced
+ *   explicitly); when watermark passes window end, listener is called with window aggregates
+ * - windows are kept for `allowedLateness` after their end: late events update them and fire
+ *   listener again (`late == true`), events for windows past that are dropped
+ *
+ * instances are not thread-safe; listener should not call back into the engine
+ *
+ * usage:
+ *   WindowEngine engine = WindowEngine.of(Windows.grid(Grid.of(Duration.ofMinutes(5), "Europe/Berlin")),
+ *       Duration.ofSeconds(10), Duration.ofMinutes(1), (window, count, sum, min, max, late) -> ...);
+ *   engine.process(events, Event::epochMilli, Event::value);
+ *   engine.flush();
+ */
+public final class WindowEngine {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final long NO_WATERMARK = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Windows windows;
+    private final long outOfOrderness;
+    private final long allowedLateness;
+    private final WindowListener listener;
+
+    private long watermark = NO_WATERMARK;
+    private long dropped;
+
+    // error signalled by publisher to a subscriber of this engine (first one is kept)
+    private Throwable failure;
+
+    // earliest end of windows not fired yet, and earliest end of windows kept (`Long.MAX_VALUE` if none)
+    private long nextFire = Long.MAX_VALUE;
+    private long nextPurge = Long.MAX_VALUE;
+
+    // open windows: key is window start unit, end is exclusive window end in milliseconds
+    private long[] keys;
+    private long[] ends;
+    private long[] counts;
+    private long[] sums;
+    private long[] mins;
+    private long[] maxs;
+    private boolean[] fired;
+    private int size;
+
+    // windows collected for firing or purging
+    private long[] pending = new long[INITIAL_CAPACITY];
+
+    private WindowEngine(Windows windows, long outOfOrderness, long allowedLateness, WindowListener listener) {
+        this.windows = windows;
+        this.outOfOrderness = outOfOrderness;
+        this.allowedLateness = allowedLateness;
+        this.listener = listener;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param windows window assignment
+     * @param outOfOrderness maximum expected delay of events (watermark lags latest event by that)
+     * @param allowedLateness time windows are kept after watermark passes their end
+     * @param listener receives fired windows
+     * @return engine with no open windows
+     */
+    public static WindowEngine of(Windows windows, Duration outOfOrderness, Duration allowedLateness, WindowListener listener) {
+        if (windows == null) {
+            throw new IllegalArgumentException("windows should not be null");
+        }
+        if (outOfOrderness == null || outOfOrderness.isNegative()) {
+            throw new IllegalArgumentException("out-of-orderness should not be negative");
+        }
+        if (allowedLateness == null || allowedLateness.isNegative()) {
+            throw new IllegalArgumentException("allowed lateness should not be negative");
+        }
+        if (listener == null) {
+            throw new IllegalArgumentException("listener should not be null");
+        }
+        return new WindowEngine(windows, outOfOrderness.toMillis(), allowedLateness.toMillis(), listener);
+    }
+
+    // region - getters
+
+    public Windows windows() {
+        return windows;
+    }
+
+    /**
+     * @return current watermark as milliseconds from epoch (`Long.MIN_VALUE` before first event)
+     */
+    public long watermark() {
+        return watermark;
+    }
+
+    /**
+     * @return number of window assignments dropped as being too late
+     */
+    public long dropped() {
+        return dropped;
+    }
+
+    /**
+     * @return number of windows kept (open or within allowed lateness)
+     */
+    public int openWindows() {
+        return size;
+    }
+
+    /**
+     * @return error publisher terminated subscription with (see `subscriber`), null if none
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    // endregion
+    // region - input
+
+    /**
+     * processes single event and advances watermark
+     */
+    public void accept(long epochMilli, long value) {
+        long unit = windows.indexOf(epochMilli);
+        long start = unit;
+        for (int i = 0; i < windows.span(); i++) {
+            if (i > 0) {
+                start = windows.previous(start);
+            }
+            add(start, value);
+        }
+        if (epochMilli > Long.MIN_VALUE + outOfOrderness) {
+            advanceWatermark(epochMilli - outOfOrderness);
+        }
+    }
+
+    /**
+     * processes events from iterator (open windows are kept, see `flush`)
+     */
+    public <T> void process(Iterator<? extends T> events, ToLongFunction<? super T> timestamp, ToLongFunction<? super T> value) {
+        while (events.hasNext()) {
+            T event = events.next();
+            accept(timestamp.applyAsLong(event), value.applyAsLong(event));
+        }
+    }
+
+    /**
+     * @return subscriber processing published events (requests all, flushes on completion);
+     *         on error open windows are kept (engine can still be flushed) and error is exposed by `failure`
+     */
+    public <T> Flow.Subscriber<T> subscriber(ToLongFunction<? super T> timestamp, ToLongFunction<? super T> value) {
+        return new Flow.Subscriber<T>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            @Override
+            public void onNext(T event) {
+                accept(timestamp.applyAsLong(event), value.applyAsLong(event));
+            }
+            @Override
+            public void onError(Throwable throwable) {
+                if (failure == null) {
+                    failure = throwable;
+                }
+            }
+            @Override
+            public void onComplete() {
+                flush();
+            }
+        };
+    }
+
+    /**
+     * subscribes engine to publisher (see `subscriber`)
+     */
+    public <T> void subscribe(Flow.Publisher<? extends T> publisher, ToLongFunction<? super T> timestamp, ToLongFunction<? super T> value) {
+        publisher.subscribe(subscriber(timestamp, value));
+    }
+
+    /**
+     * advances watermark (watermark never moves back): fires windows ending not after it
+     * and drops windows ending more than allowed lateness before it
+     */
+    public void advanceWatermark(long epochMilli) {
+        if (epochMilli <= watermark) {
+            return;
+        }
+        watermark = epochMilli;
+        if (watermark >= nextFire) {
+            fire();
+        }
+        if (watermark >= nextPurge) {
+            purge();
+        }
+    }
+
+    /**
+     * fires all open windows and drops all windows (end of input)
+     */
+    public void flush() {
+        advanceWatermark(Long.MAX_VALUE);
+    }
+
+    // endregion
+    // region - window state
+
+    private void add(long start, long value) {
+        int slot = find(start);
+        if (keys[slot] == EMPTY) {
+            long end = windows.windowEndMillis(start);
+            if (watermark != NO_WATERMARK && watermark >= purgeTime(end)) {
+                dropped++;
+                return;
+            }
+            slot = insert(slot, start, end);
+        }
+        counts[slot]++;
+        sums[slot] += value;
+        mins[slot] = Math.min(mins[slot], value);
+        maxs[slot] = Math.max(maxs[slot], value);
+        if (fired[slot]) {
+            listener.onWindow(windows.window(start), counts[slot], sums[slot], mins[slot], maxs[slot], true);
+        }
+    }
+
+    private int insert(int slot, long start, long end) {
+        if (2 * (size + 1) > keys.length) {
+            rehash(keys.length * 2);
+            slot = find(start);
+        }
+        keys[slot] = start;
+        ends[slot] = end;
+        counts[slot] = 0;
+        sums[slot] = 0;
+        mins[slot] = Long.MAX_VALUE;
+        maxs[slot] = Long.MIN_VALUE;
+        // window may start behind watermark (late event for a window with no events yet)
+        fired[slot] = watermark != NO_WATERMARK && watermark >= end;
+        size++;
+        nextPurge = Math.min(nextPurge, purgeTime(end));
+        if (!fired[slot]) {
+            nextFire = Math.min(nextFire, end);
+        }
+        return slot;
+    }
+
+    // fires windows in order of their ends
+    private void fire() {
+        int count = 0;
+        long next = Long.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY && !fired[i]) {
+                if (ends[i] <= watermark) {
+                    count = collect(count, i);
+                } else {
+                    next = Math.min(next, ends[i]);
+                }
+            }
+        }
+        nextFire = next;
+        Arrays.sort(pending, 0, count);
+        for (int i = 0; i < count; i++) {
+            int slot = find(pending[i]);
+            fired[slot] = true;
+            listener.onWindow(windows.window(keys[slot]), counts[slot], sums[slot], mins[slot], maxs[slot], false);
+        }
+    }
+
+    private void purge() {
+        int count = 0;
+        long next = Long.MAX_VALUE;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                long purgeTime = purgeTime(ends[i]);
+                if (purgeTime <= watermark) {
+                    count = collect(count, i);
+                } else {
+                    next = Math.min(next, purgeTime);
+                }
+            }
+        }
+        nextPurge = next;
+        for (int i = 0; i < count; i++) {
+            remove(find(pending[i]));
+        }
+    }
+
+    // window keys are ordered in time, so sorting keys orders windows by their ends
+    private int collect(int count, int slot) {
+        if (count == pending.length) {
+            pending = Arrays.copyOf(pending, count * 2);
+        }
+        pending[count] = keys[slot];
+        return count + 1;
+    }
+
+    private long purgeTime(long end) {
+        return (end > Long.MAX_VALUE - allowedLateness) ? Long.MAX_VALUE : end + allowedLateness;
+    }
+
+    // endregion
+    // region - hash table
+
+    // slot holding key or empty slot where it should be inserted
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int i = hash(key) & mask;
+        while (keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    // backward shift deletion keeps probe sequences intact without tombstones
+    private void remove(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (slot + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // entry can move to the hole if its home slot is not within (hole, i]
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                move(i, hole);
+                hole = i;
+            }
+        }
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        ends[to] = ends[from];
+        counts[to] = counts[from];
+        sums[to] = sums[from];
+        mins[to] = mins[from];
+        maxs[to] = maxs[from];
+        fired[to] = fired[from];
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldEnds = ends;
+        long[] oldCounts = counts;
+        long[] oldSums = sums;
+        long[] oldMins = mins;
+        long[] oldMaxs = maxs;
+        boolean[] oldFired = fired;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                ends[slot] = oldEnds[i];
+                counts[slot] = oldCounts[i];
+                sums[slot] = oldSums[i];
+                mins[slot] = oldMins[i];
+                maxs[slot] = oldMaxs[i];
+                fired[slot] = oldFired[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        ends = new long[capacity];
+        counts = new long[capacity];
+        sums = new long[capacity];
+        mins = new long[capacity];
+        maxs = new long[capacity];
+        fired = new boolean[capacity];
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // endregion
+
+}
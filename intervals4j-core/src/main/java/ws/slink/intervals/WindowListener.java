@@ -0,0 +1,22 @@
+package ws.slink.intervals;
+
+/**
+ * Receives aggregates of windows fired by `WindowEngine`
+ */
+@FunctionalInterface
+public interface WindowListener {
+
+    /**
+     * called when watermark passes window end (`late == false`), and again for every late event
+     * accepted within allowed lateness (`late == true`, aggregates include all events so far)
+     *
+     * @param window window interval
+     * @param count number of events in window
+     * @param sum sum of event values
+     * @param min minimum event value
+     * @param max maximum event value
+     * @param late whether this is an update caused by a late event
+     */
+    void onWindow(Interval window, long count, long sum, long min, long max, boolean late);
+
+}
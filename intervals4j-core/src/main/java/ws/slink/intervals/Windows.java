@@ -0,0 +1,203 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.CustomInterval;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.TimeZone;
+
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
+
+/**
+ * Window assignment for `WindowEngine`: windows are made of `span` consecutive calendar units
+ * (days, months or `Grid` buckets) and start at every unit
+ *
+ * - `span == 1` gives tumbling windows (each event belongs to exactly one `Day`, `Month` or `GridInterval`)
+ * - `span > 1` gives hopping windows sliding by one unit (e.g. 7-day windows every day,
+ *   or 1-hour windows every 5 minutes on a 5-minute grid); each event belongs to `span` windows
+ *
+ * windows are identified by index of their first unit (epoch day, epoch month or grid bucket index),
+ * so assigning an event is epoch arithmetic with no allocations; instances are immutable
+ *
+ * usage:
+ *   Windows windows = Windows.days(ZoneId.of("Europe/Berlin"), 0).hopping(7);
+ */
+public final class Windows {
+
+    private static final int DAY = 1;
+    private static final int MONTH = 2;
+    private static final int GRID = 3;
+
+    private final int unit;
+    private final ZoneId zone;
+    private final TimeZone timezone;
+    private final int offset;
+    private final Grid grid;
+    private final int span;
+
+    private Windows(int unit, ZoneId zone, int offset, Grid grid, int span) {
+        this.unit = unit;
+        this.zone = zone;
+        this.timezone = ZoneRegistry.shared(zone);
+        this.offset = offset;
+        this.grid = grid;
+        this.span = span;
+    }
+
+    /**
+     * @return tumbling `Day` windows
+     */
+    public static Windows days(ZoneId timezone, int offset) {
+        return new Windows(DAY, validate(timezone, offset), offset, null, 1);
+    }
+    public static Windows days(String timezone, int offset) {
+        return days(ZoneRegistry.zoneId(timezone), offset);
+    }
+
+    /**
+     * @return tumbling `Month` windows
+     */
+    public static Windows months(ZoneId timezone, int offset) {
+        return new Windows(MONTH, validate(timezone, offset), offset, null, 1);
+    }
+    public static Windows months(String timezone, int offset) {
+        return months(ZoneRegistry.zoneId(timezone), offset);
+    }
+
+    /**
+     * @return tumbling windows of grid buckets (N-minute windows aligned to local days)
+     */
+    public static Windows grid(Grid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("grid should not be null");
+        }
+        return new Windows(GRID, grid.zone(), grid.offset(), grid, 1);
+    }
+
+    /**
+     * @param span number of units in each window
+     * @return windows of `span` units starting at every unit
+     */
+    public Windows hopping(int span) {
+        if (span < 1) {
+            throw new IllegalArgumentException("span should be positive: " + span);
+        }
+        return new Windows(unit, zone, offset, grid, span);
+    }
+
+    // region - getters
+
+    public ZoneId timezone() {
+        return zone;
+    }
+    public int offset() {
+        return offset;
+    }
+    public int span() {
+        return span;
+    }
+
+    // endregion
+    // region - units
+
+    /**
+     * @return index of unit containing timestamp
+     */
+    long indexOf(long epochMilli) {
+        switch (unit) {
+            case DAY:
+                return epochDay(epochMilli);
+            case MONTH:
+                long civil = EpochMath.civil(epochDay(epochMilli));
+                return EpochMath.epochMonth(EpochMath.year(civil), EpochMath.month(civil));
+            default:
+                return grid.indexOf(epochMilli);
+        }
+    }
+
+    long next(long index) {
+        return (unit == GRID) ? grid.next(index) : index + 1;
+    }
+
+    long previous(long index) {
+        return (unit == GRID) ? grid.previous(index) : index - 1;
+    }
+
+    /**
+     * @return unit start as milliseconds from epoch
+     */
+    long startMillis(long index) {
+        switch (unit) {
+            case DAY:
+                return dayStart(index);
+            case MONTH:
+                return dayStart(EpochMath.epochDay(EpochMath.yearOfEpochMonth(index), EpochMath.monthOfEpochMonth(index), 1));
+            default:
+                return grid.startMillis(index);
+        }
+    }
+
+    /**
+     * @return end (exclusive) of window starting at unit `first` as milliseconds from epoch
+     */
+    long windowEndMillis(long first) {
+        long last = first;
+        for (int i = 1; i < span; i++) {
+            last = next(last);
+        }
+        return (unit == GRID) ? grid.endMillis(last) : startMillis(last + 1);
+    }
+
+    /**
+     * @return window starting at unit `first`
+     *         (`Day`, `Month` or `GridInterval` for tumbling windows, custom interval with exact epoch bounds otherwise)
+     */
+    Interval window(long first) {
+        if (span == 1) {
+            switch (unit) {
+                case DAY:
+                    long civil = EpochMath.civil(first);
+                    return IntervalBuilder.day(EpochMath.year(civil), EpochMath.month(civil), EpochMath.day(civil), timezone, offset);
+                case MONTH:
+                    return IntervalBuilder.month(EpochMath.yearOfEpochMonth(first), EpochMath.monthOfEpochMonth(first), timezone, offset);
+                default:
+                    return grid.bucket(first);
+            }
+        }
+        Instant start = Instant.ofEpochMilli(startMillis(first));
+        Instant end = Instant.ofEpochMilli(windowEndMillis(first)).minusNanos(1);
+        return CustomInterval.ofEpochBounds(timezone, start, end);
+    }
+
+    // endregion
+    // region - helpers
+
+    private long epochDay(long epochMilli) {
+        return EpochMath.localEpochDay(zone, Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), offset);
+    }
+
+    private long dayStart(long epochDay) {
+        long localEpochSecond = epochDay * EpochMath.SECONDS_PER_DAY + (long) offset * EpochMath.SECONDS_PER_HOUR;
+        return EpochMath.toEpochSecond(zone, localEpochSecond) * EpochMath.MILLIS_PER_SECOND;
+    }
+
+    private static ZoneId validate(ZoneId timezone, int offset) {
+        if (timezone == null) {
+            throw new IllegalArgumentException("timezone should not be null");
+        }
+        if (Math.abs(offset) > MAX_OFFSET) {
+            throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
+        }
+        return timezone;
+    }
+
+    // endregion
+
+    @Override
+    public String toString() {
+        String name = (unit == DAY) ? "days" : (unit == MONTH) ? "months" : grid.step().toString();
+        return "Windows(" + name + ", " + zone.getId() + ", " + offset + ", " + span + ")";
+    }
+
+}
@@ -1,11 +1,16 @@
 package ws.slink.intervals;
 
+import ws.slink.intervals.exception.InvalidYearException;
 import ws.slink.intervals.impl.OffsetAwareInterval;
 import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.EpochMath;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.TemporalAdjusters;
+import java.time.ZoneId;
 import java.util.TimeZone;
+import java.util.stream.Stream;
 
 /**
  * `Year` implementation of Interval interface
@@ -16,15 +21,49 @@ public class Year extends OffsetAwareInterval {
         this(timezone, start, end, 0);
     }
     public Year(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
-        super(timezone, start, end, offset);
-        this.start = start.with(TemporalAdjusters.firstDayOfYear()).with(CalendarTools.TO_START_OF_DAY).plusHours(offset);
-        this.end = start.with(TemporalAdjusters.lastDayOfYear()).with(CalendarTools.TO_END_OF_DAY).plusHours(offset);
+        super(timezone, start, end, offset, CalendarTools.TO_START_OF_YEAR, CalendarTools.TO_END_OF_YEAR);
     }
 
     @Override
-    public Interval previous() {
-        return IntervalBuilder.year(this.start.getYear() - 1, this.timezone().getID(), offset);
+    public Year previous() {
+        return plus(-1);
     }
+
+    @Override
+    public Year next() {
+        return plus(1);
+    }
+
+    /**
+     * @return year `years` years after this one (with same timezone and offset)
+     */
+    public Year plus(long years) {
+        long year = Math.addExact(year(), years);
+        if (year < LocalDate.MIN.getYear() || year > LocalDate.MAX.getYear()) {
+            throw new InvalidYearException("year " + year + " is out of range");
+        }
+        return IntervalBuilder.year((int) year, this.timezone, offset);
+    }
+
+    /**
+     * @return year `years` years before this one (with same timezone and offset)
+     */
+    public Year minus(long years) {
+        return plus(Math.negateExact(years));
+    }
+
+    /**
+     * @return number of years from `from` to `to` (negative if `to` is before `from`)
+     */
+    public static long between(Year from, Year to) {
+        return (long) to.year() - from.year();
+    }
+
+    // calendar year of the interval (without offset shift)
+    private int year() {
+        return this.start.minusHours(offset).getYear();
+    }
+
     @Override
     public Interval withPrevious() {
         return new IntervalBuilder()
@@ -34,18 +73,94 @@ public class Year extends OffsetAwareInterval {
             .build();
     }
 
+    /**
+     * @return days of year (with same timezone and offset)
+     */
+    @Override
+    public Stream<Day> days() {
+        LocalDateTime first = this.start.minusHours(offset);
+        long epochDay = first.toLocalDate().toEpochDay();
+        return IntervalSpliterator.days(this.timezone, epochDay, epochDay + first.toLocalDate().lengthOfYear() - 1, offset);
+    }
+
+    /**
+     * @return months of year (with same timezone and offset)
+     */
+    public Stream<Month> months() {
+        long epochMonth = EpochMath.epochMonth(year(), 1);
+        return IntervalSpliterator.months(this.timezone, epochMonth, epochMonth + 11, offset);
+    }
+
+    /**
+     * @return quarters of year (with same timezone and offset)
+     */
+    public Stream<Quarter> quarters() {
+        long epochQuarter = EpochMath.epochQuarter(year(), 1);
+        return IntervalSpliterator.quarters(this.timezone, epochQuarter, epochQuarter + 3, offset);
+    }
+
     public static Year of(String input) {
-        return of(input, "UTC");
+        return create(input, ZoneRegistry.UTC, 0);
     }
     public static Year of(String input, String timezone) {
         return of(input, timezone, 0);
     }
+    public static Year of(String input, ZoneId timezone) {
+        return of(input, timezone, 0);
+    }
     public static Year of(String input, int offset) {
-        return of(input, "UTC", offset);
+        return create(input, ZoneRegistry.UTC, offset);
     }
     public static Year of(String input, String timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    public static Year of(String input, ZoneId timezone, int offset) {
+        return create(input, ZoneRegistry.shared(timezone), offset);
+    }
+    private static Year create(String input, TimeZone timezone, int offset) {
         Interval interval = IntervalBuilder.parse(input, timezone, offset);
         return IntervalBuilder.year(interval.getStart().getYear(), timezone, offset);
     }
 
+    public static Year of(Instant value) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, 0);
+    }
+    public static Year of(Instant value, String timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Year of(Instant value, ZoneId timezone) {
+        return of(value, timezone, 0);
+    }
+    public static Year of(Instant value, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.UTC, offset);
+    }
+    public static Year of(Instant value, String timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Year of(Instant value, ZoneId timezone, int offset) {
+        return create(value.getEpochSecond(), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Year of(long epochMilli) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, 0);
+    }
+    public static Year of(long epochMilli, String timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Year of(long epochMilli, ZoneId timezone) {
+        return of(epochMilli, timezone, 0);
+    }
+    public static Year of(long epochMilli, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.UTC, offset);
+    }
+    public static Year of(long epochMilli, String timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    public static Year of(long epochMilli, ZoneId timezone, int offset) {
+        return create(Math.floorDiv(epochMilli, EpochMath.MILLIS_PER_SECOND), ZoneRegistry.shared(timezone), offset);
+    }
+    private static Year create(long epochSecond, TimeZone timezone, int offset) {
+        long civil = EpochMath.civil(EpochMath.localEpochDay(timezone.toZoneId(), epochSecond, offset));
+        return IntervalBuilder.year(EpochMath.year(civil), timezone, offset);
+    }
+
 }
@@ -0,0 +1,120 @@
+package ws.slink.intervals;
+
+import ws.slink.intervals.impl.ZoneCache;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lock-free timezone registry used by all interval factories
+ *
+ * `TimeZone.getTimeZone(String)` is `static synchronized` and returns a fresh clone on every call;
+ * registry resolves each timezone once and then serves it from concurrent maps.
+ * Resolution rules are the same as for `TimeZone.getTimeZone` (unknown IDs resolve to "GMT").
+ *
+ * Resolved instances are shared by all intervals and never leave the library: `TimeZone` is
+ * mutable, so methods returning `TimeZone` return copies (use `zoneId` for immutable zone IDs).
+ *
+ * Registry also assigns each timezone a compact integer index (see `PackedInterval`);
+ * indexes are assigned in registration order and are only stable within a single JVM run.
+ */
+public final class ZoneRegistry {
+
+    private ZoneRegistry() {
+        // private default constructor to prevent class instantiation
+    }
+
+    public static final int MAX_INDEX = 0xFFFF;
+
+    private static final ConcurrentMap<String, Integer> INDEX_BY_ID = new ConcurrentHashMap<>();
+    private static volatile TimeZone[] byIndex = new TimeZone[0];
+
+    // shared instance, should not leave the library
+    static final TimeZone UTC = ZoneCache.UTC;
+
+    /**
+     * @param id timezone ID (as accepted by `TimeZone.getTimeZone(String)`)
+     * @return timezone (a copy, modifying it does not affect registry)
+     */
+    public static TimeZone timeZone(String id) {
+        return ZoneCache.copy(shared(id));
+    }
+
+    /**
+     * @param zone timezone ID
+     * @return timezone (a copy, modifying it does not affect registry)
+     */
+    public static TimeZone timeZone(ZoneId zone) {
+        return ZoneCache.copy(shared(zone));
+    }
+
+    /**
+     * @param id timezone ID (as accepted by `TimeZone.getTimeZone(String)`)
+     * @return zone ID of registered timezone
+     */
+    public static ZoneId zoneId(String id) {
+        return shared(id).toZoneId();
+    }
+
+    /**
+     * @param timezone timezone to register
+     * @return compact timezone index (0 .. `MAX_INDEX`)
+     */
+    public static int index(TimeZone timezone) {
+        Integer index = INDEX_BY_ID.get(timezone.getID());
+        return (index != null) ? index : register(timezone);
+    }
+
+    /**
+     * @param index timezone index previously returned by `index(TimeZone)`
+     * @return timezone (a copy, modifying it does not affect registry)
+     */
+    public static TimeZone timeZone(int index) {
+        return ZoneCache.copy(shared(index));
+    }
+
+    // region - shared instances (library internal)
+
+    static TimeZone shared(String id) {
+        return ZoneCache.byId(id);
+    }
+    static TimeZone shared(ZoneId zone) {
+        return ZoneCache.byZone(zone);
+    }
+    static TimeZone shared(int index) {
+        TimeZone[] table = byIndex;
+        if (index < 0 || index >= table.length) {
+            throw new IllegalArgumentException("unknown timezone index: " + index);
+        }
+        return table[index];
+    }
+
+    static TimeZone canonical(TimeZone timezone) {
+        return ZoneCache.canonical(timezone);
+    }
+    static TimeZone copy(TimeZone timezone) {
+        return ZoneCache.copy(timezone);
+    }
+
+    // endregion
+
+    private static synchronized int register(TimeZone timezone) {
+        Integer index = INDEX_BY_ID.get(timezone.getID());
+        if (index != null) {
+            return index;
+        }
+        TimeZone[] table = byIndex;
+        if (table.length > MAX_INDEX) {
+            throw new IllegalStateException("timezone index table is full");
+        }
+        table = Arrays.copyOf(table, table.length + 1);
+        table[table.length - 1] = ZoneCache.canonical(timezone);
+        byIndex = table;
+        INDEX_BY_ID.put(timezone.getID(), table.length - 1);
+        return table.length - 1;
+    }
+
+}
@@ -0,0 +1,20 @@
+package ws.slink.intervals.exception;
+
+/**
+ * Exception thrown on attempt to create invalid hour interval
+ */
+public class InvalidHourException extends InvalidIntervalException {
+
+    private static final String MESSAGE_PREFIX = "invalid hour";
+
+    public InvalidHourException() {
+        super(MESSAGE_PREFIX);
+    }
+    public InvalidHourException(String message) {
+        super(MESSAGE_PREFIX + ": " + message);
+    }
+    public InvalidHourException(Throwable throwable) {
+        super(throwable);
+    }
+
+}
@@ -0,0 +1,20 @@
+package ws.slink.intervals.exception;
+
+/**
+ * Exception thrown on attempt to create invalid quarter interval
+ */
+public class InvalidQuarterException extends InvalidIntervalException {
+
+    private static final String MESSAGE_PREFIX = "invalid quarter";
+
+    public InvalidQuarterException() {
+        super(MESSAGE_PREFIX);
+    }
+    public InvalidQuarterException(String message) {
+        super(MESSAGE_PREFIX + ": " + message);
+    }
+    public InvalidQuarterException(Throwable throwable) {
+        super(throwable);
+    }
+
+}
@@ -0,0 +1,20 @@
+package ws.slink.intervals.exception;
+
+/**
+ * Exception thrown on attempt to create invalid week interval
+ */
+public class InvalidWeekException extends InvalidIntervalException {
+
+    private static final String MESSAGE_PREFIX = "invalid week";
+
+    public InvalidWeekException() {
+        super(MESSAGE_PREFIX);
+    }
+    public InvalidWeekException(String message) {
+        super(MESSAGE_PREFIX + ": " + message);
+    }
+    public InvalidWeekException(Throwable throwable) {
+        super(throwable);
+    }
+
+}
@@ -1,10 +1,14 @@
 package ws.slink.intervals.impl;
 
 import ws.slink.intervals.Interval;
+import ws.slink.intervals.tools.EpochMath;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjuster;
 import java.util.TimeZone;
 
 import static ws.slink.intervals.tools.Formats.DATE_TIME_FORMAT;
@@ -21,6 +25,15 @@ public class CustomInterval implements Interval {
     protected LocalDateTime start;
     protected LocalDateTime end;
 
+    // epoch bounds, resolved once on construction
+    protected Instant startInstant;
+    protected Instant endInstant;
+    protected long startSecond;
+    protected int startNano;
+    protected long endSecond;
+    protected int endNano;
+    private int hash;
+
     // endregion
     // region - initialization
 
@@ -28,6 +41,22 @@ public class CustomInterval implements Interval {
         this(timezone, start, end, 0);
     }
     public CustomInterval(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset) {
+        this(timezone, start, end, offset, null, null);
+    }
+
+    /**
+     * creates interval with bounds aligned by given adjusters
+     * (used by fixed type intervals, such as day, month, year)
+     *
+     * @param timezone interval timezone
+     * @param start interval start (validated as is)
+     * @param end interval end (validated as is)
+     * @param offset interval offset in hours
+     * @param startAdjuster adjuster applied to `start` to get actual interval start (if not null)
+     * @param endAdjuster adjuster applied to `start` to get actual interval end (if not null)
+     */
+    protected CustomInterval(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset,
+                             TemporalAdjuster startAdjuster, TemporalAdjuster endAdjuster) {
         if (timezone == null) {
             throw new IllegalArgumentException("timezone should not be null");
         }
@@ -43,20 +72,87 @@ public class CustomInterval implements Interval {
         if (Math.abs(offset) > MAX_OFFSET) {
             throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
         }
-        this.timezone = timezone;
-        this.start = start;
-        this.end = end;
+        this.timezone = ZoneCache.canonical(timezone);
+        this.start = (startAdjuster == null) ? start : start.with(startAdjuster);
+        this.end = (endAdjuster == null) ? end : start.with(endAdjuster);
         if (offset != 0) {
             this.start = this.start.plusHours(offset);
             this.end = this.end.plusHours(offset);
         }
+        resolveBounds();
+    }
+
+    /**
+     * creates interval with exact epoch bounds (local bounds are derived from them)
+     *
+     * @param timezone interval timezone
+     * @param start interval start (inclusive)
+     * @param end interval end (inclusive)
+     */
+    protected CustomInterval(TimeZone timezone, Instant start, Instant end) {
+        if (timezone == null) {
+            throw new IllegalArgumentException("timezone should not be null");
+        }
+        if (start == null) {
+            throw new IllegalArgumentException("start timestamp should not be null");
+        }
+        if (end == null) {
+            throw new IllegalArgumentException("end timestamp should not be null");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("end timestamp should be after start timestamp");
+        }
+        this.timezone = ZoneCache.canonical(timezone);
+        setBounds(start, end);
+    }
+
+    /**
+     * creates interval from exact epoch bounds: unlike constructors taking local timestamps,
+     * bounds falling into a repeated (DST overlap) hour keep their actual offset
+     *
+     * @param timezone interval timezone
+     * @param start interval start (inclusive)
+     * @param end interval end (inclusive)
+     */
+    public static CustomInterval ofEpochBounds(TimeZone timezone, Instant start, Instant end) {
+        return new CustomInterval(timezone, start, end);
+    }
+
+    /**
+     * replaces interval bounds with exact epoch bounds (local bounds are derived from them)
+     */
+    protected final void setBounds(Instant start, Instant end) {
+        ZoneId zone = timezone.toZoneId();
+        this.start = LocalDateTime.ofInstant(start, zone);
+        this.end = LocalDateTime.ofInstant(end, zone);
+        this.startSecond = start.getEpochSecond();
+        this.startNano = start.getNano();
+        this.endSecond = end.getEpochSecond();
+        this.endNano = end.getNano();
+        this.startInstant = start;
+        this.endInstant = end;
+        this.hash = computeHash();
+    }
+
+    private void resolveBounds() {
+        ZoneId zone = timezone.toZoneId();
+        this.startSecond = EpochMath.toEpochSecond(zone, start.toEpochSecond(ZoneOffset.UTC));
+        this.startNano = start.getNano();
+        this.endSecond = EpochMath.toEpochSecond(zone, end.toEpochSecond(ZoneOffset.UTC));
+        this.endNano = end.getNano();
+        this.startInstant = Instant.ofEpochSecond(startSecond, startNano);
+        this.endInstant = Instant.ofEpochSecond(endSecond, endNano);
+        this.hash = computeHash();
     }
 
     // endregion
     // region - getters
 
     @Override public TimeZone timezone() {
-        return this.timezone;
+        return ZoneCache.copy(timezone);
+    }
+    @Override public String timezoneId() {
+        return timezone.getID();
     }
     @Override public LocalDateTime getStart() {
         return start;
@@ -65,10 +161,22 @@ public class CustomInterval implements Interval {
         return end;
     }
     @Override public Instant start() {
-        return start.atZone(timezone.toZoneId()).toInstant();
+        return startInstant;
     }
     @Override public Instant end() {
-        return end.atZone(timezone.toZoneId()).toInstant();
+        return endInstant;
+    }
+    @Override public long startEpochSecond() {
+        return startSecond;
+    }
+    @Override public int startNano() {
+        return startNano;
+    }
+    @Override public long endEpochSecond() {
+        return endSecond;
+    }
+    @Override public int endNano() {
+        return endNano;
     }
 
     // endregion
@@ -76,9 +184,51 @@ public class CustomInterval implements Interval {
 
     @Override
     public boolean contains(Instant value) {
-        Instant si = start();
-        Instant ei = end();
-        return (si.isBefore(value) || si.equals(value)) && (ei.isAfter(value) || ei.equals(value));
+        return contains(value.getEpochSecond(), value.getNano());
+    }
+    @Override
+    public boolean contains(long epochMilli) {
+        return contains(Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1_000_000);
+    }
+    @Override
+    public boolean contains(long epochSecond, int nano) {
+        if (epochSecond < startSecond || (epochSecond == startSecond && nano < startNano)) {
+            return false;
+        }
+        return epochSecond < endSecond || (epochSecond == endSecond && nano <= endNano);
+    }
+
+    // endregion
+    // region - value semantics
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+        CustomInterval that = (CustomInterval) other;
+        return hash == that.hash
+            && startSecond == that.startSecond
+            && startNano == that.startNano
+            && endSecond == that.endSecond
+            && endNano == that.endNano
+            && timezone.getID().equals(that.timezone.getID());
+    }
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+    private int computeHash() {
+        int result = getClass().getName().hashCode();
+        result = 31 * result + timezone.getID().hashCode();
+        result = 31 * result + Long.hashCode(startSecond);
+        result = 31 * result + startNano;
+        result = 31 * result + Long.hashCode(endSecond);
+        result = 31 * result + endNano;
+        return result;
     }
 
     // endregion
@@ -1,8 +1,12 @@
 package ws.slink.intervals.impl;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjuster;
 import java.util.TimeZone;
 
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
+
 /**
  * Abstract interval with memoized `offset` field
  */
@@ -14,5 +18,24 @@ public abstract class OffsetAwareInterval extends CustomInterval {
         super(timezone, start, end, offset);
         this.offset = offset;
     }
+    protected OffsetAwareInterval(TimeZone timezone, LocalDateTime start, LocalDateTime end, int offset,
+                                  TemporalAdjuster startAdjuster, TemporalAdjuster endAdjuster) {
+        super(timezone, start, end, offset, startAdjuster, endAdjuster);
+        this.offset = offset;
+    }
+    protected OffsetAwareInterval(TimeZone timezone, Instant start, Instant end, int offset) {
+        super(timezone, start, end);
+        if (Math.abs(offset) > MAX_OFFSET) {
+            throw new IllegalArgumentException("maximum offset is +/- " + MAX_OFFSET);
+        }
+        this.offset = offset;
+    }
+
+    /**
+     * @return interval offset in hours
+     */
+    public int offset() {
+        return offset;
+    }
 
 }
\ No newline at end of file
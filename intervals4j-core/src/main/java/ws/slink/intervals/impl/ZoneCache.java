@@ -0,0 +1,96 @@
+package ws.slink.intervals.impl;
+
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Internal store of shared `TimeZone` instances backing `ZoneRegistry` and interval implementations
+ *
+ * `TimeZone` is mutable, so instances kept here must never be handed out to library users:
+ * public API (`ZoneRegistry`, `Interval.timezone()`, ...) returns copies of them.
+ * Resolution rules are the same as for `TimeZone.getTimeZone` (unknown IDs resolve to "GMT").
+ */
+public final class ZoneCache {
+
+    private ZoneCache() {
+        // private default constructor to prevent class instantiation
+    }
+
+    private static final String FALLBACK_ID = "GMT";
+
+    private static final ConcurrentMap<String, TimeZone> BY_ID = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<ZoneId, TimeZone> BY_ZONE = new ConcurrentHashMap<>();
+
+    public static final TimeZone UTC = byId("UTC");
+
+    /**
+     * @param id timezone ID (as accepted by `TimeZone.getTimeZone(String)`)
+     * @return shared timezone instance
+     */
+    public static TimeZone byId(String id) {
+        if (id == null) {
+            throw new NullPointerException("timezone ID should not be null");
+        }
+        TimeZone timezone = BY_ID.get(id);
+        if (timezone != null) {
+            return timezone;
+        }
+        timezone = TimeZone.getTimeZone(id);
+        if (FALLBACK_ID.equals(timezone.getID()) && !FALLBACK_ID.equals(id)) {
+            // do not let unknown IDs grow the registry
+            return BY_ID.computeIfAbsent(FALLBACK_ID, TimeZone::getTimeZone);
+        }
+        TimeZone existing = BY_ID.putIfAbsent(id, timezone);
+        return (existing == null) ? timezone : existing;
+    }
+
+    /**
+     * @param zone timezone ID
+     * @return shared timezone instance
+     */
+    public static TimeZone byZone(ZoneId zone) {
+        TimeZone timezone = BY_ZONE.get(zone);
+        if (timezone != null) {
+            return timezone;
+        }
+        return BY_ZONE.computeIfAbsent(zone, ZoneCache::resolve);
+    }
+
+    /**
+     * maps timezone supplied by caller to an instance caller cannot modify afterwards:
+     * shared instance with the same ID and rules if there is one, private copy otherwise
+     *
+     * @param timezone any timezone instance
+     * @return shared instance or copy of given timezone
+     */
+    public static TimeZone canonical(TimeZone timezone) {
+        String id = timezone.getID();
+        TimeZone shared = BY_ID.get(id);
+        if (shared == timezone) {
+            return timezone;
+        }
+        if (shared == null) {
+            shared = byId(id);
+        }
+        if (shared.getID().equals(id) && shared.hasSameRules(timezone)) {
+            return shared;
+        }
+        return (TimeZone) timezone.clone();
+    }
+
+    /**
+     * @return copy of timezone safe to hand out to library users
+     */
+    public static TimeZone copy(TimeZone timezone) {
+        return (TimeZone) timezone.clone();
+    }
+
+    private static TimeZone resolve(ZoneId zone) {
+        TimeZone timezone = TimeZone.getTimeZone(zone);
+        TimeZone existing = BY_ID.putIfAbsent(timezone.getID(), timezone);
+        return (existing == null) ? timezone : existing;
+    }
+
+}
@@ -1,20 +1,36 @@
 package ws.slink.intervals.tools;
 
 import ws.slink.intervals.exception.InvalidDayException;
+import ws.slink.intervals.exception.InvalidHourException;
 import ws.slink.intervals.exception.InvalidMonthException;
+import ws.slink.intervals.exception.InvalidQuarterException;
+import ws.slink.intervals.exception.InvalidWeekException;
 import ws.slink.intervals.exception.InvalidYearException;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Hour;
 import ws.slink.intervals.Interval;
 import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.ParseError;
+import ws.slink.intervals.ParseResult;
+import ws.slink.intervals.Quarter;
+import ws.slink.intervals.Week;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.impl.ZoneCache;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeParseException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.TimeZone;
 
-import static ws.slink.intervals.tools.Formats.DAY_FORMATTER;
-import static ws.slink.intervals.tools.Formats.MONTH_FORMATTER;
-import static ws.slink.intervals.tools.Formats.YEAR_FORMATTER;
+import static ws.slink.intervals.tools.Formats.MAX_OFFSET;
 
 /**
  * Interval string parsers & custom temporal adjusters
@@ -47,6 +63,63 @@ public final class CalendarTools {
          .with(ChronoField.SECOND_OF_MINUTE, DAY_END_SECOND)
          .with(ChronoField.NANO_OF_SECOND, DAY_END_NANO)
     ;
+    public static final TemporalAdjuster TO_START_OF_HOUR = t ->
+        t.with(ChronoField.MINUTE_OF_HOUR, DAY_START_MINUTE)
+         .with(ChronoField.SECOND_OF_MINUTE, DAY_START_SECOND)
+         .with(ChronoField.NANO_OF_SECOND, DAY_START_NANO)
+    ;
+    public static final TemporalAdjuster TO_END_OF_HOUR = t ->
+        t.with(ChronoField.MINUTE_OF_HOUR, DAY_END_MINUTE)
+         .with(ChronoField.SECOND_OF_MINUTE, DAY_END_SECOND)
+         .with(ChronoField.NANO_OF_SECOND, DAY_END_NANO)
+    ;
+    public static final TemporalAdjuster TO_START_OF_MONTH = t ->
+        t.with(TemporalAdjusters.firstDayOfMonth()).with(TO_START_OF_DAY)
+    ;
+    public static final TemporalAdjuster TO_END_OF_MONTH = t ->
+        t.with(TemporalAdjusters.lastDayOfMonth()).with(TO_END_OF_DAY)
+    ;
+    public static final TemporalAdjuster TO_START_OF_QUARTER = t ->
+        t.with(TemporalAdjusters.firstDayOfMonth())
+         .with(ChronoField.MONTH_OF_YEAR, firstMonthOfQuarter(t.get(ChronoField.MONTH_OF_YEAR)))
+         .with(TO_START_OF_DAY)
+    ;
+    public static final TemporalAdjuster TO_END_OF_QUARTER = t ->
+        t.with(TemporalAdjusters.firstDayOfMonth())
+         .with(ChronoField.MONTH_OF_YEAR, firstMonthOfQuarter(t.get(ChronoField.MONTH_OF_YEAR)) + 2)
+         .with(TemporalAdjusters.lastDayOfMonth())
+         .with(TO_END_OF_DAY)
+    ;
+    public static final TemporalAdjuster TO_START_OF_YEAR = t ->
+        t.with(TemporalAdjusters.firstDayOfYear()).with(TO_START_OF_DAY)
+    ;
+    public static final TemporalAdjuster TO_END_OF_YEAR = t ->
+        t.with(TemporalAdjusters.lastDayOfYear()).with(TO_END_OF_DAY)
+    ;
+
+    public static TemporalAdjuster toStartOfWeek(DayOfWeek firstDayOfWeek) {
+        return t -> t.with(TemporalAdjusters.previousOrSame(firstDayOfWeek)).with(TO_START_OF_DAY);
+    }
+    public static TemporalAdjuster toEndOfWeek(DayOfWeek firstDayOfWeek) {
+        return t -> t.with(TemporalAdjusters.previousOrSame(firstDayOfWeek)).plus(6, ChronoUnit.DAYS).with(TO_END_OF_DAY);
+    }
+    public static TemporalAdjuster toStartOfQuarter(int firstMonthOfYear) {
+        return t -> t.with(TemporalAdjusters.firstDayOfMonth())
+            .minus(Math.floorMod(t.get(ChronoField.MONTH_OF_YEAR) - firstMonthOfYear, 3), ChronoUnit.MONTHS)
+            .with(TO_START_OF_DAY);
+    }
+    public static TemporalAdjuster toEndOfQuarter(int firstMonthOfYear) {
+        return t -> t.with(toStartOfQuarter(firstMonthOfYear))
+            .plus(2, ChronoUnit.MONTHS)
+            .with(TemporalAdjusters.lastDayOfMonth())
+            .with(TO_END_OF_DAY);
+    }
+    public static int quarterOf(int month) {
+        return (month - 1) / 3 + 1;
+    }
+    public static int firstMonthOfQuarter(int month) {
+        return (quarterOf(month) - 1) * 3 + 1;
+    }
 
     public static final LocalTime DAY_START = LocalTime.of(
         DAY_START_HOUR,
@@ -92,12 +165,11 @@ public final class CalendarTools {
         return yearFromString(input, "UTC", offset);
     }
     public static Interval yearFromString(String input, String timezone, int offset) {
-        try {
-            LocalDateTime start = LocalDateTime.parse(input, YEAR_FORMATTER);
-            return IntervalBuilder.year(start.getYear(), timezone, offset);
-        } catch (DateTimeParseException e) {
-            throw new InvalidYearException(e);
+        long scanned = IntervalScanner.scan(input, IntervalScanner.YEAR);
+        if (!IntervalScanner.isValid(scanned)) {
+            throw new InvalidYearException(input);
         }
+        return IntervalBuilder.year(IntervalScanner.year(scanned), timezone, offset);
     }
 
     @SuppressWarnings("unused")
@@ -112,12 +184,11 @@ public final class CalendarTools {
         return monthFromString(input, "UTC", offset);
     }
     public static Interval monthFromString(String input, String timezone, int offset) {
-        try {
-            LocalDateTime start = LocalDateTime.parse(input, MONTH_FORMATTER);
-            return IntervalBuilder.month(start.getYear(), start.getMonthValue(), timezone, offset);
-        } catch (DateTimeParseException e) {
-            throw new InvalidMonthException(e);
+        long scanned = IntervalScanner.scan(input, IntervalScanner.MONTH);
+        if (!IntervalScanner.isValid(scanned)) {
+            throw new InvalidMonthException(input);
         }
+        return IntervalBuilder.month(IntervalScanner.year(scanned), IntervalScanner.month(scanned), timezone, offset);
     }
 
     @SuppressWarnings("unused")
@@ -132,12 +203,240 @@ public final class CalendarTools {
         return dayFromString(input, "UTC", offset);
     }
     public static Interval dayFromString(String input, String timezone, int offset) {
-        try {
-            LocalDateTime start = LocalDateTime.parse(input, DAY_FORMATTER);
-            return IntervalBuilder.day(start.getYear(), start.getMonthValue(), start.getDayOfMonth(), timezone, offset);
-        } catch (DateTimeParseException e) {
-            throw new InvalidDayException(e);
+        long scanned = IntervalScanner.scan(input, IntervalScanner.DAY);
+        if (!IntervalScanner.isValid(scanned)) {
+            throw new InvalidDayException(input);
+        }
+        return IntervalBuilder.day(
+            IntervalScanner.year(scanned),
+            IntervalScanner.month(scanned),
+            IntervalScanner.day(scanned),
+            timezone,
+            offset
+        );
+    }
+
+    @SuppressWarnings("unused")
+    public static Interval weekFromString(String input) {
+        return weekFromString(input, "UTC");
+    }
+    public static Interval weekFromString(String input, String timezone) {
+        return weekFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static Interval weekFromString(String input, int offset) {
+        return weekFromString(input, "UTC", offset);
+    }
+    public static Interval weekFromString(String input, String timezone, int offset) {
+        long scanned = IntervalScanner.scan(input, IntervalScanner.WEEK);
+        if (!IntervalScanner.isValid(scanned)) {
+            throw new InvalidWeekException(input);
+        }
+        return IntervalBuilder.week(IntervalScanner.year(scanned), IntervalScanner.week(scanned), timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static Interval quarterFromString(String input) {
+        return quarterFromString(input, "UTC");
+    }
+    public static Interval quarterFromString(String input, String timezone) {
+        return quarterFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static Interval quarterFromString(String input, int offset) {
+        return quarterFromString(input, "UTC", offset);
+    }
+    public static Interval quarterFromString(String input, String timezone, int offset) {
+        long scanned = IntervalScanner.scan(input, IntervalScanner.QUARTER);
+        if (!IntervalScanner.isValid(scanned)) {
+            throw new InvalidQuarterException(input);
+        }
+        return IntervalBuilder.quarter(IntervalScanner.year(scanned), IntervalScanner.quarter(scanned), timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static Interval hourFromString(String input) {
+        return hourFromString(input, "UTC");
+    }
+    public static Interval hourFromString(String input, String timezone) {
+        return hourFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static Interval hourFromString(String input, int offset) {
+        return hourFromString(input, "UTC", offset);
+    }
+    public static Interval hourFromString(String input, String timezone, int offset) {
+        long scanned = IntervalScanner.scan(input, IntervalScanner.HOUR);
+        if (!IntervalScanner.isValid(scanned)) {
+            throw new InvalidHourException(input);
+        }
+        return IntervalBuilder.hour(
+            IntervalScanner.year(scanned),
+            IntervalScanner.month(scanned),
+            IntervalScanner.day(scanned),
+            IntervalScanner.hour(scanned),
+            timezone,
+            offset
+        );
+    }
+
+    // region - non-throwing parsers
+
+    @SuppressWarnings("unused")
+    public static ParseResult tryYearFromString(CharSequence input) {
+        return tryYearFromString(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryYearFromString(CharSequence input, ZoneId timezone) {
+        return tryYearFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static ParseResult tryYearFromString(CharSequence input, int offset) {
+        return tryYearFromString(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryYearFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.YEAR, timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static ParseResult tryMonthFromString(CharSequence input) {
+        return tryMonthFromString(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryMonthFromString(CharSequence input, ZoneId timezone) {
+        return tryMonthFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static ParseResult tryMonthFromString(CharSequence input, int offset) {
+        return tryMonthFromString(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryMonthFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.MONTH, timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static ParseResult tryDayFromString(CharSequence input) {
+        return tryDayFromString(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryDayFromString(CharSequence input, ZoneId timezone) {
+        return tryDayFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static ParseResult tryDayFromString(CharSequence input, int offset) {
+        return tryDayFromString(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryDayFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.DAY, timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static ParseResult tryWeekFromString(CharSequence input) {
+        return tryWeekFromString(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryWeekFromString(CharSequence input, ZoneId timezone) {
+        return tryWeekFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static ParseResult tryWeekFromString(CharSequence input, int offset) {
+        return tryWeekFromString(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryWeekFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.WEEK, timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static ParseResult tryQuarterFromString(CharSequence input) {
+        return tryQuarterFromString(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryQuarterFromString(CharSequence input, ZoneId timezone) {
+        return tryQuarterFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static ParseResult tryQuarterFromString(CharSequence input, int offset) {
+        return tryQuarterFromString(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryQuarterFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.QUARTER, timezone, offset);
+    }
+
+    @SuppressWarnings("unused")
+    public static ParseResult tryHourFromString(CharSequence input) {
+        return tryHourFromString(input, ZoneOffset.UTC);
+    }
+    public static ParseResult tryHourFromString(CharSequence input, ZoneId timezone) {
+        return tryHourFromString(input, timezone, 0);
+    }
+    @SuppressWarnings("unused")
+    public static ParseResult tryHourFromString(CharSequence input, int offset) {
+        return tryHourFromString(input, ZoneOffset.UTC, offset);
+    }
+    public static ParseResult tryHourFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.HOUR, timezone, offset);
+    }
+
+    /**
+     * parses year, quarter, month, week, day or hour interval string
+     * (never throws, returns parse result with error code and position on invalid input)
+     *
+     * @param input interval string
+     * @param timezone interval timezone
+     * @param offset interval offset in hours
+     * @return parse result
+     */
+    public static ParseResult tryFromString(CharSequence input, ZoneId timezone, int offset) {
+        return tryFromString(input, IntervalScanner.ANY, timezone, offset);
+    }
+    private static ParseResult tryFromString(CharSequence input, int type, ZoneId timezone, int offset) {
+        long scanned = IntervalScanner.scan(input, type);
+        if (!IntervalScanner.isValid(scanned)) {
+            return ParseResult.failure(IntervalScanner.error(scanned), IntervalScanner.position(scanned));
+        }
+        if (timezone == null) {
+            return ParseResult.failure(ParseError.INVALID_TIMEZONE, 0);
+        }
+        if (Math.abs(offset) > MAX_OFFSET) {
+            return ParseResult.failure(ParseError.INVALID_OFFSET, 0);
+        }
+        TimeZone tz = ZoneCache.byZone(timezone);
+        int year = IntervalScanner.year(scanned);
+        switch (IntervalScanner.type(scanned)) {
+            case IntervalScanner.YEAR: {
+                LocalDateTime start = LocalDateTime.of(year, 1, 1, 0, 0);
+                return ParseResult.success(new Year(tz, start, start, offset));
+            }
+            case IntervalScanner.MONTH: {
+                LocalDateTime start = LocalDateTime.of(year, IntervalScanner.month(scanned), 1, 0, 0);
+                return ParseResult.success(new Month(tz, start, start, offset));
+            }
+            case IntervalScanner.WEEK: {
+                long epochDay = EpochMath.firstWeekStart(year, DayOfWeek.MONDAY.getValue()) + 7L * (IntervalScanner.week(scanned) - 1);
+                LocalDateTime start = LocalDate.ofEpochDay(epochDay).atStartOfDay();
+                return ParseResult.success(new Week(tz, start, start, offset));
+            }
+            case IntervalScanner.QUARTER: {
+                LocalDateTime start = LocalDateTime.of(year, (IntervalScanner.quarter(scanned) - 1) * 3 + 1, 1, 0, 0);
+                return ParseResult.success(new Quarter(tz, start, start, offset));
+            }
+            case IntervalScanner.HOUR: {
+                LocalDateTime start = LocalDateTime.of(
+                    year,
+                    IntervalScanner.month(scanned),
+                    IntervalScanner.day(scanned),
+                    IntervalScanner.hour(scanned),
+                    0
+                );
+                try {
+                    return ParseResult.success(new Hour(tz, start, start, offset));
+                } catch (InvalidHourException e) {
+                    // local hour skipped by DST transition
+                    return ParseResult.failure(ParseError.INVALID_HOUR, IntervalScanner.HOUR_POSITION);
+                }
+            }
+            default: {
+                LocalDateTime start = LocalDateTime.of(year, IntervalScanner.month(scanned), IntervalScanner.day(scanned), 0, 0);
+                return ParseResult.success(new Day(tz, start, start, offset));
+            }
         }
     }
 
+    // endregion
+
 }
@@ -0,0 +1,224 @@
+package ws.slink.intervals.tools;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Allocation-free calendar arithmetic on epoch days, weeks, epoch months / quarters and local epoch seconds
+ * (proleptic ISO calendar, same as `java.time`)
+ */
+public final class EpochMath {
+
+    private EpochMath() {
+        // private default constructor to prevent class instantiation
+    }
+
+    public static final int SECONDS_PER_HOUR = 3600;
+    public static final int SECONDS_PER_DAY = 86400;
+    public static final long MILLIS_PER_SECOND = 1000L;
+    public static final int NANOS_PER_MILLI = 1_000_000;
+
+    private static final int EPOCH_YEAR = 1970;
+    private static final long DAYS_0000_TO_1970 = 719468L;
+    private static final long DAYS_PER_ERA = 146097L;
+
+    // region - calendar
+
+    public static boolean isLeapYear(long year) {
+        return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+    }
+    public static int lengthOfMonth(long year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+    public static int lengthOfYear(long year) {
+        return isLeapYear(year) ? 366 : 365;
+    }
+
+    // endregion
+    // region - epoch day
+
+    /**
+     * @return days from 1970-01-01 to given date
+     */
+    public static long epochDay(long year, int month, int day) {
+        long y = (month <= 2) ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * converts epoch day to date packed into a single `long`
+     * (use `year()`, `month()` and `day()` to unpack)
+     */
+    public static long civil(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(z, DAYS_PER_ERA);
+        long dayOfEra = z - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year << 9) | ((long) month << 5) | day;
+    }
+    public static int year(long civil) {
+        return (int) (civil >> 9);
+    }
+    public static int month(long civil) {
+        return (int) ((civil >>> 5) & 0xF);
+    }
+    public static int day(long civil) {
+        return (int) (civil & 0x1F);
+    }
+
+    // endregion
+    // region - weeks
+
+    /**
+     * @return day of week of given epoch day (1 - Monday, ..., 7 - Sunday)
+     */
+    public static int dayOfWeek(long epochDay) {
+        // 1970-01-01 is Thursday
+        return (int) Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    /**
+     * @param firstDayOfWeek first day of week (1 - Monday, ..., 7 - Sunday)
+     * @return epoch day of the first day of week containing given epoch day
+     */
+    public static long startOfWeek(long epochDay, int firstDayOfWeek) {
+        return epochDay - Math.floorMod(dayOfWeek(epochDay) - firstDayOfWeek, 7);
+    }
+
+    /**
+     * first week of week-based year is the first week having at least 4 days in that year
+     * (same rule as ISO-8601 uses, but with arbitrary first day of week)
+     *
+     * @return epoch day of the first day of week-based year
+     */
+    public static long firstWeekStart(long weekBasedYear, int firstDayOfWeek) {
+        long first = epochDay(weekBasedYear, 1, 1);
+        long start = startOfWeek(first, firstDayOfWeek);
+        return (first - start <= 3) ? start : start + 7;
+    }
+    public static int weeksInYear(long weekBasedYear, int firstDayOfWeek) {
+        return (int) ((firstWeekStart(weekBasedYear + 1, firstDayOfWeek) - firstWeekStart(weekBasedYear, firstDayOfWeek)) / 7);
+    }
+
+    /**
+     * @return week-based year of the week containing given epoch day
+     */
+    public static int weekBasedYear(long epochDay, int firstDayOfWeek) {
+        // week belongs to the year containing its 4th day
+        return year(civil(startOfWeek(epochDay, firstDayOfWeek) + 3));
+    }
+
+    /**
+     * @return week of week-based year (1 - 53) containing given epoch day
+     */
+    public static int weekOfWeekBasedYear(long epochDay, int firstDayOfWeek) {
+        long start = startOfWeek(epochDay, firstDayOfWeek);
+        return (int) ((start - firstWeekStart(year(civil(start + 3)), firstDayOfWeek)) / 7) + 1;
+    }
+
+    // endregion
+    // region - epoch month
+
+    /**
+     * @return months from 1970-01 to given month
+     */
+    public static long epochMonth(long year, int month) {
+        return (year - EPOCH_YEAR) * 12 + (month - 1);
+    }
+    public static int yearOfEpochMonth(long epochMonth) {
+        return (int) (Math.floorDiv(epochMonth, 12) + EPOCH_YEAR);
+    }
+    public static int monthOfEpochMonth(long epochMonth) {
+        return (int) Math.floorMod(epochMonth, 12) + 1;
+    }
+
+    /**
+     * @return quarters from 1970-Q1 to given quarter
+     */
+    public static long epochQuarter(long year, int quarter) {
+        return (year - EPOCH_YEAR) * 4 + (quarter - 1);
+    }
+    public static int yearOfEpochQuarter(long epochQuarter) {
+        return (int) (Math.floorDiv(epochQuarter, 4) + EPOCH_YEAR);
+    }
+    public static int quarterOfEpochQuarter(long epochQuarter) {
+        return (int) Math.floorMod(epochQuarter, 4) + 1;
+    }
+
+    /**
+     * @param epochMonth months from 1970-01
+     * @param firstMonthOfYear first month of (fiscal) year, 1 - 12
+     * @return epoch quarter (in fiscal years named by calendar year they end in) containing given month
+     */
+    public static long epochQuarterOfMonth(long epochMonth, int firstMonthOfYear) {
+        return Math.floorDiv(epochMonth - fiscalShift(firstMonthOfYear), 3);
+    }
+
+    /**
+     * @param epochQuarter epoch quarter (in fiscal years named by calendar year they end in)
+     * @param firstMonthOfYear first month of (fiscal) year, 1 - 12
+     * @return epoch month of the first month of given quarter
+     */
+    public static long firstEpochMonthOfQuarter(long epochQuarter, int firstMonthOfYear) {
+        return epochQuarter * 3 + fiscalShift(firstMonthOfYear);
+    }
+
+    // fiscal year starting in January is calendar year, other ones start in preceding calendar year
+    private static int fiscalShift(int firstMonthOfYear) {
+        return (firstMonthOfYear == 1) ? 0 : firstMonthOfYear - 1 - 12;
+    }
+
+    // endregion
+    // region - time zones
+
+    /**
+     * converts local date-time given as seconds from local epoch (1970-01-01T00:00 local)
+     * to seconds from epoch in given timezone
+     * (gaps and overlaps are resolved the same way `LocalDateTime.atZone` does)
+     */
+    public static long toEpochSecond(ZoneId zone, long localEpochSecond) {
+        if (zone instanceof ZoneOffset) {
+            return localEpochSecond - ((ZoneOffset) zone).getTotalSeconds();
+        }
+        return ZoneOffsetTable.of(zone).toEpochSecond(localEpochSecond);
+    }
+
+    /**
+     * converts seconds from epoch to seconds from local epoch (1970-01-01T00:00 local) in given timezone
+     */
+    public static long toLocalEpochSecond(ZoneId zone, long epochSecond) {
+        if (zone instanceof ZoneOffset) {
+            return epochSecond + ((ZoneOffset) zone).getTotalSeconds();
+        }
+        return ZoneOffsetTable.of(zone).toLocalEpochSecond(epochSecond);
+    }
+
+    /**
+     * @return local epoch day of an interval (with given offset in hours) containing given timestamp
+     */
+    public static long localEpochDay(ZoneId zone, long epochSecond, int offset) {
+        return Math.floorDiv(toLocalEpochSecond(zone, epochSecond) - (long) offset * SECONDS_PER_HOUR, SECONDS_PER_DAY);
+    }
+
+    // endregion
+
+}
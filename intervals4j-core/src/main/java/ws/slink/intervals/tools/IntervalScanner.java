@@ -0,0 +1,258 @@
+package ws.slink.intervals.tools;
+
+import ws.slink.intervals.ParseError;
+
+/**
+ * Single-pass, allocation-free scanner for interval strings
+ * (`yyyy`, `yyyy-MM`, `yyyy-MM-dd`, ISO week `yyyy-Www`, quarter `yyyy-Qq` and hour `yyyy-MM-ddTHH`)
+ *
+ * scan result is packed into a single `long`:
+ * - non-negative value holds interval type, year, month (week, quarter), day and hour
+ *   (use `type()`, `year()`, `month()`, `week()`, `quarter()`, `day()` and `hour()` to unpack)
+ * - negative value holds parse error and its position in input string
+ *   (use `error()` and `position()` to unpack)
+ */
+public final class IntervalScanner {
+
+    private IntervalScanner() {
+        // private default constructor to prevent class instantiation
+    }
+
+    public static final int ANY = 0;
+    public static final int YEAR = 1;
+    public static final int MONTH = 2;
+    public static final int DAY = 3;
+    public static final int WEEK = 4;
+    public static final int QUARTER = 5;
+    public static final int HOUR = 6;
+
+    private static final int YEAR_LENGTH = 4;
+    private static final int MONTH_LENGTH = 7;
+    private static final int DAY_LENGTH = 10;
+    private static final char SEPARATOR = '-';
+
+    // patterns of extended formats: '0' stands for a digit, other characters should match as is
+    private static final String WEEK_PATTERN = "0000-W00";
+    private static final String QUARTER_PATTERN = "0000-Q0";
+    private static final String HOUR_PATTERN = "0000-00-00T00";
+    private static final int DESIGNATOR_POSITION = YEAR_LENGTH + 1;
+    static final int HOUR_POSITION = DAY_LENGTH + 1;
+    private static final char WEEK_DESIGNATOR = 'W';
+    private static final char QUARTER_DESIGNATOR = 'Q';
+    private static final char TIME_DESIGNATOR = 'T';
+
+    private static final ParseError[] ERRORS = ParseError.values();
+
+    /**
+     * scans interval string of any supported type
+     *
+     * @param input interval string
+     * @return packed scan result
+     */
+    public static long scan(CharSequence input) {
+        return scan(input, ANY);
+    }
+
+    /**
+     * scans interval string of given type
+     * - day-of-month is checked against 1..31 and then clamped to month length
+     *   (same way as `yyyy-MM-dd` formatter does in SMART resolver mode)
+     * - week is checked against number of ISO weeks in week-based year
+     *
+     * @param input interval string
+     * @param type expected interval type (`ANY`, `YEAR`, `MONTH`, `DAY`, `WEEK`, `QUARTER` or `HOUR`)
+     * @return packed scan result
+     */
+    public static long scan(CharSequence input, int type) {
+        if (input == null) {
+            return fail(ParseError.NULL_INPUT, 0);
+        }
+        if (type == WEEK || (type == ANY && hasCharAt(input, DESIGNATOR_POSITION, WEEK_DESIGNATOR))) {
+            return scanWeek(input);
+        }
+        if (type == QUARTER || (type == ANY && hasCharAt(input, DESIGNATOR_POSITION, QUARTER_DESIGNATOR))) {
+            return scanQuarter(input);
+        }
+        if (type == HOUR || (type == ANY && hasCharAt(input, DAY_LENGTH, TIME_DESIGNATOR))) {
+            return scanHour(input);
+        }
+        int length = input.length();
+        int limit = (type == ANY) ? DAY_LENGTH : lengthOf(type);
+        int scanned = Math.min(length, limit);
+        for (int i = 0; i < scanned; i++) {
+            char c = input.charAt(i);
+            if (i == YEAR_LENGTH || i == MONTH_LENGTH) {
+                if (c != SEPARATOR) {
+                    return fail(ParseError.INVALID_CHARACTER, i);
+                }
+            } else if (c < '0' || c > '9') {
+                return fail(ParseError.INVALID_CHARACTER, i);
+            }
+        }
+        if (length > limit) {
+            return fail(ParseError.INVALID_LENGTH, limit);
+        }
+        if (type == ANY ? (length != YEAR_LENGTH && length != MONTH_LENGTH && length != DAY_LENGTH) : length != limit) {
+            return fail(ParseError.INVALID_LENGTH, length);
+        }
+
+        int year = digits(input, 0, YEAR_LENGTH);
+        if (year < 1) {
+            return fail(ParseError.INVALID_YEAR, 0);
+        }
+        if (length == YEAR_LENGTH) {
+            return pack(YEAR, year, 1, 1, 0);
+        }
+        int month = digits(input, YEAR_LENGTH + 1, MONTH_LENGTH);
+        if (month < 1 || month > 12) {
+            return fail(ParseError.INVALID_MONTH, YEAR_LENGTH + 1);
+        }
+        if (length == MONTH_LENGTH) {
+            return pack(MONTH, year, month, 1, 0);
+        }
+        int day = digits(input, MONTH_LENGTH + 1, DAY_LENGTH);
+        if (day < 1 || day > 31) {
+            return fail(ParseError.INVALID_DAY, MONTH_LENGTH + 1);
+        }
+        return pack(DAY, year, month, Math.min(day, EpochMath.lengthOfMonth(year, month)), 0);
+    }
+
+    private static long scanWeek(CharSequence input) {
+        long result = match(input, WEEK_PATTERN);
+        if (result < 0) {
+            return result;
+        }
+        int year = digits(input, 0, YEAR_LENGTH);
+        if (year < 1) {
+            return fail(ParseError.INVALID_YEAR, 0);
+        }
+        int week = digits(input, DESIGNATOR_POSITION + 1, WEEK_PATTERN.length());
+        if (week < 1 || week > EpochMath.weeksInYear(year, 1)) {
+            return fail(ParseError.INVALID_WEEK, DESIGNATOR_POSITION + 1);
+        }
+        return pack(WEEK, year, week, 0, 0);
+    }
+    private static long scanQuarter(CharSequence input) {
+        long result = match(input, QUARTER_PATTERN);
+        if (result < 0) {
+            return result;
+        }
+        int year = digits(input, 0, YEAR_LENGTH);
+        if (year < 1) {
+            return fail(ParseError.INVALID_YEAR, 0);
+        }
+        int quarter = digits(input, DESIGNATOR_POSITION + 1, QUARTER_PATTERN.length());
+        if (quarter < 1 || quarter > 4) {
+            return fail(ParseError.INVALID_QUARTER, DESIGNATOR_POSITION + 1);
+        }
+        return pack(QUARTER, year, quarter, 0, 0);
+    }
+    private static long scanHour(CharSequence input) {
+        long result = match(input, HOUR_PATTERN);
+        if (result < 0) {
+            return result;
+        }
+        int year = digits(input, 0, YEAR_LENGTH);
+        if (year < 1) {
+            return fail(ParseError.INVALID_YEAR, 0);
+        }
+        int month = digits(input, YEAR_LENGTH + 1, MONTH_LENGTH);
+        if (month < 1 || month > 12) {
+            return fail(ParseError.INVALID_MONTH, YEAR_LENGTH + 1);
+        }
+        int day = digits(input, MONTH_LENGTH + 1, DAY_LENGTH);
+        if (day < 1 || day > 31) {
+            return fail(ParseError.INVALID_DAY, MONTH_LENGTH + 1);
+        }
+        int hour = digits(input, HOUR_POSITION, HOUR_PATTERN.length());
+        if (hour > 23) {
+            return fail(ParseError.INVALID_HOUR, HOUR_POSITION);
+        }
+        return pack(HOUR, year, month, Math.min(day, EpochMath.lengthOfMonth(year, month)), hour);
+    }
+
+    public static boolean isValid(long scanned) {
+        return scanned >= 0;
+    }
+    public static int type(long scanned) {
+        return (int) ((scanned >>> 40) & 0xFF);
+    }
+    public static int year(long scanned) {
+        return (int) ((scanned >>> 16) & 0xFFFFFF);
+    }
+    public static int month(long scanned) {
+        return (int) ((scanned >>> 8) & 0xFF);
+    }
+
+    /**
+     * @return week of week-based year (for `WEEK` scan result)
+     */
+    public static int week(long scanned) {
+        return month(scanned);
+    }
+
+    /**
+     * @return quarter of year (for `QUARTER` scan result)
+     */
+    public static int quarter(long scanned) {
+        return month(scanned);
+    }
+    public static int day(long scanned) {
+        return (int) (scanned & 0xFF);
+    }
+    public static int hour(long scanned) {
+        return (int) ((scanned >>> 48) & 0xFF);
+    }
+    public static ParseError error(long scanned) {
+        return (scanned < 0) ? ERRORS[(int) ((~scanned) >>> 32)] : null;
+    }
+    public static int position(long scanned) {
+        return (scanned < 0) ? (int) ~scanned : -1;
+    }
+
+    private static int lengthOf(int type) {
+        switch (type) {
+            case YEAR:
+                return YEAR_LENGTH;
+            case MONTH:
+                return MONTH_LENGTH;
+            default:
+                return DAY_LENGTH;
+        }
+    }
+    private static boolean hasCharAt(CharSequence input, int position, char value) {
+        return input.length() > position && input.charAt(position) == value;
+    }
+
+    // checks input characters and length against pattern, returns 0 or packed error
+    private static long match(CharSequence input, String pattern) {
+        int length = input.length();
+        int limit = pattern.length();
+        int scanned = Math.min(length, limit);
+        for (int i = 0; i < scanned; i++) {
+            char c = input.charAt(i);
+            char p = pattern.charAt(i);
+            if ((p == '0') ? (c < '0' || c > '9') : (c != p)) {
+                return fail(ParseError.INVALID_CHARACTER, i);
+            }
+        }
+        if (length != limit) {
+            return fail(ParseError.INVALID_LENGTH, scanned);
+        }
+        return 0;
+    }
+    private static long pack(int type, int year, int month, int day, int hour) {
+        return ((long) hour << 48) | ((long) type << 40) | ((long) year << 16) | ((long) month << 8) | day;
+    }
+    private static long fail(ParseError error, int position) {
+        return ~(((long) error.ordinal() << 32) | position);
+    }
+    private static int digits(CharSequence input, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (input.charAt(i) - '0');
+        }
+        return value;
+    }
+
+}
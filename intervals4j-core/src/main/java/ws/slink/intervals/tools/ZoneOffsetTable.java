@@ -0,0 +1,163 @@
+package ws.slink.intervals.tools;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed zone offset transitions for local <-> epoch conversions
+ *
+ * table holds sorted transition epoch seconds with wall offsets in effect before and after
+ * each transition for a fixed range of years, so conversions are a binary search over
+ * primitive arrays instead of `ZoneRules` lookups; fixed-offset zones (such as UTC) skip
+ * the search, timestamps outside table range fall back to `ZoneRules`
+ *
+ * gaps and overlaps are resolved the same way `LocalDateTime.atZone` does
+ * (local time in a gap or an overlap uses offset in effect before transition)
+ */
+public final class ZoneOffsetTable {
+
+    public static final int DEFAULT_FROM_YEAR = 1970;
+    public static final int DEFAULT_TO_YEAR = 2100;
+
+    private static final ConcurrentMap<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+    private final ZoneRules rules;
+    private final boolean fixed;
+    private final int fixedOffset;
+    private final long minSecond;
+    private final long maxSecond;
+
+    // transitions[i] is i-th transition epoch second, offsets[i] is offset in effect before it,
+    // offsets[i + 1] is offset in effect after it
+    private final long[] transitions;
+    private final int[] offsets;
+
+    // local seconds where transition gap or overlap begins and ends
+    private final long[] localStarts;
+    private final long[] localEnds;
+
+    private ZoneOffsetTable(ZoneId zone, int fromYear, int toYear) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        this.fixed = rules.isFixedOffset();
+        this.fixedOffset = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        this.minSecond = LocalDateTime.of(fromYear, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        this.maxSecond = LocalDateTime.of(toYear + 1, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+        long[] transitions = new long[16];
+        int[] offsets = new int[17];
+        int count = 0;
+        if (!fixed) {
+            Instant from = Instant.ofEpochSecond(minSecond - 2 * EpochMath.SECONDS_PER_DAY);
+            offsets[0] = rules.getOffset(from).getTotalSeconds();
+            ZoneOffsetTransition transition = rules.nextTransition(from);
+            while (transition != null && transition.toEpochSecond() <= maxSecond + 2 * EpochMath.SECONDS_PER_DAY) {
+                if (count == transitions.length) {
+                    transitions = Arrays.copyOf(transitions, count * 2);
+                    offsets = Arrays.copyOf(offsets, count * 2 + 1);
+                }
+                transitions[count] = transition.toEpochSecond();
+                offsets[count + 1] = transition.getOffsetAfter().getTotalSeconds();
+                count++;
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+        this.transitions = Arrays.copyOf(transitions, count);
+        this.offsets = Arrays.copyOf(offsets, count + 1);
+        this.localStarts = new long[count];
+        this.localEnds = new long[count];
+        for (int i = 0; i < count; i++) {
+            localStarts[i] = this.transitions[i] + Math.min(this.offsets[i], this.offsets[i + 1]);
+            localEnds[i] = this.transitions[i] + Math.max(this.offsets[i], this.offsets[i + 1]);
+        }
+    }
+
+    /**
+     * @param zone timezone
+     * @return shared table for default year range (`DEFAULT_FROM_YEAR` .. `DEFAULT_TO_YEAR`)
+     */
+    public static ZoneOffsetTable of(ZoneId zone) {
+        ZoneOffsetTable table = TABLES.get(zone);
+        if (table != null) {
+            return table;
+        }
+        return TABLES.computeIfAbsent(zone, z -> new ZoneOffsetTable(z, DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR));
+    }
+
+    /**
+     * @param zone timezone
+     * @param fromYear first year covered by table
+     * @param toYear last year covered by table
+     * @return new (not shared) table for given year range
+     */
+    public static ZoneOffsetTable of(ZoneId zone, int fromYear, int toYear) {
+        if (toYear < fromYear) {
+            throw new IllegalArgumentException("toYear should not be before fromYear");
+        }
+        return new ZoneOffsetTable(zone, fromYear, toYear);
+    }
+
+    public boolean isFixedOffset() {
+        return fixed;
+    }
+
+    /**
+     * @return number of precomputed transitions
+     */
+    public int size() {
+        return transitions.length;
+    }
+
+    /**
+     * @return wall offset in seconds in effect at given timestamp
+     */
+    public int offsetAt(long epochSecond) {
+        if (fixed) {
+            return fixedOffset;
+        }
+        if (epochSecond < minSecond || epochSecond >= maxSecond) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = Arrays.binarySearch(transitions, epochSecond);
+        // transition instant belongs to period after transition
+        return offsets[(index >= 0) ? index + 1 : -index - 1];
+    }
+
+    /**
+     * converts seconds from epoch to seconds from local epoch (1970-01-01T00:00 local)
+     */
+    public long toLocalEpochSecond(long epochSecond) {
+        return epochSecond + offsetAt(epochSecond);
+    }
+
+    /**
+     * converts seconds from local epoch (1970-01-01T00:00 local) to seconds from epoch
+     */
+    public long toEpochSecond(long localEpochSecond) {
+        if (fixed) {
+            return localEpochSecond - fixedOffset;
+        }
+        if (localEpochSecond < minSecond || localEpochSecond >= maxSecond) {
+            return LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+        }
+        int index = Arrays.binarySearch(localStarts, localEpochSecond);
+        index = (index >= 0) ? index : -index - 2;
+        if (index < 0) {
+            return localEpochSecond - offsets[0];
+        }
+        if (localEpochSecond < localEnds[index]) {
+            // gap or overlap: use offset before transition
+            return localEpochSecond - offsets[index];
+        }
+        return localEpochSecond - offsets[index + 1];
+    }
+
+}
@@ -0,0 +1,103 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.PackedInterval;
+import ws.slink.intervals.ShiftedDay;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static ws.slink.intervals.test.common.AllocationBudget.assertAtMost;
+import static ws.slink.intervals.test.common.AllocationBudget.assertFootprint;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+/**
+ * allocation budgets (bytes per call) for interval hot paths;
+ * allocation-free paths are held at exactly 0, object-producing paths at their footprint
+ * measured on reference JVM plus small slack (see `AllocationBudget.assertFootprint`)
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class AllocationBudgetTest {
+
+    private static final ZoneId DST_ZONE = ZoneId.of("Europe/Berlin");
+
+    private static final Day DAY = IntervalBuilder.day(2023, 10, 15, DST_ZONE, 3);
+    private static final Interval SHIFTED = ShiftedDay.of(DAY, "-P1D");
+    private static final Instant INSTANT = DAY.start().plusSeconds(3600);
+    private static final ZonedDateTime ZONED = INSTANT.atZone(DST_ZONE);
+    private static final long EPOCH_MILLI = INSTANT.toEpochMilli();
+    private static final long PACKED = PackedInterval.encode(DAY);
+
+    // region - 01: contains
+
+    @Test
+    public void test0101_contains_instant() {
+        assertAtMost("Day.contains(Instant)", 0, () -> DAY.contains(INSTANT));
+        assertAtMost("ShiftedDay.contains(Instant)", 0, () -> SHIFTED.contains(INSTANT));
+    }
+    @Test
+    public void test0102_contains_primitives() {
+        assertAtMost("Day.contains(long)", 0, () -> DAY.contains(EPOCH_MILLI));
+        assertAtMost("Day.contains(long, int)", 0, () -> DAY.contains(EPOCH_MILLI / 1000, 0));
+        assertAtMost("ShiftedDay.contains(long)", 0, () -> SHIFTED.contains(EPOCH_MILLI));
+    }
+    @Test
+    public void test0103_contains_zoned_date_time() {
+        assertAtMost("Day.contains(ZonedDateTime)", 0, () -> DAY.contains(ZONED));
+    }
+    @Test
+    public void test0104_packed_contains() {
+        assertAtMost("PackedInterval.contains", 0, () -> PackedInterval.contains(PACKED, EPOCH_MILLI));
+    }
+
+    // endregion
+    // region - 02: factories
+
+    @Test
+    public void test0201_builder_factories() {
+        assertFootprint("IntervalBuilder.day(ZoneId)", 592, () -> IntervalBuilder.day(2023, 10, 15, DST_ZONE, 3));
+        assertFootprint("IntervalBuilder.day(String)", 592, () -> IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 3));
+        assertFootprint("IntervalBuilder.month", 784, () -> IntervalBuilder.month(2023, 10, DST_ZONE, 3));
+        assertFootprint("IntervalBuilder.year", 784, () -> IntervalBuilder.year(2023, DST_ZONE, 3));
+    }
+    @Test
+    public void test0202_timestamp_factories() {
+        assertFootprint("Day.of(long)", 592, () -> Day.of(EPOCH_MILLI, DST_ZONE, 3));
+    }
+    @Test
+    public void test0203_packed_navigation() {
+        assertAtMost("PackedInterval.previous", 0, () -> PackedInterval.previous(PACKED));
+    }
+
+    // endregion
+    // region - 03: previous
+
+    @Test
+    public void test0301_previous() {
+        assertFootprint("Day.previous", 616, DAY::previous);
+        assertFootprint("ShiftedDay.previous", 832, SHIFTED::previous);
+    }
+
+    // endregion
+    // region - 04: parsing
+
+    @Test
+    public void test0401_parse() {
+        assertFootprint("IntervalBuilder.parse", 592, () -> IntervalBuilder.parse("2023-10-15", DST_ZONE, 3));
+        assertFootprint("IntervalBuilder.tryParse", 448, () -> IntervalBuilder.tryParse("2023-10-15", DST_ZONE, 3));
+    }
+    @Test
+    public void test0402_try_parse_invalid_input() {
+        assertAtMost("IntervalBuilder.tryParse(invalid)", 0, () -> IntervalBuilder.tryParse("2023-10-51", DST_ZONE, 3));
+        assertAtMost("IntervalBuilder.tryParse(null)", 0, () -> IntervalBuilder.tryParse(null, DST_ZONE, 3));
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,174 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Grid;
+import ws.slink.intervals.GridInterval;
+import ws.slink.intervals.IntervalBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.AllocationBudget.assertAtMost;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class GridTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    // region - 01: bucketing
+
+    @Test
+    public void test0101_utc_buckets() {
+        Grid grid = Grid.of(Duration.ofMinutes(15));
+        assertEquals(96, grid.bucketsPerDay());
+        long epochMilli = Instant.parse("2023-10-15T13:20:00Z").toEpochMilli();
+        long index = grid.indexOf(epochMilli);
+        assertEquals(LocalDate.of(2023, 10, 15).toEpochDay() * 96 + 53, index);
+        GridInterval bucket = grid.bucket(index);
+        assertEquals(LocalDateTime.of(2023, 10, 15, 13, 15), bucket.getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 13, 29, 59, 999999999), bucket.getEnd());
+        assertEquals(Instant.parse("2023-10-15T13:15:00Z").toEpochMilli(), grid.startMillis(index));
+        assertEquals(Instant.parse("2023-10-15T13:30:00Z").toEpochMilli(), grid.endMillis(index));
+        assertTrue(bucket.contains(epochMilli));
+        assertTrue(bucket.contains(Instant.parse("2023-10-15T13:29:59.999999Z")));
+        assertFalse(bucket.contains(Instant.parse("2023-10-15T13:30:00Z")));
+        assertEquals(bucket, grid.bucketOf(Instant.parse("2023-10-15T13:15:00Z")));
+    }
+    @Test
+    public void test0102_buckets_aligned_to_day_with_offset() {
+        Grid grid = Grid.of(Duration.ofHours(1), TEST_TIMEZONE_STR, 3);
+        Day day = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 3);
+        GridInterval first = grid.bucketOf(day.start());
+        assertEquals(day.getStart(), first.getStart());
+        assertEquals(day, first.day());
+        assertEquals(TEST_TIMEZONE, first.timezone());
+        GridInterval last = grid.bucketOf(day.end());
+        assertEquals(day.getEnd(), last.getEnd());
+        assertEquals(23, last.index() - first.index());
+        assertEquals(day.next(), last.next().day());
+    }
+    @Test
+    public void test0103_pre_epoch_timestamps() {
+        Grid grid = Grid.of(Duration.ofMinutes(5), ZoneId.of("UTC"), -2);
+        long epochMilli = Instant.parse("1969-12-31T21:57:00Z").toEpochMilli();
+        GridInterval bucket = grid.bucketOf(epochMilli);
+        assertEquals(LocalDateTime.of(1969, 12, 31, 21, 55), bucket.getStart());
+        assertEquals(IntervalBuilder.day(1969, 12, 31, "UTC", -2), bucket.day());
+        assertTrue(bucket.contains(epochMilli));
+    }
+    @Test
+    public void test0104_step_not_dividing_day() {
+        Grid grid = Grid.of(Duration.ofMinutes(7));
+        assertEquals(206, grid.bucketsOfDay(0));
+        GridInterval last = grid.bucket(205);
+        assertEquals(Duration.ofMinutes(5).toMillis(), grid.endMillis(205) - grid.startMillis(205));
+        assertEquals(grid.bucket(grid.bucketsPerDay()), last.next());
+    }
+
+    // endregion
+    // region - 02: DST days
+
+    @Test
+    public void test0201_short_and_long_days() {
+        Grid grid = Grid.of(Duration.ofMinutes(15), BERLIN, 0);
+        assertEquals(92, grid.bucketsOfDay(LocalDate.of(2023, 3, 26).toEpochDay()));
+        assertEquals(96, grid.bucketsOfDay(LocalDate.of(2023, 6, 1).toEpochDay()));
+        assertEquals(100, grid.bucketsOfDay(LocalDate.of(2023, 10, 29).toEpochDay()));
+    }
+    @Test
+    public void test0202_buckets_tile_dst_days() {
+        Grid grid = Grid.of(Duration.ofMinutes(15), BERLIN, 0);
+        long from = Instant.parse("2023-10-28T00:00:00Z").toEpochMilli();
+        long to = Instant.parse("2023-10-31T00:00:00Z").toEpochMilli();
+        long index = grid.indexOf(from);
+        long expectedStart = grid.startMillis(index);
+        for (long ms = from; ms < to; ms += 60_000) {
+            long current = grid.indexOf(ms);
+            if (current != index) {
+                assertEquals(grid.next(index), current);
+                assertEquals(index, grid.previous(current));
+                assertEquals(grid.endMillis(index), grid.startMillis(current));
+                index = current;
+            }
+            assertTrue(grid.bucket(current).contains(ms));
+        }
+        assertTrue(grid.startMillis(index) > expectedStart);
+    }
+    @Test
+    public void test0203_repeated_hour_buckets() {
+        Grid grid = Grid.of(Duration.ofHours(1), BERLIN, 0);
+        // 02:00 - 03:00 local time is repeated on 2023-10-29
+        GridInterval first = grid.bucketOf(Instant.parse("2023-10-29T00:30:00Z"));
+        GridInterval second = first.next();
+        assertEquals(first.getStart(), second.getStart());
+        assertEquals(Instant.parse("2023-10-29T01:00:00Z"), second.start());
+        assertEquals(second, grid.bucketOf(Instant.parse("2023-10-29T01:30:00Z")));
+    }
+
+    // endregion
+    // region - 03: streams and validation
+
+    @Test
+    public void test0301_buckets_of_interval() {
+        Grid grid = Grid.of(Duration.ofMinutes(5), BERLIN, 0);
+        Day day = Day.of("2023-03-26", BERLIN);
+        List<GridInterval> buckets = grid.buckets(day).collect(Collectors.toList());
+        assertEquals(23 * 12, buckets.size());
+        assertEquals(day.start(), buckets.get(0).start());
+        assertEquals(day.end().getEpochSecond(), buckets.get(buckets.size() - 1).endEpochSecond());
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0302_no_bucket_past_end_of_day() {
+        Grid grid = Grid.of(Duration.ofMinutes(15), BERLIN, 0);
+        grid.bucket(LocalDate.of(2023, 3, 26).toEpochDay() * grid.bucketsPerDay() + 92);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0303_invalid_step() {
+        Grid.of(Duration.ofDays(2));
+    }
+    @Test
+    public void test0304_grid_value_semantics() {
+        assertEquals(Grid.of(Duration.ofMinutes(5), BERLIN, 1), Grid.of(Duration.ofMinutes(5), "Europe/Berlin", 1));
+        assertFalse(Grid.of(Duration.ofMinutes(5), BERLIN, 1).equals(Grid.of(Duration.ofMinutes(5), BERLIN, 2)));
+    }
+    @Test
+    public void test0305_index_of_does_not_allocate() {
+        Grid grid = Grid.of(Duration.ofMinutes(1), BERLIN, 0);
+        long base = Instant.parse("2023-10-15T10:00:00Z").toEpochMilli();
+        long[] counter = {0};
+        assertAtMost("Grid.indexOf", 0, () -> grid.indexOf(base + (counter[0]++ % 3_600_000)));
+    }
+    @Test
+    public void test0306_bucket_value_semantics() {
+        long timestamp = Instant.parse("2023-10-15T10:30:00Z").toEpochMilli();
+        Grid grid = Grid.of(Duration.ofHours(1), "UTC", 0);
+        Grid shiftedGrid = Grid.of(Duration.ofHours(1), "UTC", 1);
+        GridInterval bucket = grid.bucket(grid.indexOf(timestamp));
+        GridInterval shifted = shiftedGrid.bucket(shiftedGrid.indexOf(timestamp));
+        // same hour, different grids
+        assertFalse(bucket.grid().equals(shifted.grid()));
+        assertEquals(bucket, shifted);
+        assertEquals(bucket.hashCode(), shifted.hashCode());
+        assertEquals(0, bucket.compareTo(shifted));
+        GridInterval next = bucket.next();
+        assertNotEquals(bucket, next);
+        assertTrue(bucket.compareTo(next) < 0);
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,173 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalAggregator;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.AllocationBudget.assertAtMost;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalAggregatorTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final long HOUR = 3_600_000L;
+
+    // region - 01: counters
+
+    @Test
+    public void test0101_day_and_month_counters() {
+        IntervalAggregator aggregator = IntervalAggregator.of(BERLIN, 0, Duration.ofDays(365));
+        long start = Instant.parse("2023-10-14T22:00:00Z").toEpochMilli(); // 2023-10-15 00:00 berlin
+        for (int hour = 0; hour < 48; hour++) {
+            aggregator.increment(1, start + hour * HOUR);
+        }
+        aggregator.add(2, start, 10);
+        assertEquals(24, aggregator.count(1, IntervalBuilder.day(2023, 10, 15, BERLIN)));
+        assertEquals(24, aggregator.count(1, IntervalBuilder.day(2023, 10, 16, BERLIN)));
+        assertEquals(48, aggregator.count(1, IntervalBuilder.month(2023, 10, BERLIN)));
+        assertEquals(10, aggregator.count(2, IntervalBuilder.month(2023, 10, BERLIN)));
+        assertEquals(0, aggregator.count(2, IntervalBuilder.day(2023, 10, 16, BERLIN)));
+        assertEquals(0, aggregator.count(3, IntervalBuilder.month(2023, 10, BERLIN)));
+        // event at 23:30 UTC belongs to the next berlin day
+        aggregator.increment(3, Instant.parse("2023-10-31T23:30:00Z").toEpochMilli());
+        assertEquals(1, aggregator.count(3, IntervalBuilder.month(2023, 11, BERLIN)));
+    }
+    @Test
+    public void test0102_buckets_with_offset() {
+        IntervalAggregator aggregator = IntervalAggregator.of("UTC", 3, Duration.ofDays(30));
+        aggregator.increment(0, Instant.parse("2023-11-01T02:00:00Z").toEpochMilli());
+        aggregator.increment(0, Instant.parse("2023-11-01T03:00:00Z").toEpochMilli());
+        assertEquals(1, aggregator.count(0, IntervalBuilder.day(2023, 10, 31, "UTC", 3)));
+        assertEquals(1, aggregator.count(0, IntervalBuilder.month(2023, 10, "UTC", 3)));
+        assertEquals(1, aggregator.count(0, IntervalBuilder.day(2023, 11, 1, "UTC", 3)));
+    }
+    @Test
+    public void test0103_snapshot() {
+        IntervalAggregator aggregator = IntervalAggregator.of(BERLIN, 0, Duration.ofDays(90));
+        aggregator.add(7, Instant.parse("2023-10-15T10:00:00Z").toEpochMilli(), 5);
+        aggregator.add(7, Instant.parse("2023-09-30T10:00:00Z").toEpochMilli(), 3);
+        aggregator.add(8, Instant.parse("2023-09-30T10:00:00Z").toEpochMilli(), 1);
+        Map<Interval, Long> snapshot = aggregator.snapshot(7);
+        List<Interval> keys = new ArrayList<>(snapshot.keySet());
+        assertEquals(4, keys.size());
+        assertEquals(IntervalBuilder.day(2023, 9, 30, BERLIN), keys.get(0));
+        assertEquals(IntervalBuilder.day(2023, 10, 15, BERLIN), keys.get(1));
+        assertEquals(IntervalBuilder.month(2023, 9, BERLIN), keys.get(2));
+        assertEquals(IntervalBuilder.month(2023, 10, BERLIN), keys.get(3));
+        assertEquals(Long.valueOf(5), snapshot.get(keys.get(3)));
+        assertTrue(keys.get(0) instanceof Day);
+        assertTrue(keys.get(3) instanceof Month);
+        assertEquals(6, aggregator.size());
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0104_interval_in_other_timezone() {
+        IntervalAggregator.of(BERLIN, 0, Duration.ofDays(1)).count(0, IntervalBuilder.day(2023, 10, 15, "UTC"));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0105_custom_interval() {
+        IntervalAggregator.of("UTC", 0, Duration.ofDays(1)).count(0, IntervalBuilder.year(2023));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0106_negative_tenant() {
+        IntervalAggregator.of("UTC", 0, Duration.ofDays(1)).increment(-1, 0);
+    }
+    @Test
+    public void test0107_increment_of_existing_bucket_does_not_allocate() {
+        IntervalAggregator aggregator = IntervalAggregator.of(BERLIN, 0, Duration.ofDays(30));
+        long now = Instant.parse("2023-10-15T10:00:00Z").toEpochMilli();
+        aggregator.increment(1, now);
+        assertAtMost("increment", 0, () -> aggregator.increment(1, now + 1000) ? 1L : 0L);
+    }
+
+    // endregion
+    // region - 02: retention
+
+    @Test
+    public void test0201_old_buckets_are_evicted() {
+        IntervalAggregator aggregator = IntervalAggregator.of("UTC", 0, Duration.ofDays(3));
+        long start = Instant.parse("2023-01-30T12:00:00Z").toEpochMilli();
+        for (int day = 0; day < 5; day++) {
+            aggregator.increment(1, start + day * 24 * HOUR);
+        }
+        // latest day is 2023-02-03, days 02-01 .. 02-03 are retained
+        assertEquals(0, aggregator.count(1, IntervalBuilder.day(2023, 1, 31, "UTC")));
+        assertEquals(1, aggregator.count(1, IntervalBuilder.day(2023, 2, 1, "UTC")));
+        assertEquals(0, aggregator.count(1, IntervalBuilder.month(2023, 1, "UTC")));
+        assertEquals(3, aggregator.count(1, IntervalBuilder.month(2023, 2, "UTC")));
+        assertEquals(4, aggregator.size());
+        // events older than retention window are dropped
+        assertFalse(aggregator.increment(1, start));
+        assertEquals(1, aggregator.dropped());
+        assertTrue(aggregator.increment(1, start + 2 * 24 * HOUR));
+        assertEquals(2, aggregator.count(1, IntervalBuilder.day(2023, 2, 1, "UTC")));
+    }
+    @Test
+    public void test0202_retention_rounded_up_to_days() {
+        assertEquals(Duration.ofDays(2), IntervalAggregator.of("UTC", 0, Duration.ofHours(25)).retention());
+        assertEquals(Duration.ofDays(1), IntervalAggregator.of("UTC", 0, Duration.ofMinutes(1)).retention());
+    }
+
+    // endregion
+    // region - 03: concurrency
+
+    @Test
+    public void test0301_concurrent_increments_are_not_lost() throws InterruptedException {
+        IntervalAggregator aggregator = IntervalAggregator.of(BERLIN, 0, Duration.ofDays(400));
+        long start = Instant.parse("2023-01-01T12:00:00Z").toEpochMilli();
+        int threads = 8;
+        int tenants = 50;
+        int days = 100;
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    ready.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int day = 0; day < days; day++) {
+                    for (int tenant = 0; tenant < tenants; tenant++) {
+                        aggregator.increment(tenant, start + day * 24 * HOUR);
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        ready.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertEquals(tenants * (days + 4), aggregator.size());
+        for (int tenant = 0; tenant < tenants; tenant++) {
+            assertEquals(threads, aggregator.count(tenant, IntervalBuilder.day(2023, 2, 14, BERLIN)));
+            assertEquals(threads * 28, aggregator.count(tenant, IntervalBuilder.month(2023, 2, BERLIN)));
+            long total = aggregator.snapshot(tenant).entrySet().stream()
+                .filter(e -> e.getKey() instanceof Month)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+            assertEquals(threads * days, total);
+        }
+    }
+
+    // endregion
+
+}
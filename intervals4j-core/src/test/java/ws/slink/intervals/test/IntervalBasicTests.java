@@ -3,7 +3,10 @@ package ws.slink.intervals.test;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
 import ws.slink.intervals.Interval;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
 import ws.slink.intervals.impl.CustomInterval;
 
 import java.time.Instant;
@@ -166,4 +169,55 @@ public class IntervalBasicTests {
 
     // endregion
 
+    // region - 04: primitive checks
+
+    @Test
+    public void test0401_interval_contains_epoch_milli() {
+        Interval interval = new CustomInterval(TEST_TIMEZONE, TEST_START, TEST_END);
+        long startMilli = interval.start().toEpochMilli();
+        long endMilli = interval.end().toEpochMilli();
+        assertTrue("should contain interval start", interval.contains(startMilli));
+        assertTrue("should contain interval end", interval.contains(endMilli));
+        assertFalse("should not contain timestamp before start", interval.contains(startMilli - 1));
+        assertFalse("should not contain timestamp after end", interval.contains(endMilli + 1));
+    }
+    @Test
+    public void test0402_interval_contains_epoch_second_and_nano() {
+        Interval interval = new CustomInterval(TEST_TIMEZONE, TEST_START, TEST_END, 5);
+        Instant start = interval.start();
+        Instant end = interval.end();
+        assertTrue("should contain interval start", interval.contains(start.getEpochSecond(), start.getNano()));
+        assertTrue("should contain interval end", interval.contains(end.getEpochSecond(), end.getNano()));
+        Instant before = start.minusNanos(1);
+        Instant after = end.plusNanos(1);
+        assertFalse("should not contain timestamp before start", interval.contains(before.getEpochSecond(), before.getNano()));
+        assertFalse("should not contain timestamp after end", interval.contains(after.getEpochSecond(), after.getNano()));
+    }
+    @Test
+    public void test0403_interval_contains_pre_epoch_milli() {
+        Interval interval = new CustomInterval(
+            TimeZone.getTimeZone(ZoneOffset.UTC),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 998000000),
+            LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999000000)
+        );
+        assertFalse(interval.contains(-3L));
+        assertTrue(interval.contains(-2L));
+        assertTrue(interval.contains(-1L));
+        assertFalse(interval.contains(0L));
+    }
+    @Test
+    public void test0404_fixed_intervals_resolve_epoch_bounds() {
+        Interval day = new Day(TEST_TIMEZONE, TEST_START, TEST_START, 3);
+        assertEquals(TEST_START.plusHours(3).atZone(TEST_TIMEZONE.toZoneId()).toInstant(), day.start());
+        assertEquals(TEST_START.plusDays(1).plusHours(3).minusNanos(1).atZone(TEST_TIMEZONE.toZoneId()).toInstant(), day.end());
+        Interval month = new Month(TEST_TIMEZONE, TEST_START, TEST_START, -3);
+        assertEquals(TEST_START.minusHours(3).atZone(TEST_TIMEZONE.toZoneId()).toInstant(), month.start());
+        assertEquals(TEST_END.minusHours(3).atZone(TEST_TIMEZONE.toZoneId()).toInstant(), month.end());
+        Interval year = new Year(TEST_TIMEZONE, TEST_START, TEST_START);
+        assertEquals(LocalDateTime.of(2023, 1, 1, 0, 0).atZone(TEST_TIMEZONE.toZoneId()).toInstant(), year.start());
+        assertTrue(year.contains(month.end().toEpochMilli()));
+    }
+
+    // endregion
+
 }
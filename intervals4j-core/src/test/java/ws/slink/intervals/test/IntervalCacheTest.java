@@ -0,0 +1,101 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalCache;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalCacheTest {
+
+    @Test
+    public void test0101_cache_returns_canonical_instances() {
+        IntervalCache cache = new IntervalCache(64);
+        Day day = cache.day(2023, 10, 15, TEST_TIMEZONE_STR, 3);
+        assertSame(day, cache.day(2023, 10, 15, ZoneId.of(TEST_TIMEZONE_STR), 3));
+        Month month = cache.month(2023, 10, TEST_TIMEZONE_STR, 0);
+        assertSame(month, cache.month(2023, 10, TEST_TIMEZONE_STR, 0));
+        Year year = cache.year(2023, "UTC", 0);
+        assertSame(year, cache.year(2023, "UTC", 0));
+        assertEquals(3, cache.misses());
+        assertEquals(3, cache.hits());
+        assertEquals(3, cache.size());
+    }
+    @Test
+    public void test0102_cached_instances_match_builder_instances() {
+        IntervalCache cache = new IntervalCache(64);
+        Day expected = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, -5);
+        Day actual = cache.day(2023, 10, 15, TEST_TIMEZONE_STR, -5);
+        assertEquals(expected.timezone(), actual.timezone());
+        assertEquals(expected.start(), actual.start());
+        assertEquals(expected.end(), actual.end());
+    }
+    @Test
+    public void test0103_key_includes_type_zone_and_offset() {
+        IntervalCache cache = new IntervalCache(1024);
+        Day day = cache.day(2023, 10, 15, "UTC", 0);
+        assertNotSame(day, cache.day(2023, 10, 15, "UTC", 1));
+        assertNotSame(day, cache.day(2023, 10, 15, TEST_TIMEZONE_STR, 0));
+        assertNotSame(day, cache.day(2023, 10, 16, "UTC", 0));
+        assertEquals(0, cache.hits());
+    }
+    @Test
+    public void test0104_cache_is_bounded() {
+        IntervalCache cache = new IntervalCache(8);
+        assertEquals(8, cache.capacity());
+        for (int d = 1; d <= 28; d++) {
+            cache.day(2023, 2, d, "UTC", 0);
+        }
+        assertTrue(cache.size() <= 8);
+        assertEquals(28, cache.misses());
+        assertEquals(28 - cache.size(), cache.evictions());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+    @Test
+    public void test0105_cache_is_thread_safe() throws Exception {
+        IntervalCache cache = new IntervalCache(256);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Day>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    Day last = null;
+                    for (int j = 0; j < 1000; j++) {
+                        last = cache.day(2023, 10, 15, TEST_TIMEZONE_STR, 0);
+                    }
+                    return last;
+                }));
+            }
+            Day expected = cache.day(2023, 10, 15, TEST_TIMEZONE_STR, 0);
+            for (Future<Day> future : futures) {
+                assertEquals(expected.start(), future.get().start());
+            }
+            assertEquals(64 * 1000 + 1, cache.hits() + cache.misses());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0106_cache_requires_positive_capacity() {
+        new IntervalCache(0);
+    }
+
+}
@@ -0,0 +1,162 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalDecomposer;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.ZoneRegistry;
+import ws.slink.intervals.impl.CustomInterval;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalDecomposerTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    // region - 01: calendar pieces
+
+    @Test
+    public void test0101_minimal_cover_of_whole_days() {
+        Interval query = new IntervalBuilder()
+            .timezone(TEST_TIMEZONE)
+            .start(LocalDateTime.of(2022, 11, 14, 0, 0))
+            .end(LocalDateTime.of(2024, 2, 3, 23, 59, 59, 999999999))
+            .build();
+        List<Interval> pieces = IntervalDecomposer.cover(query);
+        assertEquals(17 + 1 + 1 + 1 + 3, pieces.size());
+        assertEquals(IntervalBuilder.day(2022, 11, 14, TEST_TIMEZONE_STR), pieces.get(0));
+        assertEquals(IntervalBuilder.day(2022, 11, 30, TEST_TIMEZONE_STR), pieces.get(16));
+        assertEquals(IntervalBuilder.month(2022, 12, TEST_TIMEZONE_STR), pieces.get(17));
+        assertEquals(IntervalBuilder.year(2023, TEST_TIMEZONE_STR), pieces.get(18));
+        assertEquals(IntervalBuilder.month(2024, 1, TEST_TIMEZONE_STR), pieces.get(19));
+        assertEquals(IntervalBuilder.day(2024, 2, 3, TEST_TIMEZONE_STR), pieces.get(22));
+        assertTiles(query, pieces);
+    }
+    @Test
+    public void test0102_single_calendar_piece() {
+        Year year = IntervalBuilder.year(2024, BERLIN, 2);
+        List<Interval> pieces = IntervalDecomposer.cover(year, BERLIN, 2);
+        assertEquals(1, pieces.size());
+        assertEquals(year, pieces.get(0));
+        Month month = IntervalBuilder.month(2024, 2, BERLIN);
+        assertEquals(1, IntervalDecomposer.cover(month).size());
+        assertTrue(IntervalDecomposer.cover(month).get(0) instanceof Month);
+    }
+    @Test
+    public void test0103_sub_day_edges() {
+        Interval query = new IntervalBuilder()
+            .zoneId(BERLIN)
+            .start(LocalDateTime.of(2023, 3, 25, 13, 30))
+            .end(LocalDateTime.of(2023, 5, 1, 8, 15))
+            .build();
+        List<Interval> pieces = IntervalDecomposer.cover(query, BERLIN);
+        assertEquals(LocalDateTime.of(2023, 3, 25, 13, 30), pieces.get(0).getStart());
+        assertEquals(LocalDateTime.of(2023, 3, 25, 23, 59, 59, 999999999), pieces.get(0).getEnd());
+        assertFalse(pieces.get(0) instanceof Day);
+        // 6 days of march (including DST day), april, custom edge of may 1st
+        assertEquals(1 + 6 + 1 + 1, pieces.size());
+        assertTrue(pieces.get(7) instanceof Month);
+        assertEquals(LocalDateTime.of(2023, 5, 1, 0, 0), pieces.get(8).getStart());
+        assertTiles(query, pieces);
+    }
+    @Test
+    public void test0104_interval_within_single_day() {
+        Interval query = new IntervalBuilder()
+            .zoneId(BERLIN)
+            .start(LocalDateTime.of(2023, 10, 15, 10, 0))
+            .end(LocalDateTime.of(2023, 10, 15, 11, 0))
+            .build();
+        List<Interval> pieces = IntervalDecomposer.cover(query, BERLIN);
+        assertEquals(1, pieces.size());
+        assertEquals(query, pieces.get(0));
+    }
+
+    // endregion
+    // region - 02: timezones and offsets
+
+    @Test
+    public void test0201_pieces_in_other_timezone_with_offset() {
+        Interval query = new IntervalBuilder()
+            .zoneId(ZoneId.of("UTC"))
+            .start(LocalDateTime.of(2023, 1, 1, 0, 0))
+            .end(LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999999999))
+            .build();
+        List<Interval> pieces = IntervalDecomposer.cover(query, BERLIN, 3);
+        // berlin day with offset 3 starts at 02:00 UTC (winter)
+        assertEquals(LocalDateTime.of(2023, 1, 1, 1, 0), pieces.get(0).getStart());
+        assertEquals(LocalDateTime.of(2023, 1, 1, 2, 59, 59, 999999999), pieces.get(0).getEnd());
+        // year end is 2024-01-01 03:00 local, so december is covered by days up to the 30th
+        assertEquals(1 + 11 + 30 + 1, pieces.size());
+        assertEquals(IntervalBuilder.month(2023, 1, BERLIN, 3), pieces.get(1));
+        assertEquals(IntervalBuilder.month(2023, 11, BERLIN, 3), pieces.get(11));
+        assertEquals(IntervalBuilder.day(2023, 12, 30, BERLIN, 3), pieces.get(41));
+        assertTiles(query, pieces);
+    }
+    @Test
+    public void test0202_random_ranges_are_tiled() {
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.of(2019, 1, 1, 0, 0);
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = base.plusMinutes(random.nextInt(60 * 24 * 365 * 3));
+            LocalDateTime end = start.plusMinutes(1 + random.nextInt(60 * 24 * 365 * 2));
+            Interval query = new IntervalBuilder().zoneId(BERLIN).start(start).end(end).build();
+            // with offset 3 berlin days end within DST transition hour (see `IntervalDecomposer`)
+            int offset = random.nextInt(6) - 3;
+            List<Interval> pieces = IntervalDecomposer.cover(query, BERLIN, offset);
+            assertTiles(query, pieces);
+            long days = pieces.stream().filter(p -> p instanceof Day).count();
+            assertTrue("too many days: " + days, days <= 2 * (30 + 11));
+        }
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0203_invalid_offset() {
+        IntervalDecomposer.cover(IntervalBuilder.day(2023, 10, 15), BERLIN, 24);
+    }
+    @Test
+    public void test0204_edges_in_repeated_dst_hour() {
+        // 2023-10-29 01:30Z is 02:30 CET (second pass of repeated hour in berlin)
+        Interval query = CustomInterval.ofEpochBounds(ZoneRegistry.timeZone(BERLIN),
+            Instant.parse("2023-10-29T01:30:00Z"), Instant.parse("2023-10-31T22:59:59.999999999Z"));
+        List<Interval> pieces = IntervalDecomposer.cover(query, BERLIN, 0);
+        assertEquals(1 + 2, pieces.size());
+        assertEquals(Instant.parse("2023-10-29T01:30:00Z"), pieces.get(0).start());
+        assertEquals(Instant.parse("2023-10-29T22:59:59.999999999Z"), pieces.get(0).end());
+        assertEquals(IntervalBuilder.day(2023, 10, 30, BERLIN), pieces.get(1));
+        assertTiles(query, pieces);
+        // trailing edge ending in second pass of repeated hour (02:29:59 CET)
+        query = CustomInterval.ofEpochBounds(ZoneRegistry.timeZone(BERLIN),
+            Instant.parse("2023-10-27T22:00:00Z"), Instant.parse("2023-10-29T01:29:59.999999999Z"));
+        pieces = IntervalDecomposer.cover(query, BERLIN, 0);
+        assertEquals(2, pieces.size());
+        assertEquals(Instant.parse("2023-10-28T22:00:00Z"), pieces.get(1).start());
+        assertEquals(Instant.parse("2023-10-29T01:29:59.999999999Z"), pieces.get(1).end());
+        assertTiles(query, pieces);
+    }
+
+    // endregion
+
+    private static void assertTiles(Interval query, List<Interval> pieces) {
+        assertEquals(query.start(), pieces.get(0).start());
+        assertEquals(query.end(), pieces.get(pieces.size() - 1).end());
+        for (int i = 1; i < pieces.size(); i++) {
+            assertEquals("gap or overlap at " + i, pieces.get(i - 1).end().plusNanos(1), pieces.get(i).start());
+        }
+    }
+
+}
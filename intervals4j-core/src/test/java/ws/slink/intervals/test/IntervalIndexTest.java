@@ -0,0 +1,176 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalIndex;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.AllocationBudget.assertAtMost;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final long BASE_MILLI = BASE.toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    // region - 01: basic queries
+
+    @Test
+    public void test0101_empty_index() {
+        IntervalIndex<String> index = IntervalIndex.<String>builder().build();
+        assertTrue(index.isEmpty());
+        assertEquals(0, index.count(BASE_MILLI));
+        assertFalse(index.contains(BASE_MILLI));
+    }
+    @Test
+    public void test0102_query_reports_containing_intervals() {
+        IntervalIndex<String> index = IntervalIndex.<String>builder()
+            .add(IntervalBuilder.day(2023, 10, 15), "day")
+            .add(IntervalBuilder.month(2023, 10), "month")
+            .add(IntervalBuilder.year(2023), "year")
+            .add(IntervalBuilder.year(2024), "next year")
+            .build();
+        List<String> result = new ArrayList<>();
+        assertEquals(3, index.query(Instant.parse("2023-10-15T12:00:00Z"), result::add));
+        Collections.sort(result);
+        assertEquals(List.of("day", "month", "year"), result);
+        assertEquals(1, index.count(Instant.parse("2023-11-15T12:00:00Z").toEpochMilli()));
+        assertEquals(0, index.count(Instant.parse("2025-01-01T00:00:00Z").toEpochMilli()));
+    }
+    @Test
+    public void test0103_bounds_are_inclusive_to_nanosecond() {
+        Interval day = IntervalBuilder.day(2023, 10, 15);
+        IntervalIndex<Interval> index = IntervalIndex.<Interval>builder().add(day, day).build();
+        assertTrue(index.contains(day.start()));
+        assertTrue(index.contains(day.end()));
+        assertFalse(index.contains(day.start().minusNanos(1)));
+        assertFalse(index.contains(day.end().plusNanos(1)));
+        assertEquals(1, index.count(day.endEpochSecond(), day.endNano()));
+    }
+    @Test
+    public void test0104_overlapping_reports_entries() {
+        IntervalIndex<String> index = IntervalIndex.<String>builder()
+            .add(IntervalBuilder.day(2023, 10, 14), "14")
+            .add(IntervalBuilder.day(2023, 10, 15), "15")
+            .add(IntervalBuilder.day(2023, 10, 16), "16")
+            .add(IntervalBuilder.day(2023, 10, 17), "17")
+            .build();
+        Interval range = new IntervalBuilder()
+            .start(LocalDateTime.of(2023, 10, 15, 12, 0))
+            .end(LocalDateTime.of(2023, 10, 16, 0, 0))
+            .build();
+        List<String> result = new ArrayList<>();
+        assertEquals(2, index.overlapping(range, (interval, value) -> {
+            assertTrue(interval.contains(interval.start()));
+            result.add(value);
+        }));
+        Collections.sort(result);
+        assertEquals(List.of("15", "16"), result);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0105_null_interval_is_rejected() {
+        IntervalIndex.<String>builder().add(null, "value");
+    }
+
+    // endregion
+    // region - 02: consistency with linear scan
+
+    @Test
+    public void test0201_matches_linear_scan() {
+        assertMatchesLinearScan(false, 5_000);
+    }
+    @Test
+    public void test0202_parallel_build_matches_linear_scan() {
+        assertMatchesLinearScan(true, 50_000);
+    }
+    @Test
+    public void test0203_build_sorts_by_bounds_keeping_insertion_order_of_ties() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            Random random = new Random(3);
+            IntervalIndex.Builder<Integer> builder = IntervalIndex.<Integer>builder().parallel(parallel);
+            // few distinct bounds, so most intervals have equal bounds
+            for (int i = 0; i < 40_000; i++) {
+                LocalDateTime start = BASE.plusHours(random.nextInt(20));
+                builder.add(new IntervalBuilder().start(start).end(start.plusHours(random.nextInt(3))).build(), i);
+            }
+            IntervalIndex<Integer> index = builder.build();
+            for (int i = 1; i < index.size(); i++) {
+                int result = Interval.BY_BOUNDS.compare(index.interval(i - 1), index.interval(i));
+                assertTrue(result < 0 || (result == 0 && index.value(i - 1) < index.value(i)));
+            }
+        }
+    }
+
+    // endregion
+    // region - 03: allocations
+
+    @Test
+    public void test0301_query_does_not_allocate() {
+        IntervalIndex<Integer> index = randomIndex(new Random(7), 10_000, false, new ArrayList<>());
+        long value = BASE_MILLI + 100 * 3_600_000L;
+        Consumer<Integer> consumer = v -> { };
+        assertAtMost("IntervalIndex.query", 0, () -> index.query(value, consumer));
+        assertAtMost("IntervalIndex.contains", 0, () -> index.contains(value));
+    }
+
+    // endregion
+
+    private static void assertMatchesLinearScan(boolean parallel, int size) {
+        Random random = new Random(size);
+        List<Interval> intervals = new ArrayList<>();
+        IntervalIndex<Integer> index = randomIndex(random, size, parallel, intervals);
+        assertEquals(size, index.size());
+        for (int q = 0; q < 500; q++) {
+            long value = BASE_MILLI + (long) (random.nextDouble() * 400 * 86_400_000L);
+            int expected = 0;
+            long expectedSum = 0;
+            for (int i = 0; i < intervals.size(); i++) {
+                if (intervals.get(i).contains(value)) {
+                    expected++;
+                    expectedSum += i;
+                }
+            }
+            long[] actualSum = new long[1];
+            assertEquals(expected, index.query(value, v -> actualSum[0] += v));
+            assertEquals(expectedSum, actualSum[0]);
+            assertEquals(expected > 0, index.contains(value));
+        }
+        for (int q = 0; q < 100; q++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(365 * 24 * 60));
+            Interval range = new IntervalBuilder().start(start).end(start.plusMinutes(random.nextInt(60 * 24 * 7))).build();
+            int expected = 0;
+            for (Interval interval : intervals) {
+                if (!interval.start().isAfter(range.end()) && !interval.end().isBefore(range.start())) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, index.overlapping(range, (interval, value) -> { }));
+        }
+    }
+    private static IntervalIndex<Integer> randomIndex(Random random, int size, boolean parallel, List<Interval> intervals) {
+        IntervalIndex.Builder<Integer> builder = IntervalIndex.<Integer>builder().parallel(parallel);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime start = BASE.plusMinutes(random.nextInt(365 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(random.nextInt(random.nextBoolean() ? 600 : 60 * 24 * 30));
+            Interval interval = new IntervalBuilder().start(start).end(end).build();
+            intervals.add(interval);
+            builder.add(interval, i);
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,92 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalLookupTest {
+
+    private static final ZoneId TEST_ZONE = ZoneId.of(TEST_TIMEZONE_STR);
+    private static final ZoneId DST_ZONE = ZoneId.of("Europe/Berlin");
+
+    // region - 01: day lookup
+
+    @Test
+    public void test0101_day_of_instant() {
+        Instant value = ZonedDateTime.of(2023, 10, 15, 13, 0, 0, 0, TEST_ZONE).toInstant();
+        assertEquals(IntervalBuilder.day(2023, 10, 15, TEST_ZONE), Day.of(value, TEST_ZONE));
+        assertEquals(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR), Day.of(value, TEST_TIMEZONE_STR));
+        assertEquals(IntervalBuilder.day(2023, 10, 15, "UTC"), Day.of(value));
+    }
+    @Test
+    public void test0102_day_of_respects_offset() {
+        Instant value = ZonedDateTime.of(2023, 10, 15, 5, 0, 0, 0, TEST_ZONE).toInstant();
+        assertEquals(IntervalBuilder.day(2023, 10, 14, TEST_ZONE, 10), Day.of(value, TEST_ZONE, 10));
+        assertEquals(IntervalBuilder.day(2023, 10, 15, TEST_ZONE, 5), Day.of(value, TEST_ZONE, 5));
+        assertEquals(IntervalBuilder.day(2023, 10, 15, TEST_ZONE, -10), Day.of(value, TEST_ZONE, -10));
+        assertEquals(IntervalBuilder.day(2023, 10, 14, "UTC", 10), Day.of(value, 10));
+    }
+    @Test
+    public void test0103_day_of_epoch_milli() {
+        Instant value = Instant.parse("1969-12-31T23:59:59.999Z");
+        assertEquals(Day.of(value), Day.of(value.toEpochMilli()));
+        assertEquals(IntervalBuilder.day(1969, 12, 31, "UTC"), Day.of(value.toEpochMilli()));
+        assertEquals(Day.of(value, TEST_ZONE, 3), Day.of(value.toEpochMilli(), TEST_TIMEZONE_STR, 3));
+    }
+    @Test
+    public void test0104_day_of_contains_value_across_dst() {
+        long start = Instant.parse("2023-03-20T00:00:00Z").toEpochMilli();
+        long end = Instant.parse("2023-11-05T00:00:00Z").toEpochMilli();
+        for (int offset : new int[] {-7, 0, 2, 3}) {
+            for (long milli = start; milli < end; milli += 1_234_567L) {
+                Day day = Day.of(milli, DST_ZONE, offset);
+                // day end falling into DST overlap resolves to earlier offset,
+                // so up to an hour after such day end is not covered by any day
+                long gap = milli - day.end().toEpochMilli();
+                assertTrue(day.contains(milli) || (gap > 0 && gap <= 3_600_000L));
+            }
+        }
+    }
+
+    // endregion
+    // region - 02: month & year lookup
+
+    @Test
+    public void test0201_month_of_instant() {
+        Instant value = ZonedDateTime.of(2023, 11, 1, 5, 0, 0, 0, TEST_ZONE).toInstant();
+        assertEquals(IntervalBuilder.month(2023, 11, TEST_ZONE), Month.of(value, TEST_ZONE));
+        assertEquals(IntervalBuilder.month(2023, 10, TEST_ZONE, 10), Month.of(value, TEST_ZONE, 10));
+        assertEquals(Month.of(value, TEST_ZONE, 10), Month.of(value.toEpochMilli(), TEST_ZONE, 10));
+    }
+    @Test
+    public void test0202_year_of_instant() {
+        Instant value = ZonedDateTime.of(2024, 1, 1, 5, 0, 0, 0, TEST_ZONE).toInstant();
+        assertEquals(IntervalBuilder.year(2024, TEST_ZONE), Year.of(value, TEST_ZONE));
+        assertEquals(IntervalBuilder.year(2023, TEST_ZONE, 10), Year.of(value, TEST_ZONE, 10));
+        assertEquals(Year.of(value, TEST_TIMEZONE_STR, 10), Year.of(value.toEpochMilli(), TEST_TIMEZONE_STR, 10));
+    }
+    @Test
+    public void test0203_month_and_year_contain_value() {
+        long start = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+        for (long milli = start; milli < start + 4 * 365 * 86_400_000L; milli += 86_399_999L) {
+            assertTrue(Month.of(milli, DST_ZONE, -3).contains(milli));
+            assertTrue(Year.of(milli, TEST_ZONE, 7).contains(milli));
+        }
+    }
+
+    // endregion
+
+}
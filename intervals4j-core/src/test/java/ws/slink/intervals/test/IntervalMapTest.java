@@ -0,0 +1,142 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalIndex;
+import ws.slink.intervals.IntervalMap;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalMapTest {
+
+    // region - 01: map operations
+
+    @Test
+    public void test0101_put_get_remove() {
+        IntervalMap<String> map = new IntervalMap<>();
+        Day day = IntervalBuilder.day(2023, 10, 15);
+        assertNull(map.put(day, "a"));
+        assertEquals("a", map.put(IntervalBuilder.day(2023, 10, 15), "b"));
+        assertEquals("b", map.get(day));
+        assertEquals(1, map.size());
+        assertTrue(map.containsKey(day));
+        assertEquals("b", map.remove(day));
+        assertNull(map.remove(day));
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(day));
+    }
+    @Test
+    public void test0102_keys_are_ordered_by_bounds() {
+        IntervalMap<String> map = new IntervalMap<>();
+        map.put(IntervalBuilder.year(2023), "year");
+        map.put(IntervalBuilder.day(2023, 10, 15), "day");
+        map.put(IntervalBuilder.month(2023, 1), "month");
+        map.put(IntervalBuilder.day(2022, 12, 31), "previous day");
+        List<String> values = new ArrayList<>();
+        map.forEach((interval, value) -> values.add(value));
+        assertEquals(List.of("previous day", "month", "year", "day"), values);
+    }
+    @Test
+    public void test0103_overlapping_keys_are_kept_apart() {
+        IntervalMap<String> map = new IntervalMap<>();
+        map.put(IntervalBuilder.day(2023, 10, 15, "UTC"), "utc");
+        map.put(IntervalBuilder.day(2023, 10, 15, "Asia/Vladivostok"), "vvo");
+        map.put(IntervalBuilder.month(2023, 10), "month");
+        assertEquals(3, map.size());
+        assertEquals(3, map.query(Instant.parse("2023-10-15T10:00:00Z"), value -> { }));
+        assertEquals(2, map.query(Instant.parse("2023-10-15T18:00:00Z").toEpochMilli(), value -> { }));
+        map.remove(IntervalBuilder.day(2023, 10, 15, "UTC"));
+        assertEquals(1, map.query(Instant.parse("2023-10-15T18:00:00Z").toEpochMilli(), value -> { }));
+        assertTrue(map.contains(Instant.parse("2023-10-31T18:00:00Z").toEpochMilli()));
+    }
+    @Test
+    public void test0104_overlapping_range_iteration() {
+        IntervalMap<Integer> map = new IntervalMap<>();
+        for (int day = 1; day <= 31; day++) {
+            map.put(IntervalBuilder.day(2023, 10, day), day);
+        }
+        Interval week = new IntervalBuilder().start("2023-10-09").end("2023-10-15").build();
+        List<Integer> values = new ArrayList<>();
+        assertEquals(7, map.overlapping(week, (interval, value) -> values.add(value)));
+        assertEquals(List.of(9, 10, 11, 12, 13, 14, 15), values);
+    }
+    @Test
+    public void test0105_snapshot_is_not_affected_by_updates() {
+        IntervalMap<String> map = new IntervalMap<>();
+        map.put(IntervalBuilder.day(2023, 10, 15), "a");
+        IntervalIndex<String> snapshot = map.snapshot();
+        map.put(IntervalBuilder.day(2023, 10, 16), "b");
+        map.clear();
+        assertEquals(1, snapshot.size());
+        assertEquals("a", snapshot.value(0));
+        assertTrue(map.isEmpty());
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0106_null_key_is_rejected() {
+        new IntervalMap<String>().put(null, "a");
+    }
+
+    // endregion
+    // region - 02: concurrency
+
+    @Test
+    public void test0201_readers_see_consistent_snapshots() throws Exception {
+        IntervalMap<Integer> map = new IntervalMap<>();
+        Interval month = IntervalBuilder.month(2023, 10);
+        map.put(month, -1);
+        long value = Instant.parse("2023-10-15T12:00:00Z").toEpochMilli();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Long>> readers = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                readers.add(executor.submit(() -> {
+                    started.countDown();
+                    long reads = 0;
+                    while (running.get()) {
+                        // month is always present, day 15 is present at most once
+                        int count = map.query(value, v -> { });
+                        assertTrue(count == 1 || count == 2);
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            started.await();
+            for (int i = 0; i < 2_000; i++) {
+                Day day = IntervalBuilder.day(2023, 10, 1 + i % 31);
+                map.put(day, i);
+                map.remove(day);
+            }
+            running.set(false);
+            for (Future<Long> reader : readers) {
+                assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, map.size());
+    }
+
+    // endregion
+
+}
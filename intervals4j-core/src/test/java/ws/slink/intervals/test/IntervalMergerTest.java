@@ -0,0 +1,114 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalMerger;
+import ws.slink.intervals.IntervalSet;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalMergerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    // region - 01: small inputs
+
+    @Test
+    public void test0101_empty_input() {
+        assertTrue(IntervalMerger.merge(Collections.emptyList()).isEmpty());
+        assertTrue(IntervalMerger.mergeToIntervals(Collections.emptyList()).isEmpty());
+    }
+    @Test
+    public void test0102_overlapping_and_touching_sessions() {
+        List<Interval> sessions = List.of(
+            session(0, 10),
+            session(5, 20),
+            session(20, 30),
+            session(40, 50),
+            session(42, 45)
+        );
+        List<Interval> merged = IntervalMerger.mergeToIntervals(sessions);
+        assertEquals(2, merged.size());
+        assertEquals(BASE, merged.get(0).getStart());
+        assertEquals(BASE.plusMinutes(30).minusNanos(1), merged.get(0).getEnd());
+        assertEquals(BASE.plusMinutes(40), merged.get(1).getStart());
+        assertEquals(BASE.plusMinutes(50).minusNanos(1), merged.get(1).getEnd());
+    }
+    @Test
+    public void test0103_result_keeps_timezone() {
+        List<Interval> days = List.of(
+            IntervalBuilder.day(2023, 10, 16, TEST_TIMEZONE_STR, 0),
+            IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 0)
+        );
+        List<Interval> merged = IntervalMerger.mergeToIntervals(days);
+        assertEquals(1, merged.size());
+        assertEquals(TEST_TIMEZONE, merged.get(0).timezone());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 0, 0), merged.get(0).getStart());
+        assertEquals(TEST_TIMEZONE, IntervalMerger.merge(ZoneId.of(TEST_TIMEZONE_STR), List.of(session(0, 1))).timezone());
+    }
+
+    // endregion
+    // region - 02: large inputs (parallel path)
+
+    @Test
+    public void test0201_parallel_merge_matches_sequential_merge() {
+        for (int seed = 0; seed < 3; seed++) {
+            Random random = new Random(seed);
+            List<Interval> sessions = new ArrayList<>();
+            for (int i = 0; i < 100_000; i++) {
+                int start = random.nextInt(365 * 24 * 60);
+                sessions.add(session(start, start + 1 + random.nextInt(seed == 0 ? 5 : 60)));
+            }
+            IntervalSet merged = IntervalMerger.merge(sessions);
+            List<Instant[]> expected = naiveMerge(sessions);
+            assertEquals(expected.size(), merged.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i)[0], merged.start(i));
+                assertEquals(expected.get(i)[1], merged.end(i));
+            }
+            assertEquals(merged, IntervalSet.of(merged.toIntervals()));
+        }
+    }
+
+    // endregion
+
+    private static Interval session(int fromMinute, int toMinute) {
+        return new IntervalBuilder()
+            .start(BASE.plusMinutes(fromMinute))
+            .end(BASE.plusMinutes(toMinute).minusNanos(1))
+            .build();
+    }
+    private static List<Instant[]> naiveMerge(List<Interval> intervals) {
+        List<Interval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(Interval::start));
+        List<Instant[]> result = new ArrayList<>();
+        for (Interval interval : sorted) {
+            Instant[] last = result.isEmpty() ? null : result.get(result.size() - 1);
+            if (last != null && !interval.start().isAfter(last[1].plusNanos(1))) {
+                if (interval.end().isAfter(last[1])) {
+                    last[1] = interval.end();
+                }
+            } else {
+                result.add(new Instant[] {interval.start(), interval.end()});
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,122 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.exception.InvalidDayException;
+import ws.slink.intervals.exception.InvalidYearException;
+import ws.slink.intervals.exception.MethodNotSupportedException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalNavigationTest {
+
+    // region - 01: day
+
+    @Test
+    public void test0101_day_next() {
+        assertEquals(IntervalBuilder.day(2023, 11, 1, TEST_TIMEZONE_STR, 3), IntervalBuilder.day(2023, 10, 31, TEST_TIMEZONE_STR, 3).next());
+        assertEquals(IntervalBuilder.day(2024, 1, 1), IntervalBuilder.day(2023, 12, 31).next());
+        assertEquals(IntervalBuilder.day(2024, 2, 29), IntervalBuilder.day(2024, 2, 28).next());
+    }
+    @Test
+    public void test0102_day_plus_minus() {
+        Day day = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, -3);
+        assertEquals(IntervalBuilder.day(2024, 10, 14, TEST_TIMEZONE_STR, -3), day.plus(365));
+        assertEquals(IntervalBuilder.day(2022, 10, 15, TEST_TIMEZONE_STR, -3), day.minus(365));
+        assertEquals(day, day.plus(0));
+        assertEquals(day.minus(1), day.plus(-1));
+        assertEquals(day.timezone(), day.plus(100).timezone());
+        assertEquals(-3, day.plus(100).offset());
+    }
+    @Test
+    public void test0103_day_between() {
+        Day from = IntervalBuilder.day(2020, 1, 1);
+        Day to = IntervalBuilder.day(2030, 1, 1);
+        assertEquals(3653, Day.between(from, to));
+        assertEquals(-3653, Day.between(to, from));
+        assertEquals(to, from.plus(Day.between(from, to)));
+    }
+    @Test
+    public void test0104_walk_ten_years_of_days() {
+        Day day = IntervalBuilder.day(2020, 1, 1, TEST_TIMEZONE_STR, 0);
+        Day expected = day;
+        for (int i = 0; i < 3653; i++) {
+            day = day.next();
+        }
+        assertEquals(IntervalBuilder.day(2030, 1, 1, TEST_TIMEZONE_STR, 0), day);
+        assertEquals(expected, day.minus(3653));
+    }
+    @Test(expected = InvalidDayException.class)
+    public void test0105_day_out_of_range() {
+        IntervalBuilder.day(2023, 10, 15).plus(Integer.MAX_VALUE * 1000L);
+    }
+
+    // endregion
+    // region - 02: month
+
+    @Test
+    public void test0201_month_navigation() {
+        Month month = IntervalBuilder.month(2023, 11, TEST_TIMEZONE_STR, 2);
+        assertEquals(IntervalBuilder.month(2023, 12, TEST_TIMEZONE_STR, 2), month.next());
+        assertEquals(IntervalBuilder.month(2024, 1, TEST_TIMEZONE_STR, 2), month.plus(2));
+        assertEquals(IntervalBuilder.month(2022, 12, TEST_TIMEZONE_STR, 2), month.minus(11));
+        assertEquals(month.previous(), month.minus(1));
+    }
+    @Test
+    public void test0202_month_between() {
+        assertEquals(14, Month.between(IntervalBuilder.month(2023, 11), IntervalBuilder.month(2025, 1)));
+        assertEquals(0, Month.between(IntervalBuilder.month(2023, 11, -5), IntervalBuilder.month(2023, 11, -5)));
+        assertEquals(1, Month.between(IntervalBuilder.month(2023, 11, -5), IntervalBuilder.month(2023, 12, -5)));
+    }
+
+    // endregion
+    // region - 03: year
+
+    @Test
+    public void test0301_year_navigation() {
+        Year year = IntervalBuilder.year(2023, TEST_TIMEZONE_STR, 1);
+        assertEquals(IntervalBuilder.year(2024, TEST_TIMEZONE_STR, 1), year.next());
+        assertEquals(IntervalBuilder.year(2033, TEST_TIMEZONE_STR, 1), year.plus(10));
+        assertEquals(year.previous(), year.minus(1));
+        assertEquals(10, Year.between(year, year.plus(10)));
+    }
+    @Test(expected = InvalidYearException.class)
+    public void test0302_year_out_of_range() {
+        IntervalBuilder.year(2023).plus(Long.MAX_VALUE / 2);
+    }
+    @Test
+    public void test0303_previous_with_negative_offset() {
+        // with negative offset local start falls into previous calendar period
+        Year year = IntervalBuilder.year(2024, TEST_TIMEZONE_STR, -2);
+        Year previousYear = year.previous();
+        assertEquals(IntervalBuilder.year(2023, TEST_TIMEZONE_STR, -2), previousYear);
+        assertEquals(year.plus(-1), previousYear);
+        Month month = IntervalBuilder.month(2024, 1, TEST_TIMEZONE_STR, -2);
+        Month previousMonth = month.previous();
+        assertEquals(IntervalBuilder.month(2023, 12, TEST_TIMEZONE_STR, -2), previousMonth);
+        Day day = IntervalBuilder.day(2024, 1, 1, TEST_TIMEZONE_STR, -2);
+        Day previousDay = day.previous();
+        assertEquals(IntervalBuilder.day(2023, 12, 31, TEST_TIMEZONE_STR, -2), previousDay);
+        assertEquals(day, previousDay.next());
+    }
+
+    // endregion
+    // region - 04: unsupported
+
+    @Test(expected = MethodNotSupportedException.class)
+    public void test0401_custom_interval_next_is_not_supported() {
+        new IntervalBuilder().start(LocalDateTime.of(2023, 10, 15, 0, 0)).build().next();
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,213 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Hour;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.ParseError;
+import ws.slink.intervals.ParseResult;
+import ws.slink.intervals.Quarter;
+import ws.slink.intervals.Week;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.tools.CalendarTools;
+import ws.slink.intervals.tools.IntervalScanner;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.NoSuchElementException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalScannerTest {
+
+    // region - 01: valid input
+
+    @Test
+    public void test0101_scan_year() {
+        long scanned = IntervalScanner.scan("2023");
+        assertEquals(IntervalScanner.YEAR, IntervalScanner.type(scanned));
+        assertEquals(2023, IntervalScanner.year(scanned));
+    }
+    @Test
+    public void test0102_scan_month() {
+        long scanned = IntervalScanner.scan("2023-10");
+        assertEquals(IntervalScanner.MONTH, IntervalScanner.type(scanned));
+        assertEquals(2023, IntervalScanner.year(scanned));
+        assertEquals(10, IntervalScanner.month(scanned));
+    }
+    @Test
+    public void test0103_scan_day() {
+        long scanned = IntervalScanner.scan("2023-10-15");
+        assertEquals(IntervalScanner.DAY, IntervalScanner.type(scanned));
+        assertEquals(2023, IntervalScanner.year(scanned));
+        assertEquals(10, IntervalScanner.month(scanned));
+        assertEquals(15, IntervalScanner.day(scanned));
+    }
+    @Test
+    public void test0104_scan_clamps_day_to_month_length() {
+        assertEquals(28, IntervalScanner.day(IntervalScanner.scan("2023-02-30")));
+        assertEquals(29, IntervalScanner.day(IntervalScanner.scan("2024-02-31")));
+        assertEquals(30, IntervalScanner.day(IntervalScanner.scan("2023-04-31")));
+    }
+    @Test
+    public void test0105_parse_builds_typed_intervals() {
+        assertTrue(IntervalBuilder.parse("0001") instanceof Year);
+        assertTrue(IntervalBuilder.parse("2023-12") instanceof Month);
+        Interval day = IntervalBuilder.parse("2024-02-29", "UTC", 2);
+        assertTrue(day instanceof Day);
+        assertEquals(LocalDateTime.of(2024, 2, 29, 2, 0), day.getStart());
+    }
+
+    // endregion
+    // region - 02: invalid input
+
+    @Test
+    public void test0201_scan_rejects_invalid_input() {
+        String[] inputs = {
+            null, "", "0000", "123", "20231", "+2023", " 2023", "2023 ",
+            "2023-1", "2023-00", "2023-13", "2023/10", "20231-10",
+            "2023-10-5", "2023-1-05", "2023-10-00", "2023-10-32", "2023-10/15", "2023-1a-15",
+        };
+        for (String input : inputs) {
+            assertFalse("should reject '" + input + "'", IntervalScanner.isValid(IntervalScanner.scan(input)));
+        }
+    }
+    @Test
+    public void test0202_scan_reports_error_and_position() {
+        assertScanError(null, ParseError.NULL_INPUT, 0);
+        assertScanError("2023-", ParseError.INVALID_LENGTH, 5);
+        assertScanError("2023-10-151", ParseError.INVALID_LENGTH, 10);
+        assertScanError("20231", ParseError.INVALID_CHARACTER, 4);
+        assertScanError("2023-1a-15", ParseError.INVALID_CHARACTER, 6);
+        assertScanError("0000", ParseError.INVALID_YEAR, 0);
+        assertScanError("2023-13", ParseError.INVALID_MONTH, 5);
+        assertScanError("2023-10-34", ParseError.INVALID_DAY, 8);
+    }
+    @Test
+    public void test0203_typed_scan_rejects_other_types() {
+        long scanned = IntervalScanner.scan("2023-10", IntervalScanner.YEAR);
+        assertEquals(ParseError.INVALID_LENGTH, IntervalScanner.error(scanned));
+        assertEquals(4, IntervalScanner.position(scanned));
+        scanned = IntervalScanner.scan("2023", IntervalScanner.DAY);
+        assertEquals(ParseError.INVALID_LENGTH, IntervalScanner.error(scanned));
+        assertEquals(4, IntervalScanner.position(scanned));
+    }
+
+    // endregion
+    // region - 03: non-throwing parsers
+
+    @Test
+    public void test0301_try_parse_valid_input() {
+        ParseResult result = IntervalBuilder.tryParse("2023-10-15", TEST_TIMEZONE.toZoneId(), 10);
+        assertTrue(result.isValid());
+        assertNull(result.error());
+        assertEquals(-1, result.position());
+        Interval expected = IntervalBuilder.parse("2023-10-15", TEST_TIMEZONE_STR, 10);
+        assertTrue(result.get() instanceof Day);
+        assertEquals(TEST_TIMEZONE, result.get().timezone());
+        assertEquals(expected.start(), result.get().start());
+        assertEquals(expected.end(), result.get().end());
+    }
+    @Test
+    public void test0302_try_parse_invalid_input() {
+        ParseResult result = IntervalBuilder.tryParse("2023-10-51");
+        assertFalse(result.isValid());
+        assertEquals(ParseError.INVALID_DAY, result.error());
+        assertEquals(8, result.position());
+        assertFalse(result.toOptional().isPresent());
+        assertNull(result.orElse(null));
+        assertSame("failed results should be pooled", result, IntervalBuilder.tryParse("1999-12-00"));
+    }
+    @Test
+    public void test0303_try_parse_invalid_arguments() {
+        assertEquals(ParseError.INVALID_TIMEZONE, IntervalBuilder.tryParse("2023", null, 0).error());
+        assertEquals(ParseError.INVALID_OFFSET, IntervalBuilder.tryParse("2023", 24).error());
+    }
+    @Test
+    public void test0304_try_typed_parsers() {
+        assertTrue(CalendarTools.tryYearFromString("2023").get() instanceof Year);
+        assertTrue(CalendarTools.tryMonthFromString("2023-10", 3).get() instanceof Month);
+        assertTrue(CalendarTools.tryDayFromString("2023-10-15", ZoneOffset.UTC).get() instanceof Day);
+        assertFalse(CalendarTools.tryDayFromString("2023-10").isValid());
+        assertFalse(CalendarTools.tryMonthFromString("2023-10-15").isValid());
+    }
+    @Test(expected = NoSuchElementException.class)
+    public void test0305_failed_result_has_no_interval() {
+        IntervalBuilder.tryParse("2023-").get();
+    }
+
+    // endregion
+    // region - 04: week, quarter and hour formats
+
+    @Test
+    public void test0401_scan_week_quarter_and_hour() {
+        long scanned = IntervalScanner.scan("2020-W53");
+        assertEquals(IntervalScanner.WEEK, IntervalScanner.type(scanned));
+        assertEquals(2020, IntervalScanner.year(scanned));
+        assertEquals(53, IntervalScanner.week(scanned));
+        scanned = IntervalScanner.scan("2023-Q4");
+        assertEquals(IntervalScanner.QUARTER, IntervalScanner.type(scanned));
+        assertEquals(2023, IntervalScanner.year(scanned));
+        assertEquals(4, IntervalScanner.quarter(scanned));
+        scanned = IntervalScanner.scan("2023-02-30T23");
+        assertEquals(IntervalScanner.HOUR, IntervalScanner.type(scanned));
+        assertEquals(2023, IntervalScanner.year(scanned));
+        assertEquals(2, IntervalScanner.month(scanned));
+        assertEquals(28, IntervalScanner.day(scanned));
+        assertEquals(23, IntervalScanner.hour(scanned));
+    }
+    @Test
+    public void test0402_scan_reports_extended_format_errors() {
+        assertScanError("2023-W53", ParseError.INVALID_WEEK, 6);
+        assertScanError("2023-W00", ParseError.INVALID_WEEK, 6);
+        assertScanError("2023-W1", ParseError.INVALID_LENGTH, 7);
+        assertScanError("2023-W1a", ParseError.INVALID_CHARACTER, 7);
+        assertScanError("2023-Q5", ParseError.INVALID_QUARTER, 6);
+        assertScanError("2023-Q12", ParseError.INVALID_LENGTH, 7);
+        assertScanError("2023-10-15T24", ParseError.INVALID_HOUR, 11);
+        assertScanError("2023-10-15T1", ParseError.INVALID_LENGTH, 12);
+        assertScanError("2023-10-32T10", ParseError.INVALID_DAY, 8);
+        assertScanError("0000-Q1", ParseError.INVALID_YEAR, 0);
+        assertEquals(ParseError.INVALID_CHARACTER,
+            IntervalScanner.error(IntervalScanner.scan("2023-10", IntervalScanner.QUARTER)));
+    }
+    @Test
+    public void test0403_parse_builds_extended_types() {
+        assertTrue(IntervalBuilder.parse("2023-W41") instanceof Week);
+        assertTrue(IntervalBuilder.parse("2023-Q4") instanceof Quarter);
+        assertTrue(IntervalBuilder.parse("2023-10-15T13") instanceof Hour);
+        assertTrue(CalendarTools.tryWeekFromString("2023-W41").get() instanceof Week);
+        assertTrue(CalendarTools.tryQuarterFromString("2023-Q4").get() instanceof Quarter);
+        assertTrue(CalendarTools.tryHourFromString("2023-10-15T13").get() instanceof Hour);
+        assertFalse(CalendarTools.tryHourFromString("2023-10-15").isValid());
+        // local hour skipped by DST transition
+        ParseResult skipped = CalendarTools.tryHourFromString("2023-03-26T02", ZoneId.of("Europe/Berlin"));
+        assertFalse(skipped.isValid());
+        assertEquals(ParseError.INVALID_HOUR, skipped.error());
+        assertEquals(LocalDateTime.of(2023, 10, 9, 2, 0), IntervalBuilder.parse("2023-W41", "UTC", 2).getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 1, 0, 0), IntervalBuilder.parse("2023-Q4").getStart());
+        assertEquals(LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999999999), IntervalBuilder.parse("2023-Q4").getEnd());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 13, 59, 59, 999999999), IntervalBuilder.parse("2023-10-15T13").getEnd());
+    }
+
+    // endregion
+
+    private static void assertScanError(String input, ParseError error, int position) {
+        long scanned = IntervalScanner.scan(input);
+        assertEquals("error for '" + input + "'", error, IntervalScanner.error(scanned));
+        assertEquals("position for '" + input + "'", position, IntervalScanner.position(scanned));
+    }
+
+}
@@ -0,0 +1,114 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalSequence;
+import ws.slink.intervals.Month;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalSequenceTest {
+
+    // region - 01: list view
+
+    @Test
+    public void test0101_get_returns_consecutive_periods() {
+        Month january = Month.of("2015-01", TEST_TIMEZONE_STR, 3);
+        IntervalSequence months = IntervalSequence.of(january, 120);
+        assertEquals(120, months.size());
+        assertTrue(months instanceof RandomAccess);
+        assertEquals(january, months.get(0));
+        assertEquals(IntervalBuilder.month(2018, 7, TEST_TIMEZONE_STR, 3), months.get(42));
+        assertEquals(IntervalBuilder.month(2024, 12, TEST_TIMEZONE_STR, 3), months.get(119));
+    }
+    @Test
+    public void test0102_matches_materialized_list() {
+        Day first = IntervalBuilder.day(2023, 12, 25, TEST_TIMEZONE_STR, -2);
+        List<Interval> expected = new ArrayList<>();
+        Day day = first;
+        for (int i = 0; i < 20; i++) {
+            expected.add(day);
+            day = day.next();
+        }
+        IntervalSequence sequence = IntervalSequence.of(first, 20);
+        assertEquals(expected, sequence);
+        assertEquals(expected.hashCode(), sequence.hashCode());
+        assertEquals(expected.subList(5, 12), sequence.subList(5, 12));
+        assertTrue(sequence.subList(5, 12) instanceof IntervalSequence);
+    }
+    @Test
+    public void test0103_range() {
+        IntervalSequence years = IntervalSequence.range(IntervalBuilder.year(2020), IntervalBuilder.year(2029));
+        assertEquals(10, years.size());
+        assertEquals(IntervalBuilder.year(2029), years.get(9));
+        assertEquals(0, IntervalSequence.of(IntervalBuilder.year(2020), 0).size());
+    }
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test0104_get_out_of_bounds() {
+        IntervalSequence.of(IntervalBuilder.day(2023, 10, 15), 10).get(10);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0105_range_requires_same_kind() {
+        IntervalSequence.range(IntervalBuilder.day(2023, 10, 15), IntervalBuilder.day(2023, 10, 20, 1));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0106_custom_intervals_are_rejected() {
+        IntervalSequence.of(new IntervalBuilder().start(LocalDateTime.of(2023, 10, 15, 0, 0)).build(), 10);
+    }
+
+    // endregion
+    // region - 02: lookup
+
+    @Test
+    public void test0201_index_of_interval() {
+        IntervalSequence days = IntervalSequence.of(IntervalBuilder.day(2023, 10, 1, TEST_TIMEZONE_STR, 3), 31);
+        assertEquals(14, days.indexOf(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 3)));
+        assertEquals(14, days.lastIndexOf(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 3)));
+        assertEquals(-1, days.indexOf(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 0)));
+        assertEquals(-1, days.indexOf(IntervalBuilder.day(2023, 11, 1, TEST_TIMEZONE_STR, 3)));
+        assertEquals(-1, days.indexOf(IntervalBuilder.month(2023, 10, TEST_TIMEZONE_STR, 3)));
+        assertEquals(-1, days.indexOf("2023-10-15"));
+        assertTrue(days.contains(IntervalBuilder.day(2023, 10, 31, TEST_TIMEZONE_STR, 3)));
+        assertFalse(days.contains(IntervalBuilder.day(2023, 9, 30, TEST_TIMEZONE_STR, 3)));
+    }
+    @Test
+    public void test0202_index_of_timestamp() {
+        IntervalSequence months = IntervalSequence.of(Month.of("2015-01", TEST_TIMEZONE_STR, 3), 120);
+        for (int i = 0; i < months.size(); i++) {
+            Interval month = months.get(i);
+            assertEquals(i, months.indexOf(month.start()));
+            assertEquals(i, months.indexOf(month.end()));
+            assertEquals(i, months.indexOf(month.end().toEpochMilli()));
+        }
+        assertEquals(-1, months.indexOf(months.get(0).start().minusNanos(1)));
+        assertEquals(-1, months.indexOf(months.get(119).end().plusNanos(1)));
+    }
+    @Test
+    public void test0203_index_of_timestamp_across_dst() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        IntervalSequence days = IntervalSequence.of(IntervalBuilder.day(2023, 3, 1, berlin, 0), 365);
+        Instant value = Instant.parse("2023-03-26T12:00:00Z");
+        int index = days.indexOf(value);
+        assertEquals(25, index);
+        assertTrue(days.get(index).contains(value));
+        assertEquals(-1, IntervalSequence.of(IntervalBuilder.day(2023, 3, 1), 0).indexOf(value));
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,237 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Grid;
+import ws.slink.intervals.GridInterval;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.IntervalSet;
+import ws.slink.intervals.Month;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalSetTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 10, 1, 0, 0);
+
+    // region - 01: normalization
+
+    @Test
+    public void test0101_adjacent_and_overlapping_intervals_are_coalesced() {
+        IntervalSet set = IntervalSet.of(
+            IntervalBuilder.day(2023, 10, 15),
+            IntervalBuilder.day(2023, 10, 16),
+            hours(60, 70),
+            hours(20, 30)
+        );
+        assertEquals(3, set.size());
+        assertEquals(IntervalBuilder.day(2023, 10, 15).start(), set.start(2));
+        assertEquals(IntervalBuilder.day(2023, 10, 16).end(), set.end(2));
+        assertEquals(Duration.ofHours(48).plusHours(10).plusHours(10), set.duration());
+    }
+    @Test
+    public void test0102_same_set_has_single_representation() {
+        IntervalSet a = IntervalSet.of(IntervalBuilder.month(2023, 10));
+        List<Interval> days = new ArrayList<>();
+        for (int day = 31; day >= 1; day--) {
+            days.add(IntervalBuilder.day(2023, 10, day));
+        }
+        assertEquals(a, IntervalSet.of(days));
+        assertEquals(a.hashCode(), IntervalSet.of(days).hashCode());
+    }
+    @Test
+    public void test0103_contains_respects_inclusive_bounds() {
+        Interval day = IntervalBuilder.day(2023, 10, 15);
+        IntervalSet set = IntervalSet.of(day);
+        assertTrue(set.contains(day.start()));
+        assertTrue(set.contains(day.end()));
+        assertFalse(set.contains(day.start().minusNanos(1)));
+        assertFalse(set.contains(day.end().plusNanos(1)));
+        assertTrue(set.contains(day.start().toEpochMilli()));
+        assertFalse(set.contains(Long.MAX_VALUE));
+    }
+    @Test
+    public void test0104_empty_set() {
+        IntervalSet set = IntervalSet.empty(ZoneId.of(TEST_TIMEZONE_STR));
+        assertTrue(set.isEmpty());
+        assertEquals(Duration.ZERO, set.duration());
+        assertEquals(TEST_TIMEZONE, set.timezone());
+        assertTrue(set.toIntervals().isEmpty());
+    }
+
+    // endregion
+    // region - 02: set algebra
+
+    @Test
+    public void test0201_availability_example() {
+        // business hours (09:00 - 18:00) minus outages, within October
+        List<Interval> businessHours = new ArrayList<>();
+        for (int day = 0; day < 40; day++) {
+            businessHours.add(hours(day * 24 + 9, day * 24 + 18));
+        }
+        IntervalSet outages = IntervalSet.of(hours(24 + 8, 24 + 10), hours(48 + 17, 48 + 20));
+        IntervalSet available = IntervalSet.of(businessHours)
+            .minus(outages)
+            .intersect(IntervalSet.of(Month.of("2023-10")));
+        assertEquals(Duration.ofHours(31 * 9 - 1 - 1), available.duration());
+        assertEquals(31, available.size());
+    }
+    @Test
+    public void test0202_complement_within_bounds() {
+        Interval month = IntervalBuilder.month(2023, 10);
+        IntervalSet set = IntervalSet.of(IntervalBuilder.day(2023, 10, 1), IntervalBuilder.day(2023, 10, 15));
+        IntervalSet complement = set.complement(month);
+        assertEquals(2, complement.size());
+        assertEquals(Duration.ofDays(29), complement.duration());
+        assertEquals(IntervalSet.of(month), complement.union(set));
+        assertTrue(complement.intersect(set).isEmpty());
+    }
+    @Test
+    public void test0203_operations_match_brute_force() {
+        Random random = new Random(15);
+        for (int round = 0; round < 50; round++) {
+            IntervalSet a = randomSet(random);
+            IntervalSet b = randomSet(random);
+            IntervalSet union = a.union(b);
+            IntervalSet intersection = a.intersect(b);
+            IntervalSet difference = a.minus(b);
+            IntervalSet complement = a.complement(hours(0, 24 * 10));
+            for (int minute = -60; minute < 24 * 60 * 11; minute += 7) {
+                long value = BASE.plusMinutes(minute).toInstant(java.time.ZoneOffset.UTC).toEpochMilli();
+                boolean inA = a.contains(value);
+                boolean inB = b.contains(value);
+                assertEquals(inA || inB, union.contains(value));
+                assertEquals(inA && inB, intersection.contains(value));
+                assertEquals(inA && !inB, difference.contains(value));
+                assertEquals(!inA && minute >= 0 && minute <= 24 * 60 * 10, complement.contains(value));
+            }
+            assertEquals(a.totalMillis() + b.totalMillis(), union.totalMillis() + intersection.totalMillis());
+        }
+    }
+
+    // endregion
+    // region - 03: conversions
+
+    @Test
+    public void test0301_to_intervals_preserves_zone_and_bounds() {
+        Interval first = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 3);
+        Interval second = IntervalBuilder.day(2023, 10, 20, TEST_TIMEZONE_STR, 3);
+        IntervalSet set = IntervalSet.of(second, first);
+        List<Interval> intervals = set.toIntervals();
+        assertEquals(2, intervals.size());
+        assertEquals(TEST_TIMEZONE, set.timezone());
+        for (int i = 0; i < 2; i++) {
+            Interval expected = (i == 0) ? first : second;
+            assertEquals(expected.timezone(), intervals.get(i).timezone());
+            assertEquals(expected.getStart(), intervals.get(i).getStart());
+            assertEquals(expected.getEnd(), intervals.get(i).getEnd());
+            assertEquals(expected.start(), intervals.get(i).start());
+            assertEquals(expected.end(), intervals.get(i).end());
+        }
+        assertEquals(set, IntervalSet.of(intervals));
+    }
+    @Test
+    public void test0302_explicit_zone() {
+        IntervalSet set = IntervalSet.of(ZoneId.of(TEST_TIMEZONE_STR), List.of(IntervalBuilder.day(2023, 10, 15)));
+        assertEquals(TEST_TIMEZONE, set.toIntervals().get(0).timezone());
+        assertEquals(IntervalBuilder.day(2023, 10, 15).start(), set.toIntervals().get(0).start());
+    }
+
+    @Test
+    public void test0303_round_trip_in_dst_overlap() {
+        // 2023-10-29 02:00 .. 03:00 is repeated in Berlin, bucket below is the second 02:30
+        Grid grid = Grid.of(Duration.ofMinutes(15), "Europe/Berlin");
+        GridInterval bucket = grid.bucketOf(Instant.parse("2023-10-29T01:30:00Z"));
+        IntervalSet set = IntervalSet.of(bucket);
+        Interval interval = set.toIntervals().get(0);
+        assertEquals(1698543000L, interval.startEpochSecond());
+        assertEquals(bucket.start(), interval.start());
+        assertEquals(bucket.end(), interval.end());
+        assertEquals(bucket.getStart(), interval.getStart());
+        assertEquals(bucket.getEnd(), interval.getEnd());
+        assertEquals(set, IntervalSet.of(set.toIntervals()));
+
+        // whole repeated hour, both occurrences
+        List<Interval> buckets = new ArrayList<>();
+        long index = grid.indexOf(Instant.parse("2023-10-29T00:00:00Z"));
+        for (int i = 0; i < 8; i++, index = grid.next(index)) {
+            buckets.add(grid.bucket(index));
+        }
+        IntervalSet hours = IntervalSet.of(buckets);
+        assertEquals(1, hours.size());
+        assertEquals(Duration.ofHours(2), hours.duration());
+        assertEquals(hours, IntervalSet.of(hours.toIntervals()));
+        assertEquals(Instant.parse("2023-10-29T01:59:59.999999999Z"), hours.toIntervals().get(0).end());
+    }
+
+    // endregion
+    // region - 04: range
+
+    @Test
+    public void test0401_unbounded_interval() {
+        Interval all = new IntervalBuilder().build();
+        IntervalSet set = IntervalSet.of(all);
+        assertEquals(1, set.size());
+        assertTrue(set.contains(Instant.MIN));
+        assertTrue(set.contains(Instant.MAX));
+        assertTrue(set.contains(0L));
+        assertEquals(all.start(), set.start(0));
+        assertEquals(all.end(), set.end(0));
+        assertEquals(all.getStart(), set.toIntervals().get(0).getStart());
+        assertEquals(all.getEnd(), set.toIntervals().get(0).getEnd());
+        assertEquals(set, IntervalSet.of(set.toIntervals()));
+        assertTrue(set.minus(set).isEmpty());
+        IntervalSet holes = set.minus(IntervalSet.of(IntervalBuilder.day(2023, 10, 15)));
+        assertEquals(2, holes.size());
+        assertFalse(holes.contains(IntervalBuilder.day(2023, 10, 15).start()));
+    }
+    @Test
+    public void test0402_intervals_outside_of_epoch_nanosecond_range() {
+        Interval past = new IntervalBuilder()
+            .start(LocalDateTime.of(1600, 1, 1, 0, 0))
+            .end(LocalDateTime.of(1650, 1, 1, 0, 0).minusNanos(1))
+            .build();
+        Interval future = IntervalBuilder.year(2500);
+        IntervalSet set = IntervalSet.of(past, future);
+        assertEquals(2, set.size());
+        assertEquals(past.start(), set.start(0));
+        assertEquals(past.end(), set.end(0));
+        assertEquals(future.start(), set.start(1));
+        assertEquals(future.end(), set.end(1));
+        assertTrue(set.contains(LocalDateTime.of(1620, 6, 1, 0, 0).toInstant(java.time.ZoneOffset.UTC)));
+        assertFalse(set.contains(LocalDateTime.of(1700, 6, 1, 0, 0).toInstant(java.time.ZoneOffset.UTC)));
+        assertEquals(past.getStart(), set.toIntervals().get(0).getStart());
+        assertEquals(future.getEnd(), set.toIntervals().get(1).getEnd());
+    }
+
+    // endregion
+
+    private static Interval hours(int from, int to) {
+        return new IntervalBuilder().start(BASE.plusHours(from)).end(BASE.plusHours(to).minusNanos(1)).build();
+    }
+    private static IntervalSet randomSet(Random random) {
+        List<Interval> intervals = new ArrayList<>();
+        int count = random.nextInt(12);
+        for (int i = 0; i < count; i++) {
+            int from = random.nextInt(24 * 10);
+            intervals.add(hours(from, from + 1 + random.nextInt(30)));
+        }
+        return IntervalSet.of(intervals);
+    }
+
+}
@@ -15,6 +15,7 @@ import ws.slink.intervals.ShiftedYear;
 import ws.slink.intervals.Year;
 import ws.slink.intervals.exception.InvalidShiftValueException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 
@@ -482,4 +483,46 @@ public class IntervalShiftTest {
     }
 
     // endregion
+    // region - shift with duration
+    @Test
+    public void test0601_duration_shift_equals_string_shift() {
+        Day day = Day.of("2023-10-15", TEST_TIMEZONE_STR, 3);
+        ShiftedInterval byString = ShiftedInterval.of(day, "-PT2H");
+        ShiftedInterval byDuration = ShiftedInterval.ofDuration(day, Duration.ofHours(-2));
+        Assert.assertEquals(byString.getDuration(), byDuration.getDuration());
+        Assert.assertEquals(byString.getStart(), byDuration.getStart());
+        Assert.assertEquals(byString.getEnd(), byDuration.getEnd());
+        Assert.assertEquals(byString.start(), byDuration.start());
+        Assert.assertEquals(byString.end(), byDuration.end());
+    }
+    @Test
+    public void test0602_duration_shifted_day_contains_epoch_milli() {
+        Day day = Day.of("2023-10-15", TEST_TIMEZONE_STR);
+        ShiftedDay interval = ShiftedDay.ofDuration(day, Duration.ofMinutes(30));
+        long start = day.start().toEpochMilli() + Duration.ofMinutes(30).toMillis();
+        Assert.assertFalse(interval.contains(start - 1));
+        Assert.assertTrue(interval.contains(start));
+        Assert.assertTrue(interval.contains(interval.end().toEpochMilli()));
+        Assert.assertFalse(interval.contains(interval.end().toEpochMilli() + 1));
+    }
+    @Test
+    public void test0603_duration_shift_keeps_shift_on_previous() {
+        Month month = Month.of("2023-10", TEST_TIMEZONE_STR);
+        ShiftedMonth interval = ShiftedMonth.of(month, "-P1D");
+        ShiftedInterval previous = (ShiftedInterval) interval.previous();
+        Assert.assertEquals(Duration.ofDays(-1), previous.getDuration());
+        Assert.assertEquals(LocalDateTime.of(2023, 8, 31, 0, 0, 0, 0), previous.getStart());
+        Assert.assertEquals("-P1D", previous.getShift());
+    }
+    @Test(expected = InvalidShiftValueException.class)
+    public void test0604_null_duration_shift_value() {
+        ShiftedInterval.ofDuration(Year.of("2023"), null);
+    }
+    @Test
+    public void test0605_blank_string_shift_is_zero_duration() {
+        ShiftedInterval interval = ShiftedInterval.of(Year.of("2023"), " ");
+        Assert.assertEquals(Duration.ZERO, interval.getDuration());
+        Assert.assertEquals(" ", interval.getShift());
+    }
+    // endregion
 }
@@ -0,0 +1,123 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalStreamTest {
+
+    // region - 01: days
+
+    @Test
+    public void test0101_month_days() {
+        Month month = IntervalBuilder.month(2024, 2, TEST_TIMEZONE_STR, 3);
+        List<Day> days = month.days().collect(Collectors.toList());
+        assertEquals(29, days.size());
+        for (int i = 0; i < days.size(); i++) {
+            assertEquals(IntervalBuilder.day(2024, 2, i + 1, TEST_TIMEZONE_STR, 3), days.get(i));
+        }
+        assertEquals(month.start(), days.get(0).start());
+        assertEquals(month.end(), days.get(28).end());
+    }
+    @Test
+    public void test0102_month_days_with_negative_offset() {
+        Month month = IntervalBuilder.month(2023, 10, -3);
+        List<Day> days = month.days().collect(Collectors.toList());
+        assertEquals(31, days.size());
+        assertEquals(IntervalBuilder.day(2023, 10, 1, -3), days.get(0));
+        assertEquals(IntervalBuilder.day(2023, 10, 31, -3), days.get(30));
+    }
+    @Test
+    public void test0103_year_days() {
+        assertEquals(365, IntervalBuilder.year(2023).days().count());
+        assertEquals(366, IntervalBuilder.year(2024).days().count());
+        assertEquals(IntervalBuilder.day(2024, 12, 31, 2), IntervalBuilder.year(2024, 2).days().reduce((a, b) -> b).get());
+    }
+    @Test
+    public void test0104_day_days() {
+        Day day = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 5);
+        assertEquals(List.of(day), day.days().collect(Collectors.toList()));
+    }
+    @Test
+    public void test0105_custom_interval_days() {
+        Interval interval = new IntervalBuilder()
+            .timezone(TEST_TIMEZONE)
+            .start(LocalDateTime.of(2023, 10, 30, 12, 0))
+            .end(LocalDateTime.of(2023, 11, 2, 1, 0))
+            .build();
+        List<LocalDate> dates = interval.days()
+            .map(day -> day.getStart().toLocalDate())
+            .collect(Collectors.toList());
+        assertEquals(List.of(
+            LocalDate.of(2023, 10, 30),
+            LocalDate.of(2023, 10, 31),
+            LocalDate.of(2023, 11, 1),
+            LocalDate.of(2023, 11, 2)
+        ), dates);
+        assertTrue(interval.days().allMatch(day -> day.timezone().equals(interval.timezone())));
+    }
+
+    // endregion
+    // region - 02: months
+
+    @Test
+    public void test0201_year_months() {
+        Year year = IntervalBuilder.year(2023, TEST_TIMEZONE_STR, 1);
+        List<Month> months = year.months().collect(Collectors.toList());
+        assertEquals(12, months.size());
+        for (int i = 0; i < 12; i++) {
+            assertEquals(IntervalBuilder.month(2023, i + 1, TEST_TIMEZONE_STR, 1), months.get(i));
+        }
+    }
+
+    // endregion
+    // region - 03: parallel processing
+
+    @Test
+    public void test0301_spliterator_is_sized_and_splits_evenly() {
+        Spliterator<Day> spliterator = IntervalBuilder.year(2024).days().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(366, spliterator.getExactSizeIfKnown());
+        Spliterator<Day> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(183, prefix.getExactSizeIfKnown());
+        assertEquals(183, spliterator.getExactSizeIfKnown());
+        Day[] first = new Day[1];
+        assertTrue(spliterator.tryAdvance(day -> first[0] = day));
+        assertEquals(IntervalBuilder.day(2024, 7, 2), first[0]);
+    }
+    @Test
+    public void test0302_parallel_stream_keeps_encounter_order() {
+        Year year = IntervalBuilder.year(2023, TEST_TIMEZONE_STR, 0);
+        assertEquals(
+            year.days().collect(Collectors.toList()),
+            year.days().parallel().collect(Collectors.toList())
+        );
+        assertEquals(
+            year.months().mapToLong(month -> month.days().count()).sum(),
+            year.days().parallel().count()
+        );
+    }
+
+    // endregion
+
+}
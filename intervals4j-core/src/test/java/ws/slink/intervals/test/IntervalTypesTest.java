@@ -0,0 +1,304 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Hour;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Quarter;
+import ws.slink.intervals.ShiftedHour;
+import ws.slink.intervals.ShiftedQuarter;
+import ws.slink.intervals.ShiftedWeek;
+import ws.slink.intervals.Week;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.exception.InvalidHourException;
+import ws.slink.intervals.exception.InvalidQuarterException;
+import ws.slink.intervals.exception.InvalidWeekException;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.IsoFields;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalTypesTest {
+
+    // region - 01: week
+
+    @Test
+    public void test0101_iso_week_bounds() {
+        Week week = IntervalBuilder.week(2023, 41, TEST_TIMEZONE_STR);
+        assertEquals(LocalDateTime.of(2023, 10, 9, 0, 0), week.getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 23, 59, 59, 999999999), week.getEnd());
+        assertEquals(TEST_TIMEZONE, week.timezone());
+        assertEquals(DayOfWeek.MONDAY, week.firstDayOfWeek());
+        assertEquals(2023, week.weekBasedYear());
+        assertEquals(41, week.week());
+        // first ISO week of 2021 starts in 2021, last week of 2020 is W53 and ends in 2021
+        assertEquals(LocalDateTime.of(2021, 1, 4, 0, 0), IntervalBuilder.week(2021, 1).getStart());
+        assertEquals(LocalDateTime.of(2021, 1, 3, 23, 59, 59, 999999999), IntervalBuilder.week(2020, 53).getEnd());
+    }
+    @Test
+    public void test0102_week_numbering_matches_iso_fields() {
+        LocalDate date = LocalDate.of(1990, 1, 1);
+        for (int i = 0; i < 365 * 40; i += 3) {
+            LocalDate current = date.plusDays(i);
+            Week week = Week.of(current.atStartOfDay(ZoneId.of("UTC")).toInstant());
+            assertEquals(current.toString(), current.get(IsoFields.WEEK_BASED_YEAR), week.weekBasedYear());
+            assertEquals(current.toString(), current.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR), week.week());
+        }
+    }
+    @Test
+    public void test0103_week_with_custom_first_day() {
+        Week week = IntervalBuilder.week(2023, 1, "UTC", 0, DayOfWeek.SUNDAY);
+        assertEquals(LocalDateTime.of(2023, 1, 1, 0, 0), week.getStart());
+        assertEquals(DayOfWeek.SUNDAY, week.firstDayOfWeek());
+        assertEquals(1, week.week());
+        Week containing = Week.of(Instant.parse("2023-10-11T12:00:00Z"), ZoneId.of("UTC"), 0, DayOfWeek.SUNDAY);
+        assertEquals(LocalDateTime.of(2023, 10, 8, 0, 0), containing.getStart());
+        assertEquals(DayOfWeek.SUNDAY, containing.next().firstDayOfWeek());
+    }
+    @Test
+    public void test0104_week_navigation() {
+        Week week = IntervalBuilder.week(2020, 52, TEST_TIMEZONE_STR, 3);
+        assertEquals(IntervalBuilder.week(2020, 53, TEST_TIMEZONE_STR, 3), week.next());
+        assertEquals(IntervalBuilder.week(2021, 1, TEST_TIMEZONE_STR, 3), week.plus(2));
+        assertEquals(IntervalBuilder.week(2020, 51, TEST_TIMEZONE_STR, 3), week.previous());
+        assertEquals(week, week.plus(10).minus(10));
+        assertEquals(53, Week.between(week, IntervalBuilder.week(2021, 52, TEST_TIMEZONE_STR, 3)));
+        assertEquals(LocalDateTime.of(2020, 12, 21, 3, 0), week.getStart());
+    }
+    @Test
+    public void test0105_week_days() {
+        List<Day> days = IntervalBuilder.week(2023, 41, TEST_TIMEZONE_STR, 2).days().collect(Collectors.toList());
+        assertEquals(7, days.size());
+        assertEquals(IntervalBuilder.day(2023, 10, 9, TEST_TIMEZONE_STR, 2), days.get(0));
+        assertEquals(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 2), days.get(6));
+    }
+    @Test(expected = InvalidWeekException.class)
+    public void test0106_invalid_week() {
+        IntervalBuilder.week(2023, 53);
+    }
+
+    // endregion
+    // region - 02: quarter
+
+    @Test
+    public void test0201_quarter_bounds() {
+        Quarter quarter = IntervalBuilder.quarter(2024, 1, TEST_TIMEZONE_STR, -2);
+        assertEquals(LocalDateTime.of(2023, 12, 31, 22, 0), quarter.getStart());
+        assertEquals(LocalDateTime.of(2024, 3, 31, 21, 59, 59, 999999999), quarter.getEnd());
+        assertEquals(2024, quarter.year());
+        assertEquals(1, quarter.quarter());
+    }
+    @Test
+    public void test0202_quarter_navigation() {
+        Quarter quarter = IntervalBuilder.quarter(2023, 4);
+        assertEquals(IntervalBuilder.quarter(2024, 1), quarter.next());
+        assertEquals(IntervalBuilder.quarter(2023, 3), quarter.previous());
+        assertEquals(IntervalBuilder.quarter(2021, 4), quarter.minus(8));
+        assertEquals(-8, Quarter.between(quarter, quarter.minus(8)));
+    }
+    @Test
+    public void test0203_quarter_factories() {
+        assertEquals(IntervalBuilder.quarter(2023, 3, TEST_TIMEZONE_STR), Quarter.of("2023-08-15", TEST_TIMEZONE_STR));
+        assertEquals(IntervalBuilder.quarter(2023, 3), Quarter.of("2023-Q3"));
+        assertEquals(IntervalBuilder.quarter(2023, 4), Quarter.of(Instant.parse("2023-12-31T23:59:59Z")));
+        assertEquals(IntervalBuilder.quarter(2024, 1, TEST_TIMEZONE_STR),
+            Quarter.of(Instant.parse("2023-12-31T23:59:59Z"), TEST_TIMEZONE_STR));
+    }
+    @Test
+    public void test0204_quarter_streams() {
+        Quarter quarter = IntervalBuilder.quarter(2024, 1, TEST_TIMEZONE_STR);
+        List<Month> months = quarter.months().collect(Collectors.toList());
+        assertEquals(3, months.size());
+        assertEquals(IntervalBuilder.month(2024, 3, TEST_TIMEZONE_STR), months.get(2));
+        assertEquals(91, quarter.days().count());
+        List<Quarter> quarters = IntervalBuilder.year(2024, TEST_TIMEZONE_STR).quarters().collect(Collectors.toList());
+        assertEquals(4, quarters.size());
+        assertEquals(quarter, quarters.get(0));
+        assertEquals(IntervalBuilder.year(2024, TEST_TIMEZONE_STR).getEnd(), quarters.get(3).getEnd());
+    }
+    @Test(expected = InvalidQuarterException.class)
+    public void test0205_invalid_quarter() {
+        IntervalBuilder.quarter(2023, 5);
+    }
+    @Test
+    public void test0206_fiscal_quarter_bounds() {
+        // fiscal year 2024 starting in October is 2023-10-01 .. 2024-09-30
+        Quarter first = IntervalBuilder.quarter(2024, 1, TEST_TIMEZONE_STR, 0, 10);
+        assertEquals(LocalDateTime.of(2023, 10, 1, 0, 0), first.getStart());
+        assertEquals(LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999999999), first.getEnd());
+        assertEquals(2024, first.year());
+        assertEquals(1, first.quarter());
+        assertEquals(10, first.firstMonthOfYear());
+        Quarter last = IntervalBuilder.quarter(2024, 4, TEST_TIMEZONE_STR, 0, 10);
+        assertEquals(LocalDateTime.of(2024, 7, 1, 0, 0), last.getStart());
+        assertEquals(LocalDateTime.of(2024, 9, 30, 23, 59, 59, 999999999), last.getEnd());
+        // quarters not aligned to calendar quarters
+        Quarter shifted = IntervalBuilder.quarter(2024, 4, TEST_TIMEZONE_STR, 0, 2);
+        assertEquals(LocalDateTime.of(2023, 11, 1, 0, 0), shifted.getStart());
+        assertEquals(LocalDateTime.of(2024, 1, 31, 23, 59, 59, 999999999), shifted.getEnd());
+        assertEquals(92, shifted.days().count());
+        assertEquals(IntervalBuilder.month(2024, 1, TEST_TIMEZONE_STR), shifted.months().skip(2).findFirst().get());
+    }
+    @Test
+    public void test0207_fiscal_quarter_navigation_and_factories() {
+        Quarter quarter = IntervalBuilder.quarter(2024, 4, "UTC", 0, 4);
+        assertEquals(IntervalBuilder.quarter(2025, 1, "UTC", 0, 4), quarter.next());
+        assertEquals(IntervalBuilder.quarter(2024, 3, "UTC", 0, 4), quarter.previous());
+        assertEquals(4, quarter.next().firstMonthOfYear());
+        assertEquals(2025, quarter.next().year());
+        assertEquals(-5, Quarter.between(quarter, quarter.minus(5)));
+        Instant instant = Instant.parse("2024-02-15T00:00:00Z");
+        Quarter containing = Quarter.of(instant, ZoneId.of("UTC"), 0, 4);
+        assertEquals(quarter, containing);
+        assertEquals(2024, containing.year());
+        assertEquals(4, containing.quarter());
+        assertEquals(IntervalBuilder.quarter(2024, 1, "UTC"), Quarter.of(instant.toEpochMilli(), ZoneId.of("UTC"), 0, 1));
+    }
+    @Test(expected = InvalidQuarterException.class)
+    public void test0208_invalid_first_month_of_year() {
+        IntervalBuilder.quarter(2023, 1, "UTC", 0, 13);
+    }
+
+    // endregion
+    // region - 03: hour
+
+    @Test
+    public void test0301_hour_bounds() {
+        Hour hour = IntervalBuilder.hour(2023, 10, 15, 13, TEST_TIMEZONE_STR);
+        assertEquals(LocalDateTime.of(2023, 10, 15, 13, 0), hour.getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 13, 59, 59, 999999999), hour.getEnd());
+        assertEquals(Instant.parse("2023-10-15T03:00:00Z"), hour.start());
+    }
+    @Test
+    public void test0302_hour_navigation() {
+        Hour hour = IntervalBuilder.hour(2023, 12, 31, 23, TEST_TIMEZONE_STR, 1);
+        assertEquals(IntervalBuilder.hour(2024, 1, 1, 0, TEST_TIMEZONE_STR, 1), hour.next());
+        assertEquals(IntervalBuilder.hour(2023, 12, 31, 22, TEST_TIMEZONE_STR, 1), hour.previous());
+        assertEquals(IntervalBuilder.hour(2023, 12, 30, 23, TEST_TIMEZONE_STR, 1), hour.minus(24));
+        assertEquals(24 * 365, Hour.between(hour, hour.plus(24 * 365)));
+    }
+    @Test
+    public void test0303_hour_factories() {
+        Instant instant = Instant.parse("2023-10-15T03:25:00Z");
+        assertEquals(IntervalBuilder.hour(2023, 10, 15, 13, TEST_TIMEZONE_STR), Hour.of(instant, TEST_TIMEZONE_STR));
+        assertEquals(IntervalBuilder.hour(2023, 10, 15, 3), Hour.of(instant.toEpochMilli()));
+        assertEquals(IntervalBuilder.hour(2023, 10, 15, 13), Hour.of("2023-10-15T13"));
+        assertEquals(IntervalBuilder.hour(2023, 10, 15, 0), Hour.of("2023-10-15"));
+    }
+    @Test
+    public void test0304_day_hours() {
+        Day day = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 2);
+        List<Hour> hours = day.hours().collect(Collectors.toList());
+        assertEquals(24, hours.size());
+        assertEquals(day.getStart(), hours.get(0).getStart());
+        assertEquals(day.getEnd(), hours.get(23).getEnd());
+        for (int i = 1; i < hours.size(); i++) {
+            assertEquals(hours.get(i - 1).next(), hours.get(i));
+        }
+    }
+    @Test(expected = InvalidHourException.class)
+    public void test0305_hour_in_dst_gap() {
+        // 2023-03-26T02:00 does not exist in Europe/Berlin
+        IntervalBuilder.hour(2023, 3, 26, 2, "Europe/Berlin");
+    }
+    @Test(expected = InvalidHourException.class)
+    public void test0306_invalid_hour() {
+        IntervalBuilder.hour(2023, 10, 15, 24);
+    }
+
+    @Test
+    public void test0307_hour_of_instant_in_dst_overlap() {
+        // 2023-10-29 02:00 .. 03:00 is repeated in Europe/Berlin
+        for (String value : new String[] {"2023-10-29T00:30:00Z", "2023-10-29T01:30:00Z", "2023-10-29T01:00:00Z"}) {
+            Instant instant = Instant.parse(value);
+            Hour hour = Hour.of(instant, "Europe/Berlin");
+            assertTrue(hour.contains(instant));
+            assertEquals(LocalDateTime.of(2023, 10, 29, 2, 0), hour.getStart());
+        }
+        assertEquals(Instant.parse("2023-10-29T01:00:00Z"), Hour.of(Instant.parse("2023-10-29T01:30:00Z"), "Europe/Berlin").start());
+        assertEquals(IntervalBuilder.hour(2023, 10, 29, 2, "Europe/Berlin"), Hour.of(Instant.parse("2023-10-29T00:30:00Z"), "Europe/Berlin"));
+    }
+    @Test
+    public void test0308_hour_navigation_in_dst_overlap() {
+        Hour first = IntervalBuilder.hour(2023, 10, 29, 2, "Europe/Berlin");
+        Hour second = first.next();
+        assertEquals(Instant.parse("2023-10-29T00:59:59.999999999Z"), first.end());
+        assertEquals(Instant.parse("2023-10-29T01:00:00Z"), second.start());
+        assertEquals(first.getStart(), second.getStart());
+        assertEquals(IntervalBuilder.hour(2023, 10, 29, 3, "Europe/Berlin"), second.next());
+        assertEquals(first, second.previous());
+        assertEquals(second, first.previous().plus(2));
+        assertEquals(2, Hour.between(first.previous(), second));
+        assertEquals(first.start(), second.withPrevious().start());
+        assertEquals(second.end(), second.withPrevious().end());
+    }
+    @Test
+    public void test0309_day_hours_on_dst_transition_days() {
+        Day autumn = IntervalBuilder.day(2023, 10, 29, "Europe/Berlin");
+        List<Hour> hours = autumn.hours().collect(Collectors.toList());
+        assertEquals(25, hours.size());
+        assertEquals(autumn.start(), hours.get(0).start());
+        assertEquals(autumn.end(), hours.get(24).end());
+        for (int i = 1; i < hours.size(); i++) {
+            assertEquals(hours.get(i - 1).next(), hours.get(i));
+            assertEquals(hours.get(i - 1).end().plusNanos(1), hours.get(i).start());
+        }
+        Day spring = IntervalBuilder.day(2023, 3, 26, "Europe/Berlin");
+        assertEquals(23, spring.hours().count());
+        assertEquals(spring.end(), spring.hours().reduce((a, b) -> b).get().end());
+    }
+    @Test
+    public void test0310_hours_cut_at_day_end() {
+        // Lord Howe Island shifts clocks by half an hour: 2023-04-02 is 24.5 hours long
+        Day day = IntervalBuilder.day(2023, 4, 2, "Australia/Lord_Howe");
+        List<Hour> hours = day.hours().collect(Collectors.toList());
+        assertEquals(25, hours.size());
+        Hour last = hours.get(24);
+        assertEquals(day.end(), last.end());
+        assertEquals(Duration.ofMinutes(30), Duration.between(last.start(), last.end().plusNanos(1)));
+        assertEquals(IntervalBuilder.hour(2023, 4, 3, 0, "Australia/Lord_Howe"), last.next());
+        assertEquals(last, last.next().previous());
+    }
+
+    // endregion
+    // region - 04: shifted
+
+    @Test
+    public void test0401_shifted_week() {
+        ShiftedWeek week = ShiftedWeek.of(IntervalBuilder.week(2023, 41), "-P1D");
+        assertEquals(LocalDateTime.of(2023, 10, 8, 0, 0), week.getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 14, 23, 59, 59, 999999999), week.getEnd());
+        Interval both = week.withPrevious();
+        assertEquals(LocalDateTime.of(2023, 10, 1, 0, 0), both.getStart());
+        assertEquals(week.getEnd(), both.getEnd());
+    }
+    @Test
+    public void test0402_shifted_quarter_and_hour() {
+        ShiftedQuarter quarter = ShiftedQuarter.of(IntervalBuilder.quarter(2023, 4), "P1D");
+        assertEquals(LocalDateTime.of(2023, 10, 2, 0, 0), quarter.getStart());
+        assertEquals(LocalDateTime.of(2023, 7, 2, 0, 0), quarter.withPrevious().getStart());
+        ShiftedHour hour = ShiftedHour.of(IntervalBuilder.hour(2023, 10, 15, 13), "PT15M");
+        assertEquals(LocalDateTime.of(2023, 10, 15, 13, 15), hour.getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 12, 15), hour.withPrevious().getStart());
+        assertTrue(hour.getBase() instanceof Hour);
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,95 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.ShiftedInterval;
+import ws.slink.intervals.impl.CustomInterval;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_END;
+import static ws.slink.intervals.test.common.TestConfig.TEST_START;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IntervalValueTest {
+
+    // region - 01: equality
+
+    @Test
+    public void test0101_equal_intervals() {
+        assertEquals(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR), Day.of("2023-10-15", TEST_TIMEZONE_STR));
+        assertEquals(
+            IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR).hashCode(),
+            Day.of("2023-10-15", TEST_TIMEZONE_STR).hashCode()
+        );
+        assertEquals(new CustomInterval(TEST_TIMEZONE, TEST_START, TEST_END), new CustomInterval(TEST_TIMEZONE, TEST_START, TEST_END));
+        assertEquals(
+            ShiftedInterval.of(Day.of("2023-10-15"), "PT1H"),
+            ShiftedInterval.ofDuration(Day.of("2023-10-15"), Duration.ofHours(1))
+        );
+    }
+    @Test
+    public void test0102_not_equal_intervals() {
+        Day day = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR);
+        assertNotEquals(day, IntervalBuilder.day(2023, 10, 16, TEST_TIMEZONE_STR));
+        assertNotEquals(day, IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, 1));
+        assertNotEquals(day, IntervalBuilder.day(2023, 10, 15, "UTC"));
+        // same bounds, different type
+        assertNotEquals(day, new CustomInterval(day.timezone(), day.getStart(), day.getEnd()));
+        assertNotEquals(day, ShiftedInterval.ofDuration(day, Duration.ZERO));
+        assertNotEquals(day, null);
+    }
+    @Test
+    public void test0103_intervals_as_hash_map_keys() {
+        Map<Interval, Integer> counters = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            counters.merge(Day.of("2023-10-15", TEST_TIMEZONE_STR), 1, Integer::sum);
+            counters.merge(Day.of("2023-10-16", TEST_TIMEZONE_STR), 1, Integer::sum);
+        }
+        assertEquals(2, counters.size());
+        assertEquals(Integer.valueOf(10), counters.get(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR)));
+    }
+
+    // endregion
+    // region - 02: ordering
+
+    @Test
+    public void test0201_intervals_ordered_by_bounds() {
+        Interval d1 = IntervalBuilder.day(2023, 10, 14);
+        Interval d2 = IntervalBuilder.day(2023, 10, 15);
+        Interval m = IntervalBuilder.month(2023, 10);
+        Interval y = IntervalBuilder.year(2023);
+        Interval[] intervals = {m, d2, y, d1};
+        Arrays.sort(intervals);
+        assertArrayEquals(new Interval[] {y, m, d1, d2}, intervals);
+        Arrays.sort(intervals, Interval.BY_BOUNDS.reversed());
+        assertArrayEquals(new Interval[] {d2, d1, m, y}, intervals);
+    }
+    @Test
+    public void test0202_ordering_consistent_with_equals() {
+        Day day = IntervalBuilder.day(2023, 10, 15);
+        Interval custom = new CustomInterval(day.timezone(), day.getStart(), day.getEnd());
+        assertEquals(0, Interval.compareBounds(day, custom));
+        assertTrue(day.compareTo(custom) != 0);
+        assertEquals(0, day.compareTo(Day.of("2023-10-15")));
+        TreeSet<Interval> set = new TreeSet<>(Arrays.asList(day, custom, Day.of("2023-10-15")));
+        assertEquals(2, set.size());
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,147 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.PackedInterval;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.tools.EpochMath;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PackedIntervalTest {
+
+    private static final ZoneId TEST_ZONE = ZoneId.of(TEST_TIMEZONE_STR);
+    private static final ZoneId DST_ZONE = ZoneId.of("Europe/Berlin");
+
+    // region - 01: epoch math
+
+    @Test
+    public void test0101_epoch_day_matches_local_date() {
+        for (long epochDay = -800_000; epochDay <= 800_000; epochDay += 37) {
+            LocalDate date = LocalDate.ofEpochDay(epochDay);
+            assertEquals(epochDay, EpochMath.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+            long civil = EpochMath.civil(epochDay);
+            assertEquals(date.getYear(), EpochMath.year(civil));
+            assertEquals(date.getMonthValue(), EpochMath.month(civil));
+            assertEquals(date.getDayOfMonth(), EpochMath.day(civil));
+        }
+    }
+    @Test
+    public void test0102_epoch_month_round_trip() {
+        for (int year = -10; year <= 3000; year += 7) {
+            for (int month = 1; month <= 12; month++) {
+                long epochMonth = EpochMath.epochMonth(year, month);
+                assertEquals(year, EpochMath.yearOfEpochMonth(epochMonth));
+                assertEquals(month, EpochMath.monthOfEpochMonth(epochMonth));
+            }
+        }
+    }
+
+    // endregion
+    // region - 02: encoding
+
+    @Test
+    public void test0201_round_trip_day() {
+        for (int offset = -23; offset <= 23; offset++) {
+            Day day = IntervalBuilder.day(2023, 10, 15, TEST_ZONE, offset);
+            long packed = PackedInterval.encode(day);
+            assertEquals(PackedInterval.DAY, PackedInterval.type(packed));
+            assertEquals(offset, PackedInterval.offset(packed));
+            assertEquals(day, PackedInterval.decode(packed));
+            assertEquals(packed, PackedInterval.day(2023, 10, 15, TEST_ZONE, offset));
+        }
+    }
+    @Test
+    public void test0202_round_trip_month_and_year() {
+        Month month = IntervalBuilder.month(2024, 2, DST_ZONE, -5);
+        assertEquals(month, PackedInterval.decode(PackedInterval.encode(month)));
+        assertEquals(PackedInterval.encode(month), PackedInterval.month(2024, 2, DST_ZONE, -5));
+        Year year = IntervalBuilder.year(1969, ZoneId.of("UTC"), 7);
+        assertEquals(year, PackedInterval.decode(PackedInterval.encode(year)));
+        assertEquals(1969, PackedInterval.period(PackedInterval.encode(year)));
+    }
+    @Test
+    public void test0203_negative_periods() {
+        long packed = PackedInterval.day(1969, 12, 31, TEST_ZONE, 0);
+        assertEquals(-1, PackedInterval.period(packed));
+        assertEquals(IntervalBuilder.day(1969, 12, 31, TEST_ZONE, 0), PackedInterval.decode(packed));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0204_custom_interval_is_rejected() {
+        PackedInterval.encode(new IntervalBuilder().start("2023-10-01").end("2023-10-05").build());
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0205_invalid_day_is_rejected() {
+        PackedInterval.day(2023, 2, 29, TEST_ZONE, 0);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0206_invalid_offset_is_rejected() {
+        PackedInterval.day(2023, 2, 28, TEST_ZONE, 24);
+    }
+
+    // endregion
+    // region - 03: navigation
+
+    @Test
+    public void test0301_next_and_previous_match_intervals() {
+        long day = PackedInterval.day(2024, 3, 1, DST_ZONE, 2);
+        assertEquals(IntervalBuilder.day(2024, 2, 29, DST_ZONE, 2), PackedInterval.decode(PackedInterval.previous(day)));
+        assertEquals(IntervalBuilder.day(2024, 3, 2, DST_ZONE, 2), PackedInterval.decode(PackedInterval.next(day)));
+        long month = PackedInterval.month(2024, 1, DST_ZONE, 0);
+        assertEquals(IntervalBuilder.month(2023, 12, DST_ZONE, 0), PackedInterval.decode(PackedInterval.previous(month)));
+        long year = PackedInterval.year(2024, DST_ZONE, 0);
+        assertEquals(IntervalBuilder.year(2034, DST_ZONE, 0), PackedInterval.decode(PackedInterval.plus(year, 10)));
+    }
+    @Test
+    public void test0302_navigation_keeps_zone_and_offset() {
+        long day = PackedInterval.day(2023, 10, 15, TEST_ZONE, -7);
+        long prev = PackedInterval.previous(day);
+        assertEquals(PackedInterval.zoneIndex(day), PackedInterval.zoneIndex(prev));
+        assertEquals(PackedInterval.offset(day), PackedInterval.offset(prev));
+        assertEquals(day, PackedInterval.next(prev));
+    }
+
+    // endregion
+    // region - 04: bounds
+
+    @Test
+    public void test0401_bounds_match_intervals_across_dst() {
+        for (int offset : new int[] {-5, 0, 3}) {
+            long packed = PackedInterval.day(2023, 1, 1, DST_ZONE, offset);
+            for (int i = 0; i < 365; i++, packed = PackedInterval.next(packed)) {
+                Interval day = PackedInterval.decode(packed);
+                assertEquals(day.startEpochSecond(), PackedInterval.startEpochSecond(packed));
+                assertEquals(day.endEpochSecond(), PackedInterval.endEpochSecond(packed));
+            }
+        }
+    }
+    @Test
+    public void test0402_contains_matches_intervals() {
+        long packed = PackedInterval.month(2023, 10, DST_ZONE, 2);
+        Interval month = PackedInterval.decode(packed);
+        long start = month.start().toEpochMilli();
+        long end = month.end().toEpochMilli();
+        assertFalse(PackedInterval.contains(packed, start - 1));
+        assertTrue(PackedInterval.contains(packed, start));
+        assertTrue(PackedInterval.contains(packed, end));
+        assertFalse(PackedInterval.contains(packed, end + 1));
+        for (long milli = start - 86_400_000L; milli <= end + 86_400_000L; milli += 3_599_999L) {
+            assertEquals(month.contains(milli), PackedInterval.contains(packed, milli));
+        }
+    }
+
+    // endregion
+
+}
@@ -0,0 +1,163 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.DoubleTimeSeriesAggregate;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.LongTimeSeriesAggregate;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.TimeSeriesAggregate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static ws.slink.intervals.test.common.AllocationBudget.assertAtMost;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TimeSeriesAggregateTest {
+
+    private static final Instant ORIGIN = Instant.parse("2023-01-01T00:00:00Z");
+    private static final long MINUTE = 60_000L;
+
+    // region - 01: long series
+
+    @Test
+    public void test0101_aggregates_of_calendar_intervals() {
+        LongTimeSeriesAggregate series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), ORIGIN);
+        long origin = ORIGIN.toEpochMilli();
+        // one sample per minute for 90 days, value is minute number of day
+        for (long minute = 0; minute < 90 * 1440; minute++) {
+            series.add(origin + minute * MINUTE, minute % 1440);
+        }
+        assertEquals(90 * 1440, series.size());
+        Day day = IntervalBuilder.day(2023, 1, 15);
+        assertEquals(1440, series.count(day));
+        assertEquals(1439L * 1440 / 2, series.sum(day));
+        assertEquals(1439, series.max(day));
+        Month month = IntervalBuilder.month(2023, 2);
+        assertEquals(28 * 1440, series.count(month));
+        assertEquals(28 * (1439L * 1440 / 2), series.sum(month));
+    }
+    @Test
+    public void test0102_interval_range_is_clipped_to_stored_buckets() {
+        LongTimeSeriesAggregate series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), ORIGIN);
+        series.add(ORIGIN.plusSeconds(90), 5);
+        series.add(ORIGIN.plusSeconds(100), 7);
+        assertEquals(2, series.size());
+        assertEquals(12, series.sum(IntervalBuilder.year(2023)));
+        assertEquals(2, series.count(IntervalBuilder.year(2023)));
+        assertEquals(7, series.max(IntervalBuilder.year(2023)));
+        assertEquals(0, series.count(IntervalBuilder.year(2022)));
+        assertEquals(0, series.sum(IntervalBuilder.year(2024)));
+        assertEquals(Long.MIN_VALUE, series.max(IntervalBuilder.year(2024)));
+    }
+    @Test
+    public void test0103_buckets_starting_within_interval() {
+        LongTimeSeriesAggregate series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(15), ORIGIN);
+        for (int i = 0; i < 8; i++) {
+            series.add(ORIGIN.plusSeconds(i * 900L), 1L << i);
+        }
+        Interval interval = new IntervalBuilder()
+            .zoneId(ZoneId.of("UTC"))
+            .start(LocalDateTime.of(2023, 1, 1, 0, 10))
+            .end(LocalDateTime.of(2023, 1, 1, 1, 0))
+            .build();
+        // buckets starting at 00:15, 00:30, 00:45 and 01:00
+        assertEquals(2 + 4 + 8 + 16, series.sum(interval));
+        assertEquals(16, series.max(interval));
+    }
+    @Test
+    public void test0104_random_updates_match_brute_force() {
+        Random random = new Random(42);
+        LongTimeSeriesAggregate series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), ORIGIN);
+        int buckets = 5000;
+        long[] sums = new long[buckets];
+        long[] counts = new long[buckets];
+        long[] maxima = new long[buckets];
+        java.util.Arrays.fill(maxima, Long.MIN_VALUE);
+        long origin = ORIGIN.toEpochMilli();
+        for (int i = 0; i < 20000; i++) {
+            // mostly appends near the tail, sometimes late samples
+            int bucket = (random.nextInt(10) == 0)
+                ? random.nextInt(Math.max(series.size(), 1))
+                : Math.min(buckets - 1, series.size() + random.nextInt(3) - 1);
+            bucket = Math.max(bucket, 0);
+            long value = random.nextInt(2000) - 1000;
+            series.add(origin + bucket * MINUTE + random.nextInt(60_000), value);
+            sums[bucket] += value;
+            counts[bucket]++;
+            maxima[bucket] = Math.max(maxima[bucket], value);
+        }
+        for (int i = 0; i < 500; i++) {
+            int from = random.nextInt(series.size());
+            int to = from + random.nextInt(series.size() - from);
+            Interval interval = new IntervalBuilder()
+                .zoneId(ZoneId.of("UTC"))
+                .start(LocalDateTime.ofInstant(Instant.ofEpochMilli(origin + from * MINUTE), ZoneId.of("UTC")))
+                .end(LocalDateTime.ofInstant(Instant.ofEpochMilli(origin + to * MINUTE + 59_999), ZoneId.of("UTC")))
+                .build();
+            long sum = 0;
+            long count = 0;
+            long max = Long.MIN_VALUE;
+            for (int b = from; b <= to; b++) {
+                sum += sums[b];
+                count += counts[b];
+                max = Math.max(max, maxima[b]);
+            }
+            assertEquals(sum, series.sum(interval));
+            assertEquals(count, series.count(interval));
+            assertEquals(max, series.max(interval));
+        }
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0105_sample_before_origin() {
+        TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), ORIGIN).add(ORIGIN.minusMillis(1), 1);
+    }
+    @Test
+    public void test0106_queries_and_tail_appends_do_not_allocate() {
+        LongTimeSeriesAggregate series = TimeSeriesAggregate.ofLongs(Duration.ofMinutes(1), ORIGIN);
+        long origin = ORIGIN.toEpochMilli();
+        for (long minute = 0; minute < 365 * 1440; minute++) {
+            series.add(origin + minute * MINUTE, 1);
+        }
+        Month month = IntervalBuilder.month(2023, 6);
+        assertAtMost("sum", 0, () -> series.sum(month));
+        assertAtMost("max", 0, () -> series.max(month));
+        long tail = origin + 365 * 1440 * MINUTE - 1;
+        assertAtMost("add", 0, () -> {
+            series.add(tail, 1);
+            return 0L;
+        });
+    }
+
+    // endregion
+    // region - 02: double series
+
+    @Test
+    public void test0201_double_aggregates() {
+        DoubleTimeSeriesAggregate series = TimeSeriesAggregate.ofDoubles(Duration.ofHours(1), ORIGIN);
+        for (int hour = 0; hour < 48; hour++) {
+            series.add(ORIGIN.plusSeconds(hour * 3600L), hour - 24.5);
+        }
+        Day first = IntervalBuilder.day(2023, 1, 1);
+        assertEquals(24, series.count(first));
+        assertEquals(-24.5 * 24 + 23 * 24 / 2.0, series.sum(first), 1e-9);
+        assertEquals(-1.5, series.max(first), 0);
+        assertEquals(22.5, series.max(IntervalBuilder.day(2023, 1, 2)), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, series.max(IntervalBuilder.day(2023, 1, 3)), 0);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0202_nan_rejected() {
+        TimeSeriesAggregate.ofDoubles(Duration.ofMinutes(1), ORIGIN).add(ORIGIN, Double.NaN);
+    }
+
+    // endregion
+
+}
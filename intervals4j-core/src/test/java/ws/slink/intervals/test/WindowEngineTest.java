@@ -0,0 +1,276 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Grid;
+import ws.slink.intervals.GridInterval;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.WindowEngine;
+import ws.slink.intervals.WindowListener;
+import ws.slink.intervals.Windows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static ws.slink.intervals.test.common.AllocationBudget.assertAtMost;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class WindowEngineTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+
+    private static final class Fired {
+        private final Interval window;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+        private final boolean late;
+
+        private Fired(Interval window, long count, long sum, long min, long max, boolean late) {
+            this.window = window;
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.late = late;
+        }
+    }
+
+    private static final class Recorder implements WindowListener {
+        private final List<Fired> fired = new ArrayList<>();
+
+        @Override
+        public void onWindow(Interval window, long count, long sum, long min, long max, boolean late) {
+            fired.add(new Fired(window, count, sum, min, max, late));
+        }
+    }
+
+    private static long millis(String value) {
+        return Instant.parse(value).toEpochMilli();
+    }
+
+    // region - 01: tumbling windows
+
+    @Test
+    public void test0101_grid_windows_fire_when_watermark_passes_end() {
+        Grid grid = Grid.of(Duration.ofMinutes(5), BERLIN);
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.grid(grid), Duration.ZERO, Duration.ZERO, recorder);
+        long start = millis("2023-10-15T10:00:00Z");
+        for (int minute = 0; minute < 12; minute++) {
+            engine.accept(start + minute * MINUTE, minute);
+        }
+        // watermark is at 10:11, windows 10:00 and 10:05 are fired
+        assertEquals(2, recorder.fired.size());
+        Fired first = recorder.fired.get(0);
+        assertTrue(first.window instanceof GridInterval);
+        assertEquals(grid.bucketOf(start), first.window);
+        assertEquals(5, first.count);
+        assertEquals(0 + 1 + 2 + 3 + 4, first.sum);
+        assertEquals(0, first.min);
+        assertEquals(4, first.max);
+        assertFalse(first.late);
+        assertEquals(grid.bucketOf(start + 5 * MINUTE), recorder.fired.get(1).window);
+        assertEquals(1, engine.openWindows());
+        engine.flush();
+        assertEquals(3, recorder.fired.size());
+        assertEquals(2, recorder.fired.get(2).count);
+        assertEquals(0, engine.openWindows());
+    }
+    @Test
+    public void test0102_out_of_order_events_within_bound() {
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.days(BERLIN, 0), Duration.ofHours(2), Duration.ZERO, recorder);
+        engine.accept(millis("2023-10-15T21:00:00Z"), 1); // 23:00 berlin
+        engine.accept(millis("2023-10-15T23:00:00Z"), 2); // next day, watermark at 23:00 berlin
+        engine.accept(millis("2023-10-15T21:30:00Z"), 3); // out of order, still on time
+        assertEquals(0, recorder.fired.size());
+        engine.accept(millis("2023-10-16T00:00:01Z"), 4);
+        assertEquals(1, recorder.fired.size());
+        assertEquals(IntervalBuilder.day(2023, 10, 15, BERLIN), recorder.fired.get(0).window);
+        assertTrue(recorder.fired.get(0).window instanceof Day);
+        assertEquals(4, recorder.fired.get(0).sum);
+        assertEquals(0, engine.dropped());
+    }
+    @Test
+    public void test0103_month_windows_from_iterator() {
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.months("UTC", 0), Duration.ZERO, Duration.ZERO, recorder);
+        List<long[]> events = new ArrayList<>();
+        long start = millis("2023-01-01T00:00:00Z");
+        for (int day = 0; day < 365; day++) {
+            events.add(new long[] {start + day * DAY, 1});
+        }
+        engine.process(events.iterator(), e -> e[0], e -> e[1]);
+        assertEquals(11, recorder.fired.size());
+        engine.flush();
+        assertEquals(12, recorder.fired.size());
+        long[] lengths = recorder.fired.stream().mapToLong(f -> f.count).toArray();
+        assertTrue(Arrays.equals(new long[] {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31}, lengths));
+        assertTrue(recorder.fired.get(1).window instanceof Month);
+        assertEquals(IntervalBuilder.month(2023, 2, "UTC"), recorder.fired.get(1).window);
+    }
+
+    // endregion
+    // region - 02: late events
+
+    @Test
+    public void test0201_late_events_within_allowed_lateness() {
+        Grid grid = Grid.of(Duration.ofMinutes(1));
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.grid(grid), Duration.ZERO, Duration.ofMinutes(2), recorder);
+        long start = millis("2023-10-15T10:00:00Z");
+        engine.accept(start, 1);
+        engine.accept(start + MINUTE, 2);
+        assertEquals(1, recorder.fired.size());
+        // late event for fired window re-fires it
+        engine.accept(start + 10_000, 5);
+        assertEquals(2, recorder.fired.size());
+        assertTrue(recorder.fired.get(1).late);
+        assertEquals(6, recorder.fired.get(1).sum);
+        assertEquals(2, recorder.fired.get(1).count);
+        // watermark at 10:02 + 2 minutes of lateness drops the first window
+        engine.accept(start + 3 * MINUTE, 1);
+        assertEquals(2, engine.openWindows());
+        engine.accept(start + 20_000, 7);
+        assertEquals(1, engine.dropped());
+        assertEquals(3, recorder.fired.size());
+        // late event for a window with no events yet
+        engine.accept(start + 2 * MINUTE + 30_000, 9);
+        assertTrue(recorder.fired.get(3).late);
+        assertEquals(grid.bucketOf(start + 2 * MINUTE), recorder.fired.get(3).window);
+    }
+    @Test
+    public void test0202_watermark_never_moves_back() {
+        WindowEngine engine = WindowEngine.of(Windows.days("UTC", 0), Duration.ZERO, Duration.ZERO, new Recorder());
+        assertEquals(Long.MIN_VALUE, engine.watermark());
+        engine.advanceWatermark(1000);
+        engine.accept(500, 1);
+        assertEquals(1000, engine.watermark());
+    }
+
+    // endregion
+    // region - 03: hopping windows
+
+    @Test
+    public void test0301_hopping_day_windows() {
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.days(BERLIN, 0).hopping(3), Duration.ZERO, Duration.ZERO, recorder);
+        long start = millis("2023-10-09T10:00:00Z");
+        for (int day = 0; day < 7; day++) {
+            engine.accept(start + day * DAY, 1L << day);
+        }
+        engine.flush();
+        // windows starting at 10-07 .. 10-15 contain at least one event
+        assertEquals(9, recorder.fired.size());
+        Fired window = recorder.fired.get(3); // 10-10 .. 10-12
+        assertEquals(LocalDateTime.of(2023, 10, 10, 0, 0), window.window.getStart());
+        assertEquals(LocalDateTime.of(2023, 10, 12, 23, 59, 59, 999999999), window.window.getEnd());
+        assertEquals(3, window.count);
+        assertEquals(2 + 4 + 8, window.sum);
+        assertEquals(2, window.min);
+        assertEquals(8, window.max);
+    }
+    @Test
+    public void test0302_hopping_grid_windows_over_dst_transition() {
+        Grid grid = Grid.of(Duration.ofMinutes(30), BERLIN);
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.grid(grid).hopping(4), Duration.ZERO, Duration.ZERO, recorder);
+        // berlin clocks go back at 01:00 UTC, so 2023-10-29 has 50 half-hour buckets
+        long start = millis("2023-10-28T22:00:00Z");
+        for (int i = 0; i < 50; i++) {
+            engine.accept(start + i * 30 * MINUTE, 1);
+        }
+        engine.flush();
+        assertEquals(50 + 3, recorder.fired.size());
+        for (int i = 0; i < recorder.fired.size(); i++) {
+            // windows report exact bounds, also within repeated hour
+            Interval window = recorder.fired.get(i).window;
+            assertEquals(start + (i - 3) * 30 * MINUTE, window.start().toEpochMilli());
+            assertEquals(2 * HOUR, Duration.between(window.start(), window.end()).toMillis() + 1);
+        }
+        assertEquals(4 * 50, recorder.fired.stream().mapToLong(f -> f.count).sum());
+    }
+
+    // endregion
+    // region - 04: publisher input and allocations
+
+    @Test
+    public void test0401_flow_publisher_input() {
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.days("UTC", 0), Duration.ZERO, Duration.ZERO, recorder);
+        long start = millis("2023-10-15T00:00:00Z");
+        Flow.Publisher<Long> publisher = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override public void request(long n) { }
+                @Override public void cancel() { }
+            });
+            for (int hour = 0; hour < 72; hour++) {
+                subscriber.onNext(start + hour * HOUR);
+            }
+            subscriber.onComplete();
+        };
+        engine.subscribe(publisher, t -> t, t -> 1);
+        assertEquals(3, recorder.fired.size());
+        assertEquals(24, recorder.fired.get(2).count);
+        assertEquals(0, engine.openWindows());
+    }
+    @Test
+    public void test0402_accept_does_not_allocate() {
+        Grid grid = Grid.of(Duration.ofMinutes(5), BERLIN);
+        WindowEngine engine = WindowEngine.of(Windows.grid(grid).hopping(3), Duration.ofMinutes(1), Duration.ZERO, new Recorder());
+        long start = millis("2023-10-15T10:00:00Z");
+        engine.accept(start, 1);
+        assertAtMost("accept", 0, () -> {
+            engine.accept(start + 1000, 1);
+            return engine.openWindows();
+        });
+    }
+    @Test
+    public void test0403_flow_publisher_error_is_recorded() {
+        Recorder recorder = new Recorder();
+        WindowEngine engine = WindowEngine.of(Windows.days("UTC", 0), Duration.ZERO, Duration.ZERO, recorder);
+        long start = millis("2023-10-15T00:00:00Z");
+        IllegalStateException error = new IllegalStateException("source failed");
+        Flow.Publisher<Long> publisher = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override public void request(long n) { }
+                @Override public void cancel() { }
+            });
+            for (int hour = 0; hour < 36; hour++) {
+                subscriber.onNext(start + hour * HOUR);
+            }
+            subscriber.onError(error);
+        };
+        assertNull(engine.failure());
+        engine.subscribe(publisher, t -> t, t -> 1);
+        assertSame(error, engine.failure());
+        assertEquals(1, recorder.fired.size());
+        assertEquals(1, engine.openWindows());
+        engine.flush();
+        assertEquals(2, recorder.fired.size());
+        assertEquals(12, recorder.fired.get(1).count);
+    }
+
+    // endregion
+
+}
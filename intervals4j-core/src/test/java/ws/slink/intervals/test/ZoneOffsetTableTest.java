@@ -0,0 +1,100 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.tools.ZoneOffsetTable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ZoneOffsetTableTest {
+
+    private static final long FROM = LocalDateTime.of(2000, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+    private static final long TO = LocalDateTime.of(2031, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    // region - 01: table
+
+    @Test
+    public void test0101_fixed_offset_zones() {
+        assertTrue(ZoneOffsetTable.of(ZoneId.of("UTC")).isFixedOffset());
+        assertTrue(ZoneOffsetTable.of(ZoneId.of("GMT+3")).isFixedOffset());
+        assertEquals(0, ZoneOffsetTable.of(ZoneId.of("UTC")).size());
+        assertEquals(3600 - 10800, ZoneOffsetTable.of(ZoneId.of("GMT+3")).toEpochSecond(3600));
+        assertFalse(ZoneOffsetTable.of(ZoneId.of("Europe/Berlin")).isFixedOffset());
+    }
+    @Test
+    public void test0102_table_is_shared_per_zone() {
+        ZoneId zone = ZoneId.of("America/New_York");
+        assertTrue(ZoneOffsetTable.of(zone) == ZoneOffsetTable.of(zone));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0103_invalid_range_is_rejected() {
+        ZoneOffsetTable.of(ZoneId.of("UTC"), 2030, 2000);
+    }
+
+    // endregion
+    // region - 02: conversions
+
+    @Test
+    public void test0201_offsets_match_zone_rules_around_transitions() {
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneRules rules = zone.getRules();
+            ZoneOffsetTable table = ZoneOffsetTable.of(zone, 2000, 2030);
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(FROM));
+            while (transition != null && transition.toEpochSecond() < TO) {
+                long second = transition.toEpochSecond();
+                for (long value : new long[] {second - 1, second, second + 1}) {
+                    assertEquals(id, rules.getOffset(Instant.ofEpochSecond(value)).getTotalSeconds(), table.offsetAt(value));
+                }
+                long before = transition.getOffsetBefore().getTotalSeconds();
+                long after = transition.getOffsetAfter().getTotalSeconds();
+                long from = second + Math.min(before, after) - 1;
+                long to = second + Math.max(before, after) + 1;
+                for (long local = from; local <= to; local += Math.max(1, (to - from) / 7)) {
+                    assertEquals(id, expectedEpochSecond(zone, local), table.toEpochSecond(local));
+                }
+                assertEquals(id, expectedEpochSecond(zone, to), table.toEpochSecond(to));
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+    }
+    @Test
+    public void test0202_conversions_match_zone_rules_hourly() {
+        for (String id : new String[] {"Europe/Berlin", "America/Sao_Paulo", "Australia/Lord_Howe", "Asia/Vladivostok"}) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+            for (long local = FROM; local < TO; local += 3599) {
+                assertEquals(id, expectedEpochSecond(zone, local), table.toEpochSecond(local));
+                assertEquals(id, local + zone.getRules().getOffset(Instant.ofEpochSecond(local)).getTotalSeconds(),
+                    table.toLocalEpochSecond(local));
+            }
+        }
+    }
+    @Test
+    public void test0203_out_of_range_falls_back_to_zone_rules() {
+        ZoneId zone = ZoneId.of("Europe/Berlin");
+        ZoneOffsetTable table = ZoneOffsetTable.of(zone, 2000, 2001);
+        long local = LocalDateTime.of(2023, 3, 26, 2, 30).toEpochSecond(ZoneOffset.UTC);
+        assertEquals(expectedEpochSecond(zone, local), table.toEpochSecond(local));
+        long value = LocalDateTime.of(1960, 7, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+        assertEquals(zone.getRules().getOffset(Instant.ofEpochSecond(value)).getTotalSeconds(), table.offsetAt(value));
+    }
+
+    // endregion
+
+    private static long expectedEpochSecond(ZoneId zone, long localEpochSecond) {
+        return LocalDateTime.ofEpochSecond(localEpochSecond, 0, ZoneOffset.UTC).atZone(zone).toEpochSecond();
+    }
+
+}
@@ -0,0 +1,157 @@
+package ws.slink.intervals.test;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+import ws.slink.intervals.Day;
+import ws.slink.intervals.Interval;
+import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Month;
+import ws.slink.intervals.Year;
+import ws.slink.intervals.ZoneRegistry;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static ws.slink.intervals.test.common.Assertions.assertBuilderTimezone;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE;
+import static ws.slink.intervals.test.common.TestConfig.TEST_TIMEZONE_STR;
+import static ws.slink.intervals.test.common.TestConfig.UTC_TIMEZONE;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ZoneRegistryTest {
+
+    // region - 01: registry
+
+    @Test
+    public void test0101_registry_resolves_same_as_time_zone() {
+        assertEquals(TEST_TIMEZONE, ZoneRegistry.timeZone(TEST_TIMEZONE_STR));
+        assertEquals(TimeZone.getTimeZone("IST"), ZoneRegistry.timeZone("IST"));
+        assertEquals(UTC_TIMEZONE, ZoneRegistry.timeZone(ZoneOffset.UTC));
+        assertEquals(TimeZone.getTimeZone("GMT+3"), ZoneRegistry.timeZone("GMT+3"));
+        assertEquals(TimeZone.getTimeZone(ZoneOffset.ofHours(3)), ZoneRegistry.timeZone(ZoneOffset.ofHours(3)));
+    }
+    @Test
+    public void test0102_registry_returns_copies() {
+        assertEquals(ZoneRegistry.timeZone(TEST_TIMEZONE_STR), ZoneRegistry.timeZone(ZoneId.of(TEST_TIMEZONE_STR)));
+        assertNotSame(ZoneRegistry.timeZone(TEST_TIMEZONE_STR), ZoneRegistry.timeZone(TEST_TIMEZONE_STR));
+    }
+    @Test
+    public void test0103_unknown_id_resolves_to_gmt() {
+        assertEquals("GMT", ZoneRegistry.timeZone("Unknown/Zone").getID());
+        assertEquals(ZoneRegistry.timeZone("GMT"), ZoneRegistry.timeZone("Another/Unknown"));
+    }
+    @Test
+    public void test0104_zone_id_lookup() {
+        assertEquals(ZoneId.of(TEST_TIMEZONE_STR), ZoneRegistry.zoneId(TEST_TIMEZONE_STR));
+    }
+
+    // endregion
+    // region - 02: zone id factories
+
+    @Test
+    public void test0201_zone_id_factories_match_string_factories() {
+        ZoneId zone = ZoneId.of(TEST_TIMEZONE_STR);
+        assertSameBounds(IntervalBuilder.year(2023, TEST_TIMEZONE_STR, 3), IntervalBuilder.year(2023, zone, 3));
+        assertSameBounds(IntervalBuilder.month(2023, 10, TEST_TIMEZONE_STR), IntervalBuilder.month(2023, 10, zone));
+        assertSameBounds(IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR, -3), IntervalBuilder.day(2023, 10, 15, zone, -3));
+        assertSameBounds(IntervalBuilder.parse("2023-10", TEST_TIMEZONE_STR, 5), IntervalBuilder.parse("2023-10", zone, 5));
+        assertSameBounds(Year.of("2023", TEST_TIMEZONE_STR), Year.of("2023", zone));
+        assertSameBounds(Month.of("2023-10", TEST_TIMEZONE_STR, 2), Month.of("2023-10", zone, 2));
+        assertSameBounds(Day.of("2023-10-15", TEST_TIMEZONE_STR, 2), Day.of("2023-10-15", zone, 2));
+    }
+    @Test
+    public void test0202_builder_accepts_zone_id() {
+        IntervalBuilder builder = new IntervalBuilder().zoneId(ZoneId.of(TEST_TIMEZONE_STR));
+        assertBuilderTimezone(builder, TEST_TIMEZONE);
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0203_builder_rejects_null_zone_id() {
+        new IntervalBuilder().zoneId(null);
+    }
+    @Test
+    public void test0204_previous_keeps_timezone() {
+        Day day = IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR);
+        assertEquals(day.timezone(), day.previous().timezone());
+        assertEquals(TEST_TIMEZONE_STR, day.previous().timezoneId());
+    }
+
+    // endregion
+    // region - 03: zone indexes
+
+    @Test
+    public void test0301_index_is_stable_and_resolves_back() {
+        int index = ZoneRegistry.index(TEST_TIMEZONE);
+        assertEquals(index, ZoneRegistry.index(ZoneRegistry.timeZone(TEST_TIMEZONE_STR)));
+        assertEquals(ZoneRegistry.timeZone(TEST_TIMEZONE_STR), ZoneRegistry.timeZone(index));
+    }
+    @Test(expected = IllegalArgumentException.class)
+    public void test0302_unknown_index_is_rejected() {
+        ZoneRegistry.timeZone(ZoneRegistry.MAX_INDEX + 1);
+    }
+
+    // endregion
+    // region - 04: shared state is not exposed
+
+    @Test
+    public void test0401_modifying_interval_timezone_does_not_affect_other_intervals() {
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        Day day = IntervalBuilder.day(2023, 10, 15, berlin);
+        day.timezone().setID("Hacked");
+        day.timezone().setRawOffset(5 * 3_600_000);
+        assertEquals("Europe/Berlin", day.timezone().getID());
+        Day other = IntervalBuilder.day(2023, 10, 16, "Europe/Berlin");
+        assertEquals("Europe/Berlin", other.timezoneId());
+        assertEquals(day.next(), other);
+        assertEquals(LocalDateTime.of(2023, 10, 15, 22, 0).toInstant(ZoneOffset.UTC), other.start());
+    }
+    @Test
+    public void test0402_modifying_registry_timezone_does_not_affect_registry() {
+        TimeZone timezone = ZoneRegistry.timeZone(TEST_TIMEZONE_STR);
+        timezone.setID("Hacked");
+        assertEquals(TEST_TIMEZONE_STR, ZoneRegistry.timeZone(TEST_TIMEZONE_STR).getID());
+        assertEquals(TEST_TIMEZONE_STR, ZoneRegistry.timeZone(ZoneRegistry.index(TEST_TIMEZONE)).getID());
+        assertEquals(TEST_TIMEZONE_STR, IntervalBuilder.day(2023, 10, 15, TEST_TIMEZONE_STR).timezoneId());
+    }
+    @Test
+    public void test0403_builder_keeps_own_timezone() {
+        TimeZone timezone = TimeZone.getTimeZone("Europe/Berlin");
+        IntervalBuilder builder = new IntervalBuilder()
+            .timezone(timezone)
+            .start(LocalDateTime.of(2023, 10, 15, 10, 0))
+            .end(LocalDateTime.of(2023, 10, 15, 11, 0));
+        timezone.setRawOffset(0);
+        timezone.setID("Hacked");
+        Interval interval = builder.build();
+        assertEquals("Europe/Berlin", interval.timezoneId());
+        assertEquals(LocalDateTime.of(2023, 10, 15, 8, 0).toInstant(ZoneOffset.UTC), interval.start());
+    }
+    @Test
+    public void test0404_foreign_timezone_instance_is_copied() {
+        // same ID as tz database zone, but different rules (no history), so it is not replaced by shared instance
+        TimeZone custom = new SimpleTimeZone(3 * 3_600_000, "Europe/Moscow");
+        Interval interval = new IntervalBuilder()
+            .timezone(custom)
+            .start(LocalDateTime.of(2023, 10, 15, 10, 0))
+            .end(LocalDateTime.of(2023, 10, 15, 11, 0))
+            .build();
+        custom.setID("Hacked");
+        custom.setRawOffset(0);
+        assertEquals("Europe/Moscow", interval.timezoneId());
+        assertEquals(3 * 3_600_000, interval.timezone().getRawOffset());
+    }
+
+    // endregion
+
+    private static void assertSameBounds(Interval expected, Interval actual) {
+        assertEquals(expected.timezone(), actual.timezone());
+        assertEquals(expected.start(), actual.start());
+        assertEquals(expected.end(), actual.end());
+    }
+
+}
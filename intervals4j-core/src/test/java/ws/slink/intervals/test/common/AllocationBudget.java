@@ -0,0 +1,100 @@
+package ws.slink.intervals.test.common;
+
+import org.junit.Assume;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures bytes allocated per call by current thread (after JIT warmup)
+ * and asserts allocation budgets for hot paths
+ *
+ * - `assertAtMost` is exact and is meant for allocation-free paths (budget 0)
+ * - `assertFootprint` is meant for object-producing paths: reference footprint is measured on
+ *   `REFERENCE_JVM`, the budget adds `SLACK_BYTES` to it to absorb header and alignment differences
+ *   of other JVMs (while a regression allocating extra objects per call still fails)
+ *
+ * usage:
+ *   AllocationBudget.assertAtMost("contains", 0, () -> interval.contains(value));
+ *   AllocationBudget.assertFootprint("day", 592, () -> IntervalBuilder.day(2023, 10, 15));
+ */
+public class AllocationBudget {
+
+    public static final int WARMUP_ITERATIONS = 50_000;
+    public static final int MEASURE_ITERATIONS = 20_000;
+
+    public static final String REFERENCE_JVM = "Temurin 17.0.9, 64-bit HotSpot, default flags (compressed oops)";
+    public static final int SLACK_BYTES = 64;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // results are published to keep JIT from eliminating measured calls
+    private static volatile Object sink;
+    private static volatile long primitiveSink;
+
+    public static void assertAtMost(String name, long budget, Supplier<?> operation) {
+        long allocated = bytesPerCall(operation);
+        assertTrue(name + ": allocated " + allocated + " bytes per call, budget is " + budget, allocated <= budget);
+    }
+    public static void assertAtMost(String name, long budget, LongSupplier operation) {
+        long allocated = bytesPerCall(operation);
+        assertTrue(name + ": allocated " + allocated + " bytes per call, budget is " + budget, allocated <= budget);
+    }
+
+    /**
+     * @param reference bytes per call measured on `REFERENCE_JVM`
+     */
+    public static void assertFootprint(String name, long reference, Supplier<?> operation) {
+        long budget = reference + SLACK_BYTES;
+        long allocated = bytesPerCall(operation);
+        assertTrue(name + ": allocated " + allocated + " bytes per call, budget is " + budget
+            + " (" + reference + " bytes on " + REFERENCE_JVM + " + " + SLACK_BYTES + ")", allocated <= budget);
+    }
+
+    public static long bytesPerCall(Supplier<?> operation) {
+        assumeSupported();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long after = THREADS.getThreadAllocatedBytes(threadId);
+        return (after - before - overhead()) / MEASURE_ITERATIONS;
+    }
+    public static long bytesPerCall(LongSupplier operation) {
+        assumeSupported();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            primitiveSink = operation.getAsLong();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            primitiveSink = operation.getAsLong();
+        }
+        long after = THREADS.getThreadAllocatedBytes(threadId);
+        return (after - before - overhead()) / MEASURE_ITERATIONS;
+    }
+
+    private static void assumeSupported() {
+        Assume.assumeTrue("thread allocation measurement is not supported", THREADS.isThreadAllocatedMemorySupported());
+        if (!THREADS.isThreadAllocatedMemoryEnabled()) {
+            THREADS.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    // bytes allocated by measurement itself (if any)
+    private static long overhead() {
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        long after = THREADS.getThreadAllocatedBytes(threadId);
+        return after - before;
+    }
+
+}
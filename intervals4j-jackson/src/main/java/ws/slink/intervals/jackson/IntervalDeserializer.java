@@ -7,11 +7,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import ws.slink.intervals.Interval;
 import ws.slink.intervals.IntervalBuilder;
+import ws.slink.intervals.Quarter;
+import ws.slink.intervals.ZoneRegistry;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
-import java.util.TimeZone;
+import java.time.temporal.WeekFields;
 
 import static ws.slink.intervals.jackson.internal.Constants.END_FIELD;
 import static ws.slink.intervals.jackson.internal.Constants.FORMATTER;
@@ -52,13 +55,32 @@ public class IntervalDeserializer extends StdDeserializer<Interval> {
 
         switch (type) {
             case "": return new IntervalBuilder()
-                .timezone(TimeZone.getTimeZone(timezone))
+                .timezone(ZoneRegistry.timeZone(timezone))
                 .start(sdt)
                 .end(edt)
                 .build();
             case "year": return IntervalBuilder.year(sdt.getYear(), timezone);
+            case "quarter": {
+                // start month restores quarter bounds; fiscal quarters are numbered
+                // as if fiscal year started in January, February or March
+                int firstMonthOfYear = (sdt.getMonthValue() - 1) % 3 + 1;
+                ZoneId zone = ZoneRegistry.zoneId(timezone);
+                return Quarter.of(sdt.atZone(zone).toInstant(), zone, 0, firstMonthOfYear);
+            }
             case "month": return IntervalBuilder.month(sdt.getYear(), sdt.getMonthValue(), timezone);
+            case "week": {
+                // week starts on its first day of week, so start day of week restores it
+                WeekFields fields = WeekFields.of(sdt.getDayOfWeek(), 4);
+                return IntervalBuilder.week(
+                    sdt.get(fields.weekBasedYear()),
+                    sdt.get(fields.weekOfWeekBasedYear()),
+                    timezone,
+                    0,
+                    sdt.getDayOfWeek()
+                );
+            }
             case "day": return IntervalBuilder.day(sdt.getYear(), sdt.getMonthValue(), sdt.getDayOfMonth(), timezone);
+            case "hour": return IntervalBuilder.hour(sdt.getYear(), sdt.getMonthValue(), sdt.getDayOfMonth(), sdt.getHour(), timezone);
             default:
                 throw new JsonParseException("invalid interval type: " + type);
         }
@@ -4,8 +4,11 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import ws.slink.intervals.Day;
+import ws.slink.intervals.Hour;
 import ws.slink.intervals.Interval;
 import ws.slink.intervals.Month;
+import ws.slink.intervals.Quarter;
+import ws.slink.intervals.Week;
 import ws.slink.intervals.Year;
 
 import java.io.IOException;
@@ -30,10 +33,11 @@ public class IntervalSerializer extends StdSerializer<Interval> {
     public void serialize(Interval value, JsonGenerator gen, SerializerProvider serializers)
         throws IOException {
         gen.writeStartObject();
-        gen.writeStringField(TIMEZONE_FIELD, value.timezone().getID());
+        gen.writeStringField(TIMEZONE_FIELD, value.timezoneId());
         gen.writeStringField(START_FIELD, FORMATTER.format(value.getStart()));
         gen.writeStringField(END_FIELD, FORMATTER.format(value.getEnd()));
-        if ((value instanceof Year) || (value instanceof Month) || (value instanceof Day)) {
+        if ((value instanceof Year) || (value instanceof Quarter) || (value instanceof Month)
+            || (value instanceof Week) || (value instanceof Day) || (value instanceof Hour)) {
             gen.writeStringField(TYPE_FIELD, value.getClass().getSimpleName().toLowerCase());
         }
         gen.writeEndObject();
@@ -9,13 +9,17 @@ import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 import ws.slink.intervals.Day;
+import ws.slink.intervals.Hour;
 import ws.slink.intervals.Interval;
 import ws.slink.intervals.IntervalBuilder;
 import ws.slink.intervals.Month;
+import ws.slink.intervals.Quarter;
+import ws.slink.intervals.Week;
 import ws.slink.intervals.Year;
 import ws.slink.intervals.jackson.IntervalDeserializer;
 import ws.slink.intervals.jackson.IntervalSerializer;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.TimeZone;
 
@@ -166,6 +170,51 @@ public class SerializationTest {
         assertFalse(parsed instanceof Year);
     }
 
+    @Test
+    public void t0107_can_deserialize_quarter() throws JsonProcessingException {
+        Quarter quarter = IntervalBuilder.quarter(2023, 4, "Asia/Vladivostok");
+        String json = mapper.writeValueAsString(quarter);
+        Interval parsed = mapper.readValue(json, Interval.class);
+        assertEquals(quarter.getStart(), parsed.getStart());
+        assertEquals(quarter.getEnd(), parsed.getEnd());
+        assertEquals(quarter.timezone(), parsed.timezone());
+        assertTrue(parsed instanceof Quarter);
+    }
+
+    @Test
+    public void t0108_can_deserialize_week() throws JsonProcessingException {
+        Week week = IntervalBuilder.week(2023, 1, "Asia/Vladivostok", 0, DayOfWeek.SUNDAY);
+        String json = mapper.writeValueAsString(week);
+        Interval parsed = mapper.readValue(json, Interval.class);
+        assertEquals(week.getStart(), parsed.getStart());
+        assertEquals(week.getEnd(), parsed.getEnd());
+        assertEquals(week.timezone(), parsed.timezone());
+        assertTrue(parsed instanceof Week);
+        assertEquals(DayOfWeek.SUNDAY, ((Week) parsed).firstDayOfWeek());
+    }
+
+    @Test
+    public void t0109_can_deserialize_hour() throws JsonProcessingException {
+        Hour hour = IntervalBuilder.hour(2023, 10, 15, 13, "Asia/Vladivostok");
+        String json = mapper.writeValueAsString(hour);
+        Interval parsed = mapper.readValue(json, Interval.class);
+        assertEquals(hour.getStart(), parsed.getStart());
+        assertEquals(hour.getEnd(), parsed.getEnd());
+        assertEquals(hour.timezone(), parsed.timezone());
+        assertTrue(parsed instanceof Hour);
+    }
+
+    @Test
+    public void t0110_can_deserialize_fiscal_quarter() throws JsonProcessingException {
+        Quarter quarter = IntervalBuilder.quarter(2024, 1, "Asia/Vladivostok", 0, 11);
+        String json = mapper.writeValueAsString(quarter);
+        Interval parsed = mapper.readValue(json, Interval.class);
+        assertEquals(quarter, parsed);
+        assertEquals(quarter.getStart(), parsed.getStart());
+        assertEquals(quarter.getEnd(), parsed.getEnd());
+        assertTrue(parsed instanceof Quarter);
+    }
+
     // endregion
     // region - 02: negative tests
 